@@ -30,6 +30,8 @@ dependencies {
   moduleLibrary(libs.guava)
   moduleLibrary(libs.unirest)
   moduleLibrary(libs.caffeine)
+  moduleLibrary(libs.jacksonCbor)
+  moduleLibrary(libs.jacksonMessagePack)
 
   implementation(projects.webJwtAuth)
   moduleLibrary(libs.jjwtApi)
@@ -41,11 +43,16 @@ dependencies {
   implementation(projects.webImplNetty)
   moduleLibrary(libs.nettyHandler)
   moduleLibrary(libs.nettyCodecHttp)
+  moduleLibrary(libs.nettyCodecHttp2)
   moduleLibrary(libs.nettyContribHaProxy)
 
   // transports
   moduleLibrary(libs.nettyNativeEpoll)
   moduleLibrary(libs.nettyNativeKqueue)
+  moduleLibrary(libs.nettyNativeIoUring)
+
+  // compression, the zstd-jni jar contains the natives for all supported platforms
+  moduleLibrary(libs.zstdJni)
 
   implementation(projects.webParameterValidator)
   moduleLibrary(libs.expressly)
@@ -57,6 +64,12 @@ dependencies {
 
   compileOnly("eu.cloudnetservice.cloudnet:node-impl:4.0.0-RC16-SNAPSHOT")
   compileOnly("eu.cloudnetservice.cloudnet:bridge-impl:4.0.0-RC16-SNAPSHOT")
+
+  // tests run against the node implementation, the codec benchmarks also compare the standalone codec modules
+  testImplementation(projects.webCodecGson)
+  testImplementation(projects.webCodecJackson)
+  testImplementation(libs.caffeine)
+  testImplementation("eu.cloudnetservice.cloudnet:node-impl:4.0.0-RC16-SNAPSHOT")
 }
 
 tasks.withType<Test> {
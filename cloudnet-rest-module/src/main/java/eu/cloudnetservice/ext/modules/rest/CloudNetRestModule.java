@@ -27,6 +27,7 @@
 import eu.cloudnetservice.driver.module.ModuleTask;
 import eu.cloudnetservice.driver.module.driver.DriverModule;
 import eu.cloudnetservice.driver.registry.Service;
+import eu.cloudnetservice.ext.modules.rest.auth.util.PasswordEncryptionUtil;
 import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.modules.rest.listener.CloudNetBridgeInitializer;
 import eu.cloudnetservice.ext.modules.rest.listener.RestUserUpdateListener;
@@ -47,6 +48,7 @@
 import eu.cloudnetservice.ext.rest.api.HttpServer;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagementLoader;
+import eu.cloudnetservice.ext.rest.api.dispatch.VirtualThreadPinningReporter;
 import eu.cloudnetservice.ext.rest.api.factory.HttpComponentFactoryLoader;
 import eu.cloudnetservice.ext.rest.validation.ValidationHandlerMethodContextDecorator;
 import eu.cloudnetservice.node.command.CommandProvider;
@@ -102,6 +104,11 @@ public void initHttpServer(@Named("module") @NonNull InjectionLayer<?> injection
     var componentFactory = HttpComponentFactoryLoader.getFirstComponentFactory(HttpServer.class);
     var server = componentFactory.construct(restConfig.toComponentConfig());
 
+    // report carrier pinning of request handlers when they are dispatched onto virtual threads
+    if (restConfig.virtualThreadRequestDispatch() && !VirtualThreadPinningReporter.startReporting()) {
+      LOGGER.warn("Unable to start reporting virtual thread pinning, the flight recorder is not available");
+    }
+
     // registers the validation-enabling context decorator
     var validationDecorator = ValidationHandlerMethodContextDecorator.withDefaultValidator();
     server.annotationParser().registerHandlerContextDecorator(validationDecorator);
@@ -179,8 +186,11 @@ public void unregisterModule(
     try {
       httpServer.close();
       layer.injector().close();
+      PasswordEncryptionUtil.shutdownHashingExecutor();
     } catch (Exception exception) {
       LOGGER.error("Unable to close http server while disabling cloudnet rest module.", exception);
+    } finally {
+      VirtualThreadPinningReporter.stopReporting();
     }
   }
 }
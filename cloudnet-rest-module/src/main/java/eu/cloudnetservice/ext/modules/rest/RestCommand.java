@@ -169,7 +169,10 @@ public void verifyPassword(
     @Argument("password") @NonNull String password
   ) {
     if (this.authProvider instanceof BasicAuthProvider basicAuthProvider) {
-      var valid = basicAuthProvider.validatePassword(restUser, password.getBytes(StandardCharsets.UTF_8));
+      var valid = basicAuthProvider.validatePassword(
+        this.restUserManagement,
+        restUser,
+        password.getBytes(StandardCharsets.UTF_8));
       if (valid) {
         source.sendMessage(this.i18n.translate("module-rest-user-password-match", restUser.username()));
       } else {
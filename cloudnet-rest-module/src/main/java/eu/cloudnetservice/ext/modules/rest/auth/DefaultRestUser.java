@@ -45,6 +45,8 @@ public final class DefaultRestUser implements RestUser {
 
   public static final String PASSWORD_KEY = "password";
   public static final String PASSWORD_SALT_KEY = "salt";
+  public static final String PASSWORD_ALGORITHM_KEY = "password_algorithm";
+  public static final String PASSWORD_ITERATIONS_KEY = "password_iterations";
 
   private final UUID id;
   private final String username;
@@ -78,6 +80,23 @@ private DefaultRestUser(
     this.properties = properties;
   }
 
+  /**
+   * Puts the given hashed password and the information needed to verify it into the given user properties.
+   *
+   * @param properties     the user properties to put the password information into.
+   * @param hashedPassword the hashed password to put into the properties.
+   * @throws NullPointerException if the given properties or hashed password is null.
+   */
+  public static void putPasswordProperties(
+    @NonNull Map<String, String> properties,
+    @NonNull PasswordEncryptionUtil.HashedPassword hashedPassword
+  ) {
+    properties.put(PASSWORD_KEY, hashedPassword.hashHex());
+    properties.put(PASSWORD_SALT_KEY, hashedPassword.saltHex());
+    properties.put(PASSWORD_ALGORITHM_KEY, hashedPassword.parameters().algorithm());
+    properties.put(PASSWORD_ITERATIONS_KEY, Integer.toString(hashedPassword.parameters().iterations()));
+  }
+
   public static @NonNull Builder builder() {
     return new Builder();
   }
@@ -193,9 +212,7 @@ Builder id(@NonNull UUID id) {
 
     public @NonNull Builder password(@NonNull String password) {
       this.validatePassword(password);
-      var hashedPasswordInfo = PasswordEncryptionUtil.encrypt(password);
-      this.properties.put(PASSWORD_KEY, hashedPasswordInfo._2());
-      this.properties.put(PASSWORD_SALT_KEY, hashedPasswordInfo._1());
+      putPasswordProperties(this.properties, PasswordEncryptionUtil.encrypt(password));
       return this;
     }
 
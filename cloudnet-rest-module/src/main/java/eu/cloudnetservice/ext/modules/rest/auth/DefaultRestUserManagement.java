@@ -22,8 +22,12 @@
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.ext.modules.rest.auth.util.VerifiedCredentialCache;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
+import eu.cloudnetservice.ext.rest.api.auth.AuthProviderLoader;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
+import eu.cloudnetservice.ext.rest.jwt.JwtAuthProvider;
 import eu.cloudnetservice.node.database.LocalDatabase;
 import eu.cloudnetservice.node.impl.database.NodeDatabaseProvider;
 import java.time.Duration;
@@ -45,6 +49,7 @@ public final class DefaultRestUserManagement implements RestUserManagement {
 
   private final LocalDatabase localDatabase;
   private final LoadingCache<UUID, RestUser> restUserCache;
+  private final VerifiedCredentialCache verifiedCredentialCache;
 
   public DefaultRestUserManagement() {
     this(InjectionLayer.ext().instance(NodeDatabaseProvider.class));
@@ -64,6 +69,8 @@ public DefaultRestUserManagement(@NonNull NodeDatabaseProvider databaseProvider)
         var userDocument = this.localDatabase.get(key.toString());
         return userDocument == null ? null : userDocument.toInstanceOf(DefaultRestUser.class);
       });
+    this.verifiedCredentialCache = new VerifiedCredentialCache(
+      RestConfiguration.get().authConfig().verifiedCredentialCacheLifetime());
   }
 
   /**
@@ -110,6 +117,15 @@ public DefaultRestUserManagement(@NonNull NodeDatabaseProvider databaseProvider)
       .toList();
   }
 
+  /**
+   * Gets the cache of successful password verifications, which is invalidated for a user when the user changes.
+   *
+   * @return the cache of successful password verifications.
+   */
+  public @NonNull VerifiedCredentialCache verifiedCredentialCache() {
+    return this.verifiedCredentialCache;
+  }
+
   /**
    * Invalides the given unique id in the cache.
    *
@@ -118,6 +134,7 @@ public DefaultRestUserManagement(@NonNull NodeDatabaseProvider databaseProvider)
    */
   public void invalidate(@NonNull UUID uniqueId) {
     this.restUserCache.invalidate(uniqueId);
+    this.invalidateAuthCaches(uniqueId);
     LOGGER.debug("Invalidated rest user with id {} in caches.", uniqueId);
   }
 
@@ -128,6 +145,7 @@ public void invalidate(@NonNull UUID uniqueId) {
   public void saveRestUser(@NonNull RestUser user) {
     this.restUserCache.put(user.id(), user);
     this.localDatabase.insert(user.id().toString(), DocumentFactory.json().newDocument(user));
+    this.invalidateAuthCaches(user.id());
 
     // inform the other nodes that the user was updated
     this.sendRestUserInvalidationMessage(user.id());
@@ -140,6 +158,7 @@ public void saveRestUser(@NonNull RestUser user) {
   public boolean deleteRestUser(@NonNull UUID id) {
     this.restUserCache.invalidate(id);
     var result = this.localDatabase.delete(id.toString());
+    this.invalidateAuthCaches(id);
 
     // invalidate the user on other nodes to make sure the caches are in sync
     this.sendRestUserInvalidationMessage(id);
@@ -164,6 +183,23 @@ public boolean deleteRestUser(@NonNull UUID id) {
       .properties(restUser.properties());
   }
 
+  private void invalidateAuthCaches(@NonNull UUID uniqueId) {
+    this.verifiedCredentialCache.invalidate(uniqueId);
+    var jwtAuthProvider = this.jwtAuthProvider();
+    if (jwtAuthProvider != null) {
+      jwtAuthProvider.invalidateTokenIds(uniqueId);
+    }
+  }
+
+  private @Nullable JwtAuthProvider jwtAuthProvider() {
+    try {
+      return AuthProviderLoader.resolveAuthProvider("jwt") instanceof JwtAuthProvider provider ? provider : null;
+    } catch (IllegalArgumentException exception) {
+      // the jwt provider is not loaded if it failed to construct, there are no indexed token ids in that case
+      return null;
+    }
+  }
+
   private void sendRestUserInvalidationMessage(@NonNull UUID uniqueId) {
     ChannelMessage.builder()
       .targetNodes()
@@ -16,23 +16,102 @@
 
 package eu.cloudnetservice.ext.modules.rest.auth.provider;
 
+import com.google.common.net.HttpHeaders;
 import eu.cloudnetservice.ext.modules.rest.auth.DefaultRestUser;
+import eu.cloudnetservice.ext.modules.rest.auth.DefaultRestUserManagement;
+import eu.cloudnetservice.ext.modules.rest.auth.util.FailedLoginThrottle;
 import eu.cloudnetservice.ext.modules.rest.auth.util.PasswordEncryptionUtil;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandleException;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.auth.AuthProvider;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
+import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
 import eu.cloudnetservice.ext.rest.api.auth.basic.BasicAuthProvider;
+import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
+import eu.cloudnetservice.ext.rest.api.problem.ProblemHttpHandleException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
 import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class CloudNetBasicAuthProvider extends BasicAuthProvider {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(CloudNetBasicAuthProvider.class);
+
+  private static final ProblemDetail PASSWORD_VERIFICATION_UNAVAILABLE = ProblemDetail.builder()
+    .title("Password Verification Unavailable")
+    .type(URI.create("password-verification-unavailable"))
+    .status(HttpResponseCode.SERVICE_UNAVAILABLE)
+    .detail("Too many password verifications are in progress, try again later.")
+    .build();
+
+  private static final ProblemDetail AUTH_THROTTLED = ProblemDetail.builder()
+    .title("Auth Throttled")
+    .type(URI.create("auth-throttled"))
+    .status(HttpResponseCode.TOO_MANY_REQUESTS)
+    .detail("Too many failed authentication attempts, try again later.")
+    .build();
+
+  private final FailedLoginThrottle failedLoginThrottle;
+
+  public CloudNetBasicAuthProvider() {
+    this.failedLoginThrottle = new FailedLoginThrottle(RestConfiguration.get().authConfig().basicAuthFailureThreshold());
+  }
+
   @Override
   public int priority() {
     return AuthProvider.DEFAULT_PRIORITY + 10;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected boolean authenticatePassword(
+    @NonNull HttpContext context,
+    @NonNull RestUserManagement management,
+    @NonNull RestUser user,
+    byte[] passwordBytes
+  ) {
+    // reject clients that failed too often before doing any hashing, which would be an easy way to exhaust the cpu
+    // an allowed attempt counts as failed until it succeeded, which prevents concurrent attempts from bypassing the check
+    var clientAddress = context.connectionInfo().clientAddress().host();
+    var remainingBackoff = this.failedLoginThrottle.tryAttempt(clientAddress, user.username());
+    if (!remainingBackoff.isZero()) {
+      var retryAfterSeconds = Math.max(1, remainingBackoff.toSeconds());
+      throw new HttpHandleException(AUTH_THROTTLED.intoResponseBuilder()
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+        .build());
+    }
+
+    boolean valid;
+    try {
+      valid = this.validatePassword(management, user, passwordBytes);
+    } catch (RuntimeException exception) {
+      // the password could not be verified (for example due to a saturated hashing executor), which is not a failure
+      this.failedLoginThrottle.revertAttempt(clientAddress, user.username());
+      throw exception;
+    }
+
+    if (valid) {
+      this.failedLoginThrottle.recordSuccess(clientAddress, user.username());
+    }
+
+    return valid;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws ProblemHttpHandleException if the password hashing executor is saturated.
+   */
   @Override
-  public boolean validatePassword(@NonNull RestUser user, byte[] passwordBytes) {
+  public boolean validatePassword(@NonNull RestUserManagement management, @NonNull RestUser user, byte[] passwordBytes) {
     // get the password and salt info from the given rest user
     var storedPassword = user.properties().get(DefaultRestUser.PASSWORD_KEY);
     var storedSalt = user.properties().get(DefaultRestUser.PASSWORD_SALT_KEY);
@@ -40,13 +119,54 @@ public boolean validatePassword(@NonNull RestUser user, byte[] passwordBytes) {
       return false;
     }
 
-    // hash the given password and check if it matches the expected one
-    // converting the given password bytes into a string will put it into memory until the GC clears it, unfortunately
-    // there doesn't seem to be a method to pass the byte array to the encryption process directly
-    var password = new String(passwordBytes, StandardCharsets.UTF_8);
-    var hashedPassword = PasswordEncryptionUtil.encrypt(storedSalt, password);
+    // hashing is expensive, skip it if the same credentials were verified recently
+    BooleanSupplier verifier = () -> {
+      // hash the given password and check if it matches the expected one
+      // converting the given password bytes into a string will put it into memory until the GC clears it, unfortunately
+      // there doesn't seem to be a method to pass the byte array to the encryption process directly
+      var password = new String(passwordBytes, StandardCharsets.UTF_8);
+      var parameters = PasswordEncryptionUtil.parametersOf(user.properties());
+      try {
+        var hashedPassword = PasswordEncryptionUtil.encrypt(storedSalt, password, parameters);
+
+        // check if the stored password is equal to the hashed password from the given input
+        if (!storedPassword.equals(hashedPassword)) {
+          return false;
+        }
+
+        // the password is known now, rehash it if the configured hash parameters changed since it was hashed
+        if (!parameters.equals(PasswordEncryptionUtil.currentParameters())) {
+          this.rehashPassword(management, user, password);
+        }
 
-    // check if the stored password is equal to the hashed password from the given input
-    return storedPassword.equals(hashedPassword);
+        return true;
+      } catch (RejectedExecutionException exception) {
+        throw new ProblemHttpHandleException(PASSWORD_VERIFICATION_UNAVAILABLE);
+      }
+    };
+    return management instanceof DefaultRestUserManagement userManagement
+      ? userManagement.verifiedCredentialCache().verify(user, storedPassword, passwordBytes, verifier)
+      : verifier.getAsBoolean();
+  }
+
+  private void rehashPassword(@NonNull RestUserManagement management, @NonNull RestUser user, @NonNull String password) {
+    try {
+      var hashedPassword = PasswordEncryptionUtil.encryptOnHashingExecutor(password);
+
+      // the password might have been changed while rehashing, only replace the password that was verified
+      var currentUser = management.restUser(user.id());
+      var verifiedPassword = user.properties().get(DefaultRestUser.PASSWORD_KEY);
+      if (currentUser == null || !verifiedPassword.equals(currentUser.properties().get(DefaultRestUser.PASSWORD_KEY))) {
+        return;
+      }
+
+      var rehashedUser = management.builder(currentUser)
+        .modifyProperties(properties -> DefaultRestUser.putPasswordProperties(properties, hashedPassword))
+        .build();
+      management.saveRestUser(rehashedUser);
+    } catch (RejectedExecutionException exception) {
+      // the login itself succeeded, the password is rehashed on one of the next logins instead
+      LOGGER.debug("Unable to rehash password of rest user {}, hashing executor is saturated", user.id());
+    }
   }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.auth.util;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+
+/**
+ * Tracks failed login attempts per pair of client address and username, to reject further attempts before the
+ * expensive password hashing is done. Keying by the pair prevents a client from locking a user out for all other
+ * clients. Additionally, a client that fails for many different users is blocked completely.
+ * <p>
+ * The failures are counted in a fixed amount of stripes, making both memory usage and the cost of each check
+ * constant. The failure count of each stripe is halved for each elapsed half-life since the last failure. Once the
+ * failures of a pair reach the threshold further attempts are delayed exponentially.
+ */
+public final class FailedLoginThrottle {
+
+  private static final int STRIPE_COUNT = 4096;
+  private static final int CLIENT_FAILURE_THRESHOLD_FACTOR = 10;
+  private static final long DECAY_HALF_LIFE_NANOS = Duration.ofMinutes(5).toNanos();
+  private static final long BASE_BACKOFF_NANOS = Duration.ofSeconds(1).toNanos();
+  private static final long MAX_BACKOFF_NANOS = Duration.ofMinutes(15).toNanos();
+
+  private final int failureThreshold;
+  private final int clientFailureThreshold;
+  private final LongSupplier nanoTimeSupplier;
+  private final Stripe[] stripes;
+  private final HashFunction stripeHashFunction;
+
+  /**
+   * Constructs a new failed login throttle.
+   *
+   * @param failureThreshold the amount of failed attempts of a client as a user after which further attempts are
+   *                         delayed. A client is blocked for all users after ten times as many failed attempts.
+   */
+  public FailedLoginThrottle(int failureThreshold) {
+    this(failureThreshold, System::nanoTime, randomlyKeyedHashFunction());
+  }
+
+  FailedLoginThrottle(
+    int failureThreshold,
+    @NonNull LongSupplier nanoTimeSupplier,
+    @NonNull HashFunction stripeHashFunction
+  ) {
+    this.failureThreshold = failureThreshold;
+    this.clientFailureThreshold = failureThreshold * CLIENT_FAILURE_THRESHOLD_FACTOR;
+    this.nanoTimeSupplier = nanoTimeSupplier;
+    this.stripeHashFunction = stripeHashFunction;
+    this.stripes = new Stripe[STRIPE_COUNT];
+    for (var index = 0; index < STRIPE_COUNT; index++) {
+      this.stripes[index] = new Stripe();
+    }
+  }
+
+  private static @NonNull HashFunction randomlyKeyedHashFunction() {
+    // the hash function is keyed with a random key to prevent targeted collisions into a stripe of a different client
+    var random = new SecureRandom();
+    return Hashing.sipHash24(random.nextLong(), random.nextLong());
+  }
+
+  /**
+   * Tries to start a login attempt of the given client as the given user. If the attempt is allowed, it is counted as
+   * a failed attempt right away, checking and counting is atomic. This prevents concurrent attempts from all passing
+   * the check before one of them is counted. A successful attempt must be reported using
+   * {@link #recordSuccess(String, String)} afterwards.
+   *
+   * @param clientAddress the address of the client attempting to log in.
+   * @param username      the name of the user the client attempts to log in as.
+   * @return the time to wait before the next attempt, zero if the attempt is allowed.
+   * @throws NullPointerException if the given client address or username is null.
+   */
+  public @NonNull Duration tryAttempt(@NonNull String clientAddress, @NonNull String username) {
+    var now = this.nanoTimeSupplier.getAsLong();
+    var clientStripeIndex = this.clientStripeIndex(clientAddress);
+    var pairStripeIndex = this.pairStripeIndex(clientAddress, username);
+    var clientStripe = this.stripes[clientStripeIndex];
+    var pairStripe = this.stripes[pairStripeIndex];
+
+    // always lock the stripes in index order to prevent deadlocks, both stripes might also be the same
+    synchronized (this.stripes[Math.min(clientStripeIndex, pairStripeIndex)]) {
+      synchronized (this.stripes[Math.max(clientStripeIndex, pairStripeIndex)]) {
+        var remainingBackoff = Math.max(
+          clientStripe.remainingBlock(now, this.clientFailureThreshold),
+          pairStripe.remainingBackoff(now, this.failureThreshold));
+        if (remainingBackoff > 0) {
+          return Duration.ofNanos(remainingBackoff);
+        }
+
+        clientStripe.recordFailure(now);
+        pairStripe.recordFailure(now);
+        return Duration.ZERO;
+      }
+    }
+  }
+
+  /**
+   * Records that the login attempt of the given client as the given user was successful. This resets the failures of
+   * the pair, the client only gets the failure that was counted for the attempt removed. Otherwise, a client could
+   * reset its failures for all users by logging into a single account.
+   *
+   * @param clientAddress the address of the client that logged in.
+   * @param username      the name of the user the client logged in as.
+   * @throws NullPointerException if the given client address or username is null.
+   */
+  public void recordSuccess(@NonNull String clientAddress, @NonNull String username) {
+    this.stripes[this.pairStripeIndex(clientAddress, username)].reset();
+    this.stripes[this.clientStripeIndex(clientAddress)].revertFailure();
+  }
+
+  /**
+   * Reverts the failure that was counted for a login attempt of the given client as the given user, for example
+   * because the password could not be verified at all. Both the failure of the pair and of the client are removed.
+   *
+   * @param clientAddress the address of the client whose attempt should be reverted.
+   * @param username      the name of the user the client attempted to log in as.
+   * @throws NullPointerException if the given client address or username is null.
+   */
+  public void revertAttempt(@NonNull String clientAddress, @NonNull String username) {
+    this.stripes[this.pairStripeIndex(clientAddress, username)].revertFailure();
+    this.stripes[this.clientStripeIndex(clientAddress)].revertFailure();
+  }
+
+  private int clientStripeIndex(@NonNull String clientAddress) {
+    return this.stripeIndex("client:" + clientAddress);
+  }
+
+  private int pairStripeIndex(@NonNull String clientAddress, @NonNull String username) {
+    // the null char cannot be part of an address, the key is therefore unique for each pair
+    return this.stripeIndex("pair:" + clientAddress + '\0' + username);
+  }
+
+  private int stripeIndex(@NonNull String key) {
+    var hash = this.stripeHashFunction.hashString(key, StandardCharsets.UTF_8).asInt();
+    return hash & (STRIPE_COUNT - 1);
+  }
+
+  private static final class Stripe {
+
+    private long failures;
+    private long lastFailureNanos;
+
+    private synchronized long remainingBackoff(long now, int failureThreshold) {
+      var exceededFailures = this.decayedFailures(now) - failureThreshold;
+      if (exceededFailures < 0) {
+        return 0;
+      }
+
+      // double the backoff for each failure exceeding the threshold, limited to the maximum backoff
+      var backoff = exceededFailures >= 30
+        ? MAX_BACKOFF_NANOS
+        : Math.min(MAX_BACKOFF_NANOS, BASE_BACKOFF_NANOS << exceededFailures);
+      return Math.max(0, backoff - (now - this.lastFailureNanos));
+    }
+
+    private synchronized long remainingBlock(long now, int failureThreshold) {
+      if (this.decayedFailures(now) < failureThreshold) {
+        return 0;
+      }
+
+      return Math.max(0, MAX_BACKOFF_NANOS - (now - this.lastFailureNanos));
+    }
+
+    private synchronized void recordFailure(long now) {
+      this.failures = this.decayedFailures(now) + 1;
+      this.lastFailureNanos = now;
+    }
+
+    private synchronized void revertFailure() {
+      this.failures = Math.max(0, this.failures - 1);
+    }
+
+    private synchronized void reset() {
+      this.failures = 0;
+    }
+
+    private long decayedFailures(long now) {
+      // halve the failure count for each full half-life elapsed since the last failure
+      var elapsedHalfLives = (now - this.lastFailureNanos) / DECAY_HALF_LIFE_NANOS;
+      return elapsedHalfLives >= Long.SIZE ? 0 : this.failures >> elapsedHalfLives;
+    }
+  }
+}
@@ -16,19 +16,32 @@
 
 package eu.cloudnetservice.ext.modules.rest.auth.util;
 
-import io.vavr.Tuple2;
+import com.google.common.primitives.Ints;
+import eu.cloudnetservice.ext.modules.rest.auth.DefaultRestUser;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
 import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import lombok.NonNull;
 
 public final class PasswordEncryptionUtil {
 
+  public static final String DEFAULT_ALGORITHM = "PBKDF2WithHmacSHA512";
+  public static final int DEFAULT_ITERATION_COUNT = 500_000;
+
   private static final int KEY_LENGTH = 512;
-  private static final int ITERATION_COUNT = 500_000;
 
   private static final SecureRandom SALT_GENERATION_RANDOM = new SecureRandom();
 
@@ -36,27 +49,143 @@ private PasswordEncryptionUtil() {
     throw new UnsupportedOperationException();
   }
 
-  public static @NonNull Tuple2<String, String> encrypt(@NonNull String password) {
+  /**
+   * Hashes the given password using a new random salt and the currently configured hash parameters. The password is
+   * hashed on the calling thread, this method is meant for administrative changes of a password which should not fail
+   * because the hashing executor is saturated by logins.
+   *
+   * @param password the password to hash.
+   * @return the hashed password, including the salt and parameters used for hashing.
+   * @throws NullPointerException if the given password is null.
+   */
+  public static @NonNull HashedPassword encrypt(@NonNull String password) {
     // generate a new salt and encrypt the password with it
     var salt = newRandomSalt();
-    var passwordHex = encrypt(salt, password);
+    var parameters = currentParameters();
+    var passwordHex = hash(salt, password, parameters);
 
     // convert the generated salt to hex and return the salt and password info
     var saltHex = HexFormat.of().formatHex(salt);
-    return new Tuple2<>(saltHex, passwordHex);
+    return new HashedPassword(saltHex, passwordHex, parameters);
+  }
+
+  /**
+   * Hashes the given password using a new random salt and the currently configured hash parameters on the bounded
+   * hashing executor. This method is meant for hashing that is triggered by requests, like rehashing on login.
+   *
+   * @param password the password to hash.
+   * @return the hashed password, including the salt and parameters used for hashing.
+   * @throws NullPointerException       if the given password is null.
+   * @throws RejectedExecutionException if the hashing executor is saturated.
+   */
+  public static @NonNull HashedPassword encryptOnHashingExecutor(@NonNull String password) {
+    return runOnExecutor(HashingExecutorHolder.HASHING_EXECUTOR, () -> encrypt(password));
   }
 
-  public static @NonNull String encrypt(@NonNull String saltHex, @NonNull String password) {
+  /**
+   * Hashes the given password using the salt decoded from the given hex string and the given hash parameters on the
+   * bounded hashing executor, to verify a password supplied by a client.
+   *
+   * @param saltHex    the hex encoded salt to use for hashing.
+   * @param password   the password to hash.
+   * @param parameters the parameters to use for hashing.
+   * @return the hex encoded hash of the given password.
+   * @throws NullPointerException       if the given salt, password or parameters are null.
+   * @throws RejectedExecutionException if the hashing executor is saturated.
+   */
+  public static @NonNull String encrypt(
+    @NonNull String saltHex,
+    @NonNull String password,
+    @NonNull HashParameters parameters
+  ) {
     // encrypt the given password as hex using the salt decoded from the given salt hex
+    // hashing is cpu intensive, run it on the bounded hashing executor to not occupy all request dispatch threads
     var salt = HexFormat.of().parseHex(saltHex);
-    return encrypt(salt, password);
+    return runOnExecutor(HashingExecutorHolder.HASHING_EXECUTOR, () -> hash(salt, password, parameters));
+  }
+
+  /**
+   * Gets the hash parameters that are currently configured and used for hashing new passwords.
+   *
+   * @return the currently configured hash parameters.
+   */
+  public static @NonNull HashParameters currentParameters() {
+    var authConfig = RestConfiguration.get().authConfig();
+    return new HashParameters(authConfig.passwordHashAlgorithm(), authConfig.passwordHashIterations());
+  }
+
+  /**
+   * Gets the hash parameters that were used to hash the password stored in the given user properties. Passwords that
+   * were hashed before the parameters were stored were hashed using the default parameters.
+   *
+   * @param properties the properties of the user to get the hash parameters of.
+   * @return the hash parameters that were used to hash the password of the user.
+   * @throws NullPointerException if the given properties are null.
+   */
+  public static @NonNull HashParameters parametersOf(@NonNull Map<String, String> properties) {
+    var algorithm = properties.getOrDefault(DefaultRestUser.PASSWORD_ALGORITHM_KEY, DEFAULT_ALGORITHM);
+    var iterations = properties.get(DefaultRestUser.PASSWORD_ITERATIONS_KEY);
+    var parsedIterations = iterations == null ? null : Ints.tryParse(iterations);
+    return new HashParameters(algorithm, Objects.requireNonNullElse(parsedIterations, DEFAULT_ITERATION_COUNT));
   }
 
-  private static @NonNull String encrypt(byte[] salt, @NonNull String password) {
+  /**
+   * Shuts down the executor used for password hashing, no further passwords can be hashed after calling this method.
+   */
+  public static void shutdownHashingExecutor() {
+    HashingExecutorHolder.HASHING_EXECUTOR.shutdownNow();
+  }
+
+  /**
+   * Creates a bounded executor for password hashing which rejects tasks once all threads are busy and the queue is full.
+   *
+   * @param threads    the maximum number of threads hashing concurrently.
+   * @param queueLimit the maximum number of tasks waiting for a free thread.
+   * @return a new bounded executor for password hashing.
+   */
+  static @NonNull ExecutorService createHashingExecutor(int threads, int queueLimit) {
+    var executor = new ThreadPoolExecutor(
+      threads,
+      threads,
+      30L,
+      TimeUnit.SECONDS,
+      new ArrayBlockingQueue<>(queueLimit),
+      Thread.ofPlatform().name("rest-password-hashing-", 0).daemon().factory(),
+      new ThreadPoolExecutor.AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Runs the given task on the given executor and waits for its result.
+   *
+   * @param executor the executor to run the task on.
+   * @param task     the task to run.
+   * @param <T>      the type of the task result.
+   * @return the result of the given task.
+   * @throws NullPointerException       if the given executor or task is null.
+   * @throws RejectedExecutionException if the given executor rejected the task.
+   */
+  static <T> @NonNull T runOnExecutor(@NonNull ExecutorService executor, @NonNull Callable<T> task) {
     try {
-      // hashes the password using the PBKDF2 with SHA256 as PRF
-      var keySpec = new PBEKeySpec(password.toCharArray(), salt, ITERATION_COUNT, KEY_LENGTH);
-      var factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512");
+      return executor.submit(task).get();
+    } catch (ExecutionException exception) {
+      if (exception.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      throw new IllegalStateException("Unable to hash password", exception.getCause());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", exception);
+    }
+  }
+
+  private static @NonNull String hash(byte[] salt, @NonNull String password, @NonNull HashParameters parameters) {
+    try {
+      // hashes the password using PBKDF2 with the configured hmac as PRF
+      var keySpec = new PBEKeySpec(password.toCharArray(), salt, parameters.iterations(), KEY_LENGTH);
+      var factory = SecretKeyFactory.getInstance(parameters.algorithm());
       var hash = factory.generateSecret(keySpec).getEncoded();
 
       // return the generated password as hex
@@ -64,7 +193,7 @@ private PasswordEncryptionUtil() {
     } catch (InvalidKeySpecException e) {
       throw new IllegalStateException("Unable to generate secret from key spec");
     } catch (NoSuchAlgorithmException e) {
-      throw new IllegalStateException("Unable to retrieve PBKDF2WithHmacSHA256 key factory");
+      throw new IllegalStateException("Unable to retrieve " + parameters.algorithm() + " key factory");
     }
   }
 
@@ -74,4 +203,38 @@ private static byte[] newRandomSalt() {
     SALT_GENERATION_RANDOM.nextBytes(bytes);
     return bytes;
   }
+
+  /**
+   * The parameters used to hash a password.
+   *
+   * @param algorithm  the name of the PBKDF2 secret key factory algorithm.
+   * @param iterations the iteration count used for hashing.
+   */
+  public record HashParameters(@NonNull String algorithm, int iterations) {
+
+  }
+
+  /**
+   * A hashed password including the information needed to verify a password against it.
+   *
+   * @param saltHex    the hex encoded salt used for hashing.
+   * @param hashHex    the hex encoded hash of the password.
+   * @param parameters the parameters used for hashing.
+   */
+  public record HashedPassword(@NonNull String saltHex, @NonNull String hashHex, @NonNull HashParameters parameters) {
+
+  }
+
+  private static final class HashingExecutorHolder {
+
+    // lazily initialized, the rest configuration is not available when the class is loaded
+    private static final ExecutorService HASHING_EXECUTOR = createHashingExecutor();
+
+    private static @NonNull ExecutorService createHashingExecutor() {
+      var authConfig = RestConfiguration.get().authConfig();
+      return PasswordEncryptionUtil.createHashingExecutor(
+        authConfig.passwordHashThreadLimit(),
+        authConfig.passwordHashQueueLimit());
+    }
+  }
 }
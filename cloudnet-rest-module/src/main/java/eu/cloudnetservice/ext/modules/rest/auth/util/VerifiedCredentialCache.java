@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.auth.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import eu.cloudnetservice.ext.rest.api.auth.RestUser;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import javax.crypto.Mac;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A short-lived cache of successful password verifications, used to skip the expensive password hashing for clients
+ * that authenticate with the same credentials repeatedly. The cache is owned by the user management, which invalidates
+ * the verifications of a user when the user changes.
+ */
+public final class VerifiedCredentialCache {
+
+  private static final int MAXIMUM_CACHED_CREDENTIALS = 1024;
+
+  // the secret is only kept in memory, cached verifications are lost on restart anyway
+  private final Key credentialKeySecret = KeySecurityUtil.generateHmacSHA256Key();
+  private final @Nullable Cache<String, UUID> verifiedCredentials;
+
+  /**
+   * Creates a new verified credential cache which keeps successful verifications for the given lifetime.
+   *
+   * @param lifetime the lifetime of successful verifications, zero to disable the cache.
+   * @throws NullPointerException if the given lifetime is null.
+   */
+  public VerifiedCredentialCache(@NonNull Duration lifetime) {
+    this(lifetime, Ticker.systemTicker());
+  }
+
+  VerifiedCredentialCache(@NonNull Duration lifetime, @NonNull Ticker ticker) {
+    this.verifiedCredentials = lifetime.isZero() ? null : Caffeine.newBuilder()
+      .ticker(ticker)
+      .scheduler(Scheduler.systemScheduler())
+      .expireAfterWrite(lifetime)
+      .maximumSize(MAXIMUM_CACHED_CREDENTIALS)
+      .build();
+  }
+
+  /**
+   * Checks if the given password was verified successfully for the given user recently, running the given verifier
+   * if that is not the case. Successful verifications are cached for the configured lifetime, keyed by a keyed hash of
+   * the user, the stored password hash and the given password. Neither the password nor a hash of it that could be
+   * brute-forced without the per-cache secret is kept in memory.
+   *
+   * @param user           the user to verify the password of.
+   * @param storedPassword the hash of the password that is stored for the user.
+   * @param password       the password supplied by the client.
+   * @param verifier       the verifier to run if the password was not verified recently.
+   * @return true if the given password is valid for the given user, false otherwise.
+   * @throws NullPointerException if the given user, stored password or verifier is null.
+   */
+  public boolean verify(
+    @NonNull RestUser user,
+    @NonNull String storedPassword,
+    byte[] password,
+    @NonNull BooleanSupplier verifier
+  ) {
+    if (this.verifiedCredentials == null) {
+      return verifier.getAsBoolean();
+    }
+
+    // the stored password is part of the key, changing the password of the user invalidates the entry implicitly
+    var credentialKey = this.credentialKey(user, storedPassword, password);
+    if (user.id().equals(this.verifiedCredentials.getIfPresent(credentialKey))) {
+      return true;
+    }
+
+    var valid = verifier.getAsBoolean();
+    if (valid) {
+      this.verifiedCredentials.put(credentialKey, user.id());
+    }
+
+    return valid;
+  }
+
+  /**
+   * Invalidates all cached verifications of the user with the given id.
+   *
+   * @param userId the id of the user to invalidate the verifications of.
+   * @throws NullPointerException if the given user id is null.
+   */
+  public void invalidate(@NonNull UUID userId) {
+    if (this.verifiedCredentials != null) {
+      this.verifiedCredentials.asMap().values().removeIf(userId::equals);
+    }
+  }
+
+  private @NonNull String credentialKey(@NonNull RestUser user, @NonNull String storedPassword, byte[] password) {
+    try {
+      var mac = Mac.getInstance(this.credentialKeySecret.getAlgorithm());
+      mac.init(this.credentialKeySecret);
+
+      // each value is prefixed with its length to prevent collisions between different value combinations
+      var userId = user.id();
+      mac.update(ByteBuffer.allocate(Long.BYTES * 2)
+        .putLong(userId.getMostSignificantBits())
+        .putLong(userId.getLeastSignificantBits())
+        .flip());
+      updateWithLength(mac, user.username().getBytes(StandardCharsets.UTF_8));
+      updateWithLength(mac, storedPassword.getBytes(StandardCharsets.UTF_8));
+      updateWithLength(mac, password);
+
+      return HexFormat.of().formatHex(mac.doFinal());
+    } catch (NoSuchAlgorithmException | InvalidKeyException exception) {
+      throw new IllegalStateException("Unable to initialize HmacSHA256 credential key", exception);
+    }
+  }
+
+  private static void updateWithLength(@NonNull Mac mac, byte[] value) {
+    mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(value.length).flip());
+    mac.update(value);
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.DocumentParseException;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import eu.cloudnetservice.ext.rest.api.codec.DataformatCodec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Base64;
+import lombok.NonNull;
+
+/**
+ * A codec between the element tree of the cloudnet document api and a binary format. This keeps the structure of the
+ * serialized objects identical to the json codec, as all type adapters of the document api are still used for
+ * serialization. Serialization writes the element tree directly into the binary generator, deserialization transcodes
+ * the binary format into json first.
+ *
+ * @see CloudNetDocumentJsonCodec
+ */
+abstract sealed class CloudNetDocumentBinaryCodec implements DataformatCodec
+  permits CloudNetDocumentCborCodec, CloudNetDocumentMessagePackCodec {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory()
+    .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+  private final JsonFactory binaryFactory;
+
+  protected CloudNetDocumentBinaryCodec(@NonNull JsonFactory binaryFactory) {
+    this.binaryFactory = binaryFactory.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+  }
+
+  /**
+   * Copies the current structure of the given parser into the given generator.
+   *
+   * @param parser    the parser to copy the structure from.
+   * @param generator the generator to copy the structure to.
+   * @throws NullPointerException if the given parser or generator is null.
+   * @throws IOException          if an I/O error occurs while reading or writing the structure.
+   */
+  private static void transcode(@NonNull JsonParser parser, @NonNull JsonGenerator generator) throws IOException {
+    parser.nextToken();
+    generator.copyCurrentStructure(parser);
+  }
+
+  /**
+   * Writes the given element of a document and all of its children into the given generator.
+   *
+   * @param element   the element to write.
+   * @param generator the generator to write the element to.
+   * @throws NullPointerException     if the given element or generator is null.
+   * @throws IllegalArgumentException if the given element or one of its children is of an unknown type.
+   * @throws IOException              if an I/O error occurs while writing the element.
+   */
+  private static void writeElement(@NonNull Element element, @NonNull JsonGenerator generator) throws IOException {
+    switch (element) {
+      case NullElement $ -> generator.writeNull();
+      case PrimitiveElement primitive -> writePrimitive(primitive.innerValue(), generator);
+      case ArrayElement array -> {
+        generator.writeStartArray();
+        for (var child : array.elements()) {
+          writeElement(child, generator);
+        }
+        generator.writeEndArray();
+      }
+      case ObjectElement object -> {
+        generator.writeStartObject();
+        for (var child : object.elements()) {
+          generator.writeFieldName(child.key());
+          writeElement(child, generator);
+        }
+        generator.writeEndObject();
+      }
+      default -> throw new IllegalArgumentException("Unsupported document element: " + element.getClass().getName());
+    }
+  }
+
+  /**
+   * Writes the given primitive value of a document into the given generator.
+   *
+   * @param value     the primitive value to write.
+   * @param generator the generator to write the value to.
+   * @throws NullPointerException     if the given value or generator is null.
+   * @throws IllegalArgumentException if the given value is not a primitive value.
+   * @throws IOException              if an I/O error occurs while writing the value.
+   */
+  private static void writePrimitive(@NonNull Object value, @NonNull JsonGenerator generator) throws IOException {
+    switch (value) {
+      case String string -> generator.writeString(string);
+      case Character character -> generator.writeString(character.toString());
+      case Boolean bool -> generator.writeBoolean(bool);
+      case Integer integer -> generator.writeNumber(integer);
+      case Long longValue -> generator.writeNumber(longValue);
+      case Short shortValue -> generator.writeNumber(shortValue);
+      case Byte byteValue -> generator.writeNumber(byteValue);
+      case Float floatValue -> generator.writeNumber(floatValue);
+      case Double doubleValue -> generator.writeNumber(doubleValue);
+      case BigInteger bigInteger -> generator.writeNumber(bigInteger);
+      case BigDecimal bigDecimal -> generator.writeNumber(bigDecimal);
+      case Number number -> generator.writeNumber(number.toString());
+      default -> throw new IllegalArgumentException("Unsupported primitive value: " + value.getClass().getName());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull String serialize(@NonNull Type type, @NonNull Object object) {
+    // binary formats have no string representation, the binary representation is encoded using base64 instead
+    var target = new ByteArrayOutputStream();
+    this.serialize(type, object, target);
+    return Base64.getEncoder().encodeToString(target.toByteArray());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(@NonNull Type type, @NonNull Object object, @NonNull OutputStream target) {
+    // the element tree of the document is written directly, no intermediate json representation is created
+    var rootElement = Document.newJsonDocument().appendTree(object).send().rootElement();
+    try (var generator = this.binaryFactory.createGenerator(target)) {
+      writeElement(rootElement, generator);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Object deserialize(@NonNull Charset charset, @NonNull Type objectType, @NonNull InputStream content) {
+    // binary formats have no charset, the content is read directly
+    var json = new StringWriter();
+    try (var parser = this.binaryFactory.createParser(content); var generator = JSON_FACTORY.createGenerator(json)) {
+      transcode(parser, generator);
+    } catch (IOException exception) {
+      throw new DocumentParseException(exception);
+    }
+
+    return DocumentFactory.json().parse(new StringReader(json.toString())).toInstanceOf(objectType);
+  }
+}
@@ -24,6 +24,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import lombok.NonNull;
@@ -38,6 +39,14 @@ public final class CloudNetDocumentJsonCodec implements JsonCodec {
     return Document.newJsonDocument().appendTree(object).serializeToString(StandardSerialisationStyle.COMPACT);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(@NonNull Type type, @NonNull Object object, @NonNull OutputStream target) {
+    Document.newJsonDocument().appendTree(object).writeTo(target, StandardSerialisationStyle.COMPACT);
+  }
+
   /**
    * {@inheritDoc}
    */
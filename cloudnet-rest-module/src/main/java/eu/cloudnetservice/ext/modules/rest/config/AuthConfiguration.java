@@ -16,19 +16,40 @@
 
 package eu.cloudnetservice.ext.modules.rest.config;
 
+import eu.cloudnetservice.ext.modules.rest.auth.util.PasswordEncryptionUtil;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Objects;
+import javax.crypto.SecretKeyFactory;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public record AuthConfiguration(
   int jwtTokenLifetimeSeconds,
   int jwtRefreshTokenLifetimeSeconds,
-  int ticketLifetimeSeconds
+  int ticketLifetimeSeconds,
+  int verifiedCredentialCacheSeconds,
+  @Nullable String passwordHashAlgorithm,
+  int passwordHashIterations,
+  int passwordHashThreadLimit,
+  int passwordHashQueueLimit,
+  int basicAuthFailureThreshold
 ) {
 
+  private static final int DEFAULT_PASSWORD_HASH_THREAD_LIMIT = 2;
+  private static final int DEFAULT_PASSWORD_HASH_QUEUE_LIMIT = 16;
+  private static final int DEFAULT_BASIC_AUTH_FAILURE_THRESHOLD = 5;
+
   public static final AuthConfiguration DEFAULT_CONFIGURATION = new AuthConfiguration(
     12 * 60 * 60, // 12h
     3 * 24 * 60 * 60, // 3d
-    15 // 15s
+    15, // 15s
+    30, // 30s
+    PasswordEncryptionUtil.DEFAULT_ALGORITHM,
+    PasswordEncryptionUtil.DEFAULT_ITERATION_COUNT,
+    DEFAULT_PASSWORD_HASH_THREAD_LIMIT,
+    DEFAULT_PASSWORD_HASH_QUEUE_LIMIT,
+    DEFAULT_BASIC_AUTH_FAILURE_THRESHOLD
   );
 
   public void validate() {
@@ -37,6 +58,27 @@ public void validate() {
       || this.ticketLifetimeSeconds <= 0) {
       throw new IllegalStateException("invalid authentication configuration: one lifetime is less or equal to zero");
     }
+
+    // zero disables the cache, which is also the case for configurations written before the cache was introduced
+    if (this.verifiedCredentialCacheSeconds < 0) {
+      throw new IllegalStateException("invalid authentication configuration: credential cache lifetime is negative");
+    }
+
+    // zero uses the default, which is also the case for configurations written before the options were introduced
+    if (this.passwordHashIterations < 0 || this.passwordHashThreadLimit < 0 || this.passwordHashQueueLimit < 0) {
+      throw new IllegalStateException("invalid authentication configuration: one password hash option is negative");
+    }
+    if (this.basicAuthFailureThreshold < 0) {
+      throw new IllegalStateException("invalid authentication configuration: basic auth failure threshold is negative");
+    }
+
+    try {
+      SecretKeyFactory.getInstance(this.passwordHashAlgorithm());
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException(
+        "invalid authentication configuration: unknown password hash algorithm " + this.passwordHashAlgorithm(),
+        exception);
+    }
   }
 
   public @NonNull Duration jwtTokenLifetime() {
@@ -50,4 +92,37 @@ public void validate() {
   public @NonNull Duration ticketLifetime() {
     return Duration.ofSeconds(this.ticketLifetimeSeconds);
   }
+
+  public @NonNull Duration verifiedCredentialCacheLifetime() {
+    return Duration.ofSeconds(this.verifiedCredentialCacheSeconds);
+  }
+
+  @Override
+  public @NonNull String passwordHashAlgorithm() {
+    return Objects.requireNonNullElse(this.passwordHashAlgorithm, PasswordEncryptionUtil.DEFAULT_ALGORITHM);
+  }
+
+  @Override
+  public int passwordHashIterations() {
+    return positiveOrDefault(this.passwordHashIterations, PasswordEncryptionUtil.DEFAULT_ITERATION_COUNT);
+  }
+
+  @Override
+  public int passwordHashThreadLimit() {
+    return positiveOrDefault(this.passwordHashThreadLimit, DEFAULT_PASSWORD_HASH_THREAD_LIMIT);
+  }
+
+  @Override
+  public int passwordHashQueueLimit() {
+    return positiveOrDefault(this.passwordHashQueueLimit, DEFAULT_PASSWORD_HASH_QUEUE_LIMIT);
+  }
+
+  @Override
+  public int basicAuthFailureThreshold() {
+    return positiveOrDefault(this.basicAuthFailureThreshold, DEFAULT_BASIC_AUTH_FAILURE_THRESHOLD);
+  }
+
+  private static int positiveOrDefault(int value, int defaultValue) {
+    return value > 0 ? value : defaultValue;
+  }
 }
@@ -17,36 +17,61 @@
 package eu.cloudnetservice.ext.modules.rest.config;
 
 import com.google.common.base.Preconditions;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import eu.cloudnetservice.ext.rest.api.config.ComponentConfig;
+import eu.cloudnetservice.ext.rest.api.config.CompressionConfig;
 import eu.cloudnetservice.ext.rest.api.config.CorsConfig;
+import eu.cloudnetservice.ext.rest.api.config.Http2Config;
 import eu.cloudnetservice.ext.rest.api.config.HttpProxyMode;
+import eu.cloudnetservice.ext.rest.api.config.SocketConfig;
 import eu.cloudnetservice.ext.rest.api.config.SslConfiguration;
+import eu.cloudnetservice.ext.rest.api.config.WebSocketConfig;
 import eu.cloudnetservice.ext.rest.api.connection.EmptyConnectionInfoResolver;
 import eu.cloudnetservice.ext.rest.api.connection.HttpConnectionInfoResolver;
+import eu.cloudnetservice.ext.rest.api.dispatch.RequestDispatchers;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public record RestConfiguration(
   int maxContentLength,
+  long maxStreamedContentLength,
   int requestDispatchThreadLimit,
+  int requestDispatchQueueLimit,
+  int heavyRequestDispatchThreadLimit,
+  int heavyRequestDispatchQueueLimit,
+  boolean virtualThreadRequestDispatch,
   boolean disableNativeTransport,
+  boolean disableIoUringTransport,
+  boolean enableHttp2,
   @NonNull CorsConfig corsConfig,
   @NonNull HttpProxyMode proxyMode,
   @NonNull AuthConfiguration authConfig,
   @NonNull List<HostAndPort> httpListeners,
   @NonNull List<ConnectionInfoResolverConfiguration> connectionInfoResolver,
+  @Nullable SocketConfig socketConfig,
+  @Nullable WebSocketConfig webSocketConfig,
+  @Nullable Http2Config http2Config,
+  @Nullable CompressionConfig compressionConfig,
   @Nullable SslConfiguration sslConfiguration
 ) {
 
+  public static final String HEAVY_DISPATCH_POOL = "heavy";
+
+  private static final int DEFAULT_REQUEST_DISPATCH_QUEUE_LIMIT = 1024;
+  private static final int DEFAULT_HEAVY_REQUEST_DISPATCH_THREAD_LIMIT = 4;
+  private static final int DEFAULT_HEAVY_REQUEST_DISPATCH_QUEUE_LIMIT = 64;
+
   public static final RestConfiguration DEFAULT = new RestConfiguration(
     ComponentConfig.DEFAULT_MAX_CONTENT_LENGTH,
+    ComponentConfig.DEFAULT_MAX_STREAMED_CONTENT_LENGTH,
     50,
+    DEFAULT_REQUEST_DISPATCH_QUEUE_LIMIT,
+    DEFAULT_HEAVY_REQUEST_DISPATCH_THREAD_LIMIT,
+    DEFAULT_HEAVY_REQUEST_DISPATCH_QUEUE_LIMIT,
+    false,
+    false,
+    false,
     false,
     CorsConfig.builder()
       .addAllowedOrigin("*")
@@ -57,6 +82,10 @@ public record RestConfiguration(
     AuthConfiguration.DEFAULT_CONFIGURATION,
     List.of(new HostAndPort("127.0.0.1", 2812)),
     List.of(),
+    SocketConfig.builder().build(),
+    WebSocketConfig.builder().build(),
+    Http2Config.builder().build(),
+    CompressionConfig.builder().build(),
     null);
 
   private static RestConfiguration instance;
@@ -75,28 +104,53 @@ public void validate() {
   }
 
   public @NonNull ComponentConfig toComponentConfig() {
-    var requestDispatchThreadFactory = new ThreadFactoryBuilder()
-      .setDaemon(true)
-      .setPriority(Thread.NORM_PRIORITY)
-      .setNameFormat("rest-request-dispatcher-%d")
-      .build();
-    var requestDispatchExecutor = new ThreadPoolExecutor(
-      1,
-      this.requestDispatchThreadLimit,
-      30L,
-      TimeUnit.SECONDS,
-      new LinkedBlockingQueue<>(),
-      requestDispatchThreadFactory);
-
-    return ComponentConfig.builder()
+    var builder = ComponentConfig.builder()
       .corsConfig(this.corsConfig)
       .haProxyMode(this.proxyMode)
       .maxContentLength(this.maxContentLength)
       .sslConfiguration(this.sslConfiguration)
-      .executorService(requestDispatchExecutor)
       .disableNativeTransport(this.disableNativeTransport)
+      .disableIoUringTransport(this.disableIoUringTransport)
+      .enableHttp2(this.enableHttp2)
       .connectionInfoResolver(this.httpConnectionInfoResolver())
-      .build();
+      .registerBoundedDispatchPool(
+        HEAVY_DISPATCH_POOL,
+        positiveOrDefault(this.heavyRequestDispatchThreadLimit, DEFAULT_HEAVY_REQUEST_DISPATCH_THREAD_LIMIT),
+        positiveOrDefault(this.heavyRequestDispatchQueueLimit, DEFAULT_HEAVY_REQUEST_DISPATCH_QUEUE_LIMIT));
+
+    // configurations written before the streamed content limit was introduced deserialize it as 0
+    if (this.maxStreamedContentLength > 0) {
+      builder.maxStreamedContentLength(this.maxStreamedContentLength);
+    }
+
+    // configurations written before the socket, web socket, http/2 and compression options were introduced lack them
+    if (this.socketConfig != null) {
+      builder.socketConfig(this.socketConfig);
+    }
+    if (this.webSocketConfig != null) {
+      builder.webSocketConfig(this.webSocketConfig);
+    }
+    if (this.http2Config != null) {
+      builder.http2Config(this.http2Config);
+    }
+    if (this.compressionConfig != null) {
+      builder.compressionConfig(this.compressionConfig);
+    }
+
+    // virtual threads make the dispatch thread limit obsolete, blocking handlers just unmount their carrier
+    if (this.virtualThreadRequestDispatch) {
+      return builder.virtualThreadExecutorService().build();
+    }
+
+    var queueLimit = positiveOrDefault(this.requestDispatchQueueLimit, DEFAULT_REQUEST_DISPATCH_QUEUE_LIMIT);
+    var requestDispatchExecutor = RequestDispatchers.newBoundedDispatcher(this.requestDispatchThreadLimit, queueLimit);
+
+    return builder.executorService(requestDispatchExecutor).build();
+  }
+
+  private static int positiveOrDefault(int value, int defaultValue) {
+    // configurations written before a limit was introduced deserialize it as 0, use the default for them
+    return value > 0 ? value : defaultValue;
   }
 
   private @NonNull HttpConnectionInfoResolver httpConnectionInfoResolver() {
@@ -20,19 +20,23 @@
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPath;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
+import eu.cloudnetservice.ext.rest.api.resource.StaticResourceCache;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
-import eu.cloudnetservice.ext.rest.api.response.type.InputStreamResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResourceResponse;
 import jakarta.inject.Singleton;
-import java.io.IOException;
 import java.net.URI;
-import java.net.URLConnection;
-import java.util.Objects;
 import lombok.NonNull;
 
 @Singleton
 public final class V3HttpHandlerDocumentation {
 
+  private static final String DOCUMENTATION_PATH_PREFIX = "/api/v3/documentation/";
+
+  private final StaticResourceCache documentationCache = StaticResourceCache.create(
+    V3HttpHandlerDocumentation.class.getClassLoader(),
+    "documentation");
+
   @RequestHandler(path = "/api/v3/documentation")
   public @NonNull IntoResponse<?> handleDocumentationRequest() {
     return PlainTextResponse.builder()
@@ -41,8 +45,8 @@ public final class V3HttpHandlerDocumentation {
   }
 
   @RequestHandler(path = "/api/v3/documentation/*")
-  public @NonNull IntoResponse<?> handleDocumentationFileRequest(@NonNull @RequestPath String path) throws IOException {
-    var filePath = path.replaceFirst("/api/v3/", "");
+  public @NonNull IntoResponse<?> handleDocumentationFileRequest(@NonNull @RequestPath String path) {
+    var filePath = path.replaceFirst(DOCUMENTATION_PATH_PREFIX, "");
     if (filePath.contains("..")) {
       return ProblemDetail.builder()
         .type("file-browsing-is-forbidden")
@@ -51,8 +55,8 @@ public final class V3HttpHandlerDocumentation {
         .detail("File browsing is not allowed.");
     }
 
-    // get the resource and the content type of it
-    var resource = V3HttpHandlerDocumentation.class.getClassLoader().getResource(filePath);
+    // get the resource from the cache, the resource is loaded from the class path on the first request
+    var resource = this.documentationCache.resource(filePath);
     if (resource == null) {
       return ProblemDetail.builder()
         .type("documentation-not-found")
@@ -61,10 +65,7 @@ public final class V3HttpHandlerDocumentation {
         .detail("The requested documentation file was not found.");
     }
 
-    var contentType = Objects.requireNonNullElse(
-      URLConnection.guessContentTypeFromName(filePath),
-      "application/octet-stream");
-    return InputStreamResponse.builder().body(resource.openStream()).contentType(contentType);
+    return StaticResourceResponse.builder().body(resource);
   }
 
 }
@@ -16,7 +16,9 @@
 
 package eu.cloudnetservice.ext.modules.rest.v3;
 
+import com.google.common.reflect.TypeToken;
 import eu.cloudnetservice.driver.provider.GroupConfigurationProvider;
+import eu.cloudnetservice.driver.service.GroupConfiguration;
 import eu.cloudnetservice.ext.modules.rest.dto.GroupConfigurationDto;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
@@ -31,12 +33,17 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.validation.Valid;
+import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 import lombok.NonNull;
 
 @Singleton
 public final class V3HttpHandlerGroup {
 
+  private static final Type GROUP_LIST_TYPE = new TypeToken<Map<String, Collection<GroupConfiguration>>>() {
+  }.getType();
+
   private final GroupConfigurationProvider groupProvider;
 
   @Inject
@@ -47,7 +54,7 @@ public V3HttpHandlerGroup(@NonNull GroupConfigurationProvider groupProvider) {
   @RequestHandler(path = "/api/v3/group")
   @Authentication(providers = "jwt", scopes = {"cloudnet_cloudnet_rest:group_read", "cloudnet_rest:group_list"})
   public @NonNull IntoResponse<?> handleGroupListRequest() {
-    return JsonResponse.builder().body(Map.of("groups", this.groupProvider.groupConfigurations()));
+    return JsonResponse.builder().bodyType(GROUP_LIST_TYPE).body(Map.of("groups", this.groupProvider.groupConfigurations()));
   }
 
   @RequestHandler(path = "/api/v3/group/{name}")
@@ -20,9 +20,11 @@
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.module.ModuleWrapper;
 import eu.cloudnetservice.driver.module.driver.DriverModule;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.DispatchPool;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.Optional;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestBody;
@@ -158,6 +160,7 @@ public V3HttpHandlerModule(@NonNull ModulesHolder modulesHolder, @NonNull Module
     });
   }
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/module/{name}/load", method = HttpMethod.POST)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:module_write", "cloudnet_rest:module_load"})
   public @NonNull IntoResponse<?> handleModuleLoadRequest(
@@ -203,6 +206,7 @@ public V3HttpHandlerModule(@NonNull ModulesHolder modulesHolder, @NonNull Module
     return JsonResponse.builder().responseCode(HttpResponseCode.CREATED).body(this.constructModuleInformation(module));
   }
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/module/{name}/install", method = HttpMethod.POST)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:module_write", "cloudnet_rest:module_install"})
   public @NonNull IntoResponse<?> handleModuleInstallRequest(
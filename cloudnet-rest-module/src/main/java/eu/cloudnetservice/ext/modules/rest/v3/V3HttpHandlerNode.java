@@ -41,6 +41,7 @@
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.JsonResponse;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketChannel;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameBatching;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameType;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketListener;
 import eu.cloudnetservice.ext.rest.validation.EnableValidation;
@@ -190,6 +191,8 @@ public V3HttpHandlerNode(
   ) {
     if (this.logger instanceof ch.qos.logback.classic.Logger logbackLogger) {
       context.upgrade().thenAccept(channel -> {
+        // flush the log lines in batches rather than one by one
+        channel.batchFrames(WebSocketFrameBatching.builder().build());
         var webSocketAppender = new WebSocketLogAppender(
           logbackLogger,
           Level.toLevel(threshold, null),
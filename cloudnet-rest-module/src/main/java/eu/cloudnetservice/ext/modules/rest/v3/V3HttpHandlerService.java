@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.ext.modules.rest.v3;
 
+import com.google.common.reflect.TypeToken;
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
@@ -41,6 +42,7 @@
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.JsonResponse;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketChannel;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameBatching;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameType;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketListener;
 import eu.cloudnetservice.ext.rest.validation.EnableValidation;
@@ -52,7 +54,9 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.validation.Valid;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -66,6 +70,9 @@
 @Singleton
 public final class V3HttpHandlerService {
 
+  private static final Type SERVICE_LIST_TYPE = new TypeToken<Map<String, Collection<ServiceInfoSnapshot>>>() {
+  }.getType();
+
   private final CloudServiceFactory serviceFactory;
   private final CloudServiceManager serviceManager;
   private final ServiceTaskProvider serviceTaskProvider;
@@ -84,7 +91,7 @@ public V3HttpHandlerService(
   @RequestHandler(path = "/api/v3/service")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:service_read", "cloudnet_rest:service_list"})
   public @NonNull IntoResponse<?> handleServiceListRequest() {
-    return JsonResponse.builder().body(Map.of("services", this.serviceManager.services()));
+    return JsonResponse.builder().bodyType(SERVICE_LIST_TYPE).body(Map.of("services", this.serviceManager.services()));
   }
 
   @RequestHandler(path = "/api/v3/service/{id}")
@@ -215,6 +222,8 @@ public V3HttpHandlerService(
       }
 
       context.upgrade().thenAccept(channel -> {
+        // flush the console lines of noisy services in batches rather than one by one
+        channel.batchFrames(WebSocketFrameBatching.builder().build());
         ServiceConsoleLineHandler handler = (console, line, stderr) -> channel.sendWebSocketFrame(
           WebSocketFrameType.TEXT,
           line);
@@ -18,11 +18,13 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.modules.rest.dto.version.ServiceEnvironmentTypeDto;
 import eu.cloudnetservice.ext.modules.rest.dto.version.ServiceVersionTypeDto;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.DispatchPool;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.Optional;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
@@ -174,6 +176,7 @@ public V3HttpHandlerServiceVersion(
     return HttpResponseCode.NO_CONTENT;
   }
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/serviceVersion/install", method = HttpMethod.POST)
   @Authentication(
     providers = "jwt",
@@ -16,7 +16,9 @@
 
 package eu.cloudnetservice.ext.modules.rest.v3;
 
+import com.google.common.reflect.TypeToken;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
+import eu.cloudnetservice.driver.service.ServiceTask;
 import eu.cloudnetservice.ext.modules.rest.dto.service.ServiceTaskDto;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
@@ -31,12 +33,17 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.validation.Valid;
+import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 import lombok.NonNull;
 
 @Singleton
 public final class V3HttpHandlerTask {
 
+  private static final Type TASK_LIST_TYPE = new TypeToken<Map<String, Collection<ServiceTask>>>() {
+  }.getType();
+
   private final ServiceTaskProvider taskProvider;
 
   @Inject
@@ -47,7 +54,7 @@ public V3HttpHandlerTask(@NonNull ServiceTaskProvider taskProvider) {
   @RequestHandler(path = "/api/v3/task")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:task_read", "cloudnet_rest:task_list"})
   public @NonNull IntoResponse<?> handleTaskListRequest() {
-    return JsonResponse.builder().body(Map.of("tasks", this.taskProvider.serviceTasks()));
+    return JsonResponse.builder().bodyType(TASK_LIST_TYPE).body(Map.of("tasks", this.taskProvider.serviceTasks()));
   }
 
   @RequestHandler(path = "/api/v3/task/{name}")
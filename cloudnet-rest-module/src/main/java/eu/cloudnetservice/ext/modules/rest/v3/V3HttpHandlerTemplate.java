@@ -20,9 +20,11 @@
 import com.google.common.net.MediaType;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.TemplateStorage;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.DispatchPool;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.Optional;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestBody;
@@ -30,11 +32,16 @@
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPathParam;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.FileResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.InputStreamResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.JsonResponse;
+import eu.cloudnetservice.node.impl.template.LocalTemplateStorage;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Map;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -46,6 +53,7 @@ public final class V3HttpHandlerTemplate {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(V3HttpHandlerTemplate.class);
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/download")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:template_read", "cloudnet_rest:template_download"})
   public @NonNull IntoResponse<?> handleTemplateDownloadRequest(
@@ -67,6 +75,7 @@ public final class V3HttpHandlerTemplate {
     });
   }
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/file/download")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:template_read", "cloudnet_rest:template_file_download"})
   public @NonNull IntoResponse<?> handleTemplateFileDownloadRequest(
@@ -76,6 +85,12 @@ public final class V3HttpHandlerTemplate {
     @NonNull @FirstRequestQueryParam("path") String path
   ) {
     return this.handleTemplateContext(storageName, prefix, name, (template, storage) -> {
+      // files of the local storage are transferred straight from the disk instead of being copied through the heap
+      var localFile = this.resolveLocalTemplateFile(template, storage, path);
+      if (localFile != null) {
+        return FileResponse.builder().body(localFile);
+      }
+
       var stream = storage.newInputStream(template, path);
       if (stream == null) {
         return ProblemDetail.builder()
@@ -85,7 +100,14 @@ public final class V3HttpHandlerTemplate {
           .detail(String.format("The requested template %s does not contain the requested file %s", template, path));
       }
 
-      return this.applyDispositionHeader(MediaType.OCTET_STREAM, this.guessFileName(path)).body(stream);
+      // allow clients to resume the download or to fetch parts of the file if the file size is known
+      var response = this.applyDispositionHeader(MediaType.OCTET_STREAM, this.guessFileName(path)).body(stream);
+      var fileInfo = storage.fileInfo(template, path);
+      if (fileInfo != null && !fileInfo.directory()) {
+        response.seekable(fileInfo.size(), Instant.ofEpochMilli(fileInfo.lastModified()));
+      }
+
+      return response;
     });
   }
 
@@ -244,6 +266,7 @@ public final class V3HttpHandlerTemplate {
     });
   }
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/file/create", method = HttpMethod.POST)
   @Authentication(
     providers = "jwt",
@@ -258,6 +281,7 @@ public final class V3HttpHandlerTemplate {
     return this.handleFileRequest(storageName, prefix, name, path, body, false);
   }
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/file/append", method = HttpMethod.POST)
   @Authentication(
     providers = "jwt",
@@ -272,6 +296,7 @@ public final class V3HttpHandlerTemplate {
     return this.handleFileRequest(storageName, prefix, name, path, body, true);
   }
 
+  @DispatchPool(RestConfiguration.HEAVY_DISPATCH_POOL)
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/deploy", method = HttpMethod.POST)
   @Authentication(
     providers = "jwt",
@@ -358,6 +383,21 @@ public final class V3HttpHandlerTemplate {
       .contentType(type.toString());
   }
 
+  private @Nullable Path resolveLocalTemplateFile(
+    @NonNull ServiceTemplate template,
+    @NonNull TemplateStorage storage,
+    @NonNull String path
+  ) {
+    if (!(storage instanceof LocalTemplateStorage localStorage)) {
+      return null;
+    }
+
+    // only regular files that are located inside the template directory can be served directly
+    var templateDirectory = localStorage.pathFor(template).toAbsolutePath().normalize();
+    var file = templateDirectory.resolve(path).normalize();
+    return file.startsWith(templateDirectory) && Files.isRegularFile(file) ? file : null;
+  }
+
   private @Nullable String guessFileName(@NonNull String path) {
     var index = path.lastIndexOf('/');
     if (index == -1 || index + 1 == path.length()) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.auth.provider;
+
+import eu.cloudnetservice.ext.modules.rest.auth.DefaultRestUser;
+import eu.cloudnetservice.ext.modules.rest.auth.util.PasswordEncryptionUtil;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
+import eu.cloudnetservice.ext.rest.api.auth.RestUser;
+import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+class CloudNetBasicAuthProviderTest {
+
+  private static final String PASSWORD = "password";
+  private static final PasswordEncryptionUtil.HashParameters OUTDATED_PARAMETERS =
+    new PasswordEncryptionUtil.HashParameters(PasswordEncryptionUtil.DEFAULT_ALGORITHM, 1_000);
+
+  private RestUser user;
+  private RestUserManagement management;
+  private CloudNetBasicAuthProvider provider;
+
+  @BeforeAll
+  static void setUpConfiguration() {
+    RestConfiguration.setInstance(RestConfiguration.DEFAULT);
+  }
+
+  @BeforeEach
+  void setUp() {
+    this.user = userWithPassword("0123456789abcdef", PASSWORD);
+    this.management = Mockito.mock(RestUserManagement.class);
+    Mockito.when(this.management.restUser(this.user.id())).thenReturn(this.user);
+    Mockito.when(this.management.builder(ArgumentMatchers.any()))
+      .thenAnswer(invocation -> DefaultRestUser.builder(invocation.<RestUser>getArgument(0)));
+
+    this.provider = new CloudNetBasicAuthProvider();
+  }
+
+  @Test
+  void testOutdatedPasswordIsRehashedOnLogin() {
+    Assertions.assertTrue(this.validate(PASSWORD));
+
+    var savedUser = ArgumentCaptor.forClass(RestUser.class);
+    Mockito.verify(this.management).saveRestUser(savedUser.capture());
+
+    var properties = savedUser.getValue().properties();
+    var parameters = PasswordEncryptionUtil.parametersOf(properties);
+    Assertions.assertEquals(PasswordEncryptionUtil.currentParameters(), parameters);
+    Assertions.assertEquals(
+      properties.get(DefaultRestUser.PASSWORD_KEY),
+      PasswordEncryptionUtil.encrypt(properties.get(DefaultRestUser.PASSWORD_SALT_KEY), PASSWORD, parameters));
+  }
+
+  @Test
+  void testWrongPasswordIsNotRehashed() {
+    Assertions.assertFalse(this.validate("wrong-password"));
+    Mockito.verify(this.management, Mockito.never()).saveRestUser(ArgumentMatchers.any());
+  }
+
+  @Test
+  void testRehashDoesNotOverwriteChangedPassword() {
+    // the password was changed by someone else while the login was verified
+    var changedPassword = hashPassword("fedcba9876543210", "changed-password");
+    var changedUser = DefaultRestUser.builder(this.user)
+      .modifyProperties(properties -> DefaultRestUser.putPasswordProperties(properties, changedPassword))
+      .build();
+    Mockito.when(this.management.restUser(this.user.id())).thenReturn(changedUser);
+
+    Assertions.assertTrue(this.validate(PASSWORD));
+    Mockito.verify(this.management, Mockito.never()).saveRestUser(ArgumentMatchers.any());
+  }
+
+  private boolean validate(String password) {
+    return this.provider.validatePassword(this.management, this.user, password.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static PasswordEncryptionUtil.HashedPassword hashPassword(String saltHex, String password) {
+    var hash = PasswordEncryptionUtil.encrypt(saltHex, password, OUTDATED_PARAMETERS);
+    return new PasswordEncryptionUtil.HashedPassword(saltHex, hash, OUTDATED_PARAMETERS);
+  }
+
+  private static RestUser userWithPassword(String saltHex, String password) {
+    var hashedPassword = hashPassword(saltHex, password);
+    return DefaultRestUser.builder()
+      .username("admin")
+      .createdBy("test")
+      .createdAt(OffsetDateTime.now())
+      .modifyProperties(properties -> DefaultRestUser.putPasswordProperties(properties, hashedPassword))
+      .build();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.auth.util;
+
+import com.google.common.hash.Hashing;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FailedLoginThrottleTest {
+
+  private static final int THRESHOLD = 3;
+  private static final String CLIENT = "127.0.0.1";
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  private FailedLoginThrottle throttle;
+
+  @BeforeEach
+  void setUp() {
+    // use a fixed hash key, the keys used in the tests are known to not collide into the same stripe
+    this.throttle = new FailedLoginThrottle(THRESHOLD, this.nanoTime::get, Hashing.sipHash24());
+  }
+
+  @Test
+  void testAttemptAfterThresholdIsDelayed() {
+    this.assertAllowed("admin", THRESHOLD);
+    Assertions.assertEquals(Duration.ofSeconds(1), this.throttle.tryAttempt(CLIENT, "admin"));
+  }
+
+  @Test
+  void testAttemptIsAllowedAfterBackoff() {
+    this.assertAllowed("admin", THRESHOLD);
+
+    this.nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+    this.assertAllowed("admin", 1);
+
+    // the backoff doubles for each further failure
+    Assertions.assertEquals(Duration.ofSeconds(2), this.throttle.tryAttempt(CLIENT, "admin"));
+  }
+
+  @Test
+  void testSuccessResetsFailures() {
+    this.assertAllowed("admin", THRESHOLD);
+    this.throttle.recordSuccess(CLIENT, "admin");
+    this.assertAllowed("admin", THRESHOLD);
+  }
+
+  @Test
+  void testRevertedAttemptIsNotCounted() {
+    this.assertAllowed("admin", THRESHOLD);
+    this.throttle.revertAttempt(CLIENT, "admin");
+    this.assertAllowed("admin", 1);
+    Assertions.assertTrue(this.throttle.tryAttempt(CLIENT, "admin").isPositive());
+  }
+
+  @Test
+  void testOtherUserOfClientIsNotDelayed() {
+    this.assertAllowed("admin", THRESHOLD);
+    Assertions.assertTrue(this.throttle.tryAttempt(CLIENT, "admin").isPositive());
+    this.assertAllowed("user", THRESHOLD);
+  }
+
+  @Test
+  void testClientIsBlockedAfterFailingForManyUsers() {
+    for (var index = 0; index < THRESHOLD * 10; index++) {
+      this.assertAllowed("user-" + index, 1);
+    }
+
+    Assertions.assertEquals(Duration.ofMinutes(15), this.throttle.tryAttempt(CLIENT, "admin"));
+    Assertions.assertEquals(Duration.ZERO, this.throttle.tryAttempt("127.0.0.2", "admin"));
+  }
+
+  @Test
+  void testFailuresDecay() {
+    this.assertAllowed("admin", THRESHOLD);
+
+    // the failure count is halved after five minutes, the pair has two more attempts before being delayed again
+    this.nanoTime.addAndGet(Duration.ofMinutes(5).toNanos());
+    this.assertAllowed("admin", THRESHOLD - 1);
+    Assertions.assertTrue(this.throttle.tryAttempt(CLIENT, "admin").isPositive());
+  }
+
+  private void assertAllowed(String username, int attempts) {
+    for (var attempt = 0; attempt < attempts; attempt++) {
+      Assertions.assertEquals(Duration.ZERO, this.throttle.tryAttempt(CLIENT, username));
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.auth.util;
+
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class PasswordEncryptionUtilTest {
+
+  @BeforeAll
+  static void setUp() {
+    RestConfiguration.setInstance(RestConfiguration.DEFAULT);
+  }
+
+  @Test
+  void testHashingExecutorRejectsWhenSaturated() throws Exception {
+    var executor = PasswordEncryptionUtil.createHashingExecutor(1, 1);
+    var blockLatch = new CountDownLatch(1);
+    var startedLatch = new CountDownLatch(1);
+    try {
+      // occupy the only thread and the only queue slot
+      executor.submit(() -> {
+        startedLatch.countDown();
+        blockLatch.await();
+        return null;
+      });
+      Assertions.assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+      executor.submit(() -> null);
+
+      Assertions.assertThrows(
+        RejectedExecutionException.class,
+        () -> PasswordEncryptionUtil.runOnExecutor(executor, () -> "hash"));
+    } finally {
+      blockLatch.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRunOnExecutorRethrowsTaskException() {
+    var executor = PasswordEncryptionUtil.createHashingExecutor(1, 1);
+    try {
+      Assertions.assertThrows(IllegalArgumentException.class, () -> PasswordEncryptionUtil.runOnExecutor(executor, () -> {
+        throw new IllegalArgumentException();
+      }));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testPasswordVerificationMatchesHash() {
+    var hashedPassword = PasswordEncryptionUtil.encrypt("password");
+    Assertions.assertEquals(PasswordEncryptionUtil.currentParameters(), hashedPassword.parameters());
+
+    // verification runs on the hashing executor and must produce the same hash as the synchronous hashing
+    Assertions.assertEquals(
+      hashedPassword.hashHex(),
+      PasswordEncryptionUtil.encrypt(hashedPassword.saltHex(), "password", hashedPassword.parameters()));
+    Assertions.assertNotEquals(
+      hashedPassword.hashHex(),
+      PasswordEncryptionUtil.encrypt(hashedPassword.saltHex(), "other", hashedPassword.parameters()));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.auth.util;
+
+import eu.cloudnetservice.ext.rest.api.auth.RestUser;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class VerifiedCredentialCacheTest {
+
+  private static final byte[] PASSWORD = "password".getBytes(StandardCharsets.UTF_8);
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  private RestUser user;
+  private VerifiedCredentialCache cache;
+
+  @BeforeEach
+  void setUp() {
+    this.user = Mockito.mock(RestUser.class);
+    Mockito.when(this.user.id()).thenReturn(UUID.randomUUID());
+    Mockito.when(this.user.username()).thenReturn("admin");
+
+    this.cache = new VerifiedCredentialCache(Duration.ofSeconds(30), this.nanoTime::get);
+  }
+
+  @Test
+  void testSuccessfulVerificationIsCached() {
+    Assertions.assertTrue(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(true)));
+    Assertions.assertTrue(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(false)));
+    Assertions.assertEquals(1, this.verifications.get());
+  }
+
+  @Test
+  void testFailedVerificationIsNotCached() {
+    Assertions.assertFalse(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(false)));
+    Assertions.assertFalse(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(false)));
+    Assertions.assertEquals(2, this.verifications.get());
+  }
+
+  @Test
+  void testDifferentPasswordMisses() {
+    Assertions.assertTrue(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(true)));
+
+    var otherPassword = "other".getBytes(StandardCharsets.UTF_8);
+    Assertions.assertFalse(this.cache.verify(this.user, "hash", otherPassword, this.verifier(false)));
+    Assertions.assertEquals(2, this.verifications.get());
+  }
+
+  @Test
+  void testPasswordChangeMisses() {
+    Assertions.assertTrue(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(true)));
+
+    // the stored hash changes with the password, the old verification must not be used anymore
+    Assertions.assertFalse(this.cache.verify(this.user, "changed-hash", PASSWORD, this.verifier(false)));
+    Assertions.assertEquals(2, this.verifications.get());
+  }
+
+  @Test
+  void testInvalidateDropsVerificationsOfUser() {
+    Assertions.assertTrue(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(true)));
+    this.cache.invalidate(this.user.id());
+
+    Assertions.assertFalse(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(false)));
+    Assertions.assertEquals(2, this.verifications.get());
+  }
+
+  @Test
+  void testVerificationExpires() {
+    Assertions.assertTrue(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(true)));
+
+    this.nanoTime.addAndGet(Duration.ofSeconds(29).toNanos());
+    Assertions.assertTrue(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(false)));
+
+    this.nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+    Assertions.assertFalse(this.cache.verify(this.user, "hash", PASSWORD, this.verifier(false)));
+    Assertions.assertEquals(2, this.verifications.get());
+  }
+
+  @Test
+  void testZeroLifetimeDisablesCache() {
+    var disabledCache = new VerifiedCredentialCache(Duration.ZERO);
+    Assertions.assertTrue(disabledCache.verify(this.user, "hash", PASSWORD, this.verifier(true)));
+    Assertions.assertTrue(disabledCache.verify(this.user, "hash", PASSWORD, this.verifier(true)));
+    Assertions.assertEquals(2, this.verifications.get());
+  }
+
+  private BooleanSupplier verifier(boolean result) {
+    return () -> {
+      this.verifications.incrementAndGet();
+      return result;
+    };
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.codec;
+
+import com.google.common.reflect.TypeToken;
+import eu.cloudnetservice.ext.modules.rest.dto.service.ProcessConfigurationDto;
+import eu.cloudnetservice.ext.modules.rest.dto.service.ServiceTemplateDto;
+import eu.cloudnetservice.ext.rest.api.codec.DataformatCodec;
+import eu.cloudnetservice.ext.rest.codecgson.GsonDataformatCodec;
+import eu.cloudnetservice.ext.rest.codecjackson.JacksonDataformatCodec;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Compares the serialization throughput of the available json codecs for a response body made of V3 DTOs. The
+ * benchmark only runs when the {@code REST_CODEC_BENCHMARK} environment variable is set to true, the results are
+ * published as report entries of the test.
+ */
+@EnabledIfEnvironmentVariable(named = "REST_CODEC_BENCHMARK", matches = "true")
+class V3DtoCodecBenchmarkTest {
+
+  private static final int DTO_COUNT = 50;
+  private static final int WARMUP_ITERATIONS = 20_000;
+  private static final int ITERATIONS = 100_000;
+
+  private static final Type PAYLOAD_TYPE = new TypeToken<Map<String, List<?>>>() {
+  }.getType();
+
+  static Stream<Arguments> codecs() {
+    return Stream.of(
+      Arguments.of("cloudnet-document", new CloudNetDocumentJsonCodec()),
+      Arguments.of("gson", new GsonDataformatCodec()),
+      Arguments.of("jackson", new JacksonDataformatCodec()));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("codecs")
+  void benchmarkSerialization(String name, DataformatCodec codec, TestReporter reporter) {
+    var payload = createPayload();
+    var serializer = codec.serializer(PAYLOAD_TYPE);
+    var target = new ByteArrayOutputStream(64 * 1024);
+
+    for (var i = 0; i < WARMUP_ITERATIONS; i++) {
+      target.reset();
+      serializer.serialize(payload, target);
+    }
+
+    var startTime = System.nanoTime();
+    for (var i = 0; i < ITERATIONS; i++) {
+      target.reset();
+      serializer.serialize(payload, target);
+    }
+    var elapsedNanos = System.nanoTime() - startTime;
+
+    Assertions.assertTrue(target.size() > 0);
+    reporter.publishEntry(Map.of(
+      "codec", name,
+      "bodySize", target.size() + " bytes",
+      "throughput", String.format("%.0f ops/s", ITERATIONS / (elapsedNanos / 1_000_000_000D)),
+      "average", String.format("%.1f us/op", elapsedNanos / (double) ITERATIONS / 1_000D)));
+  }
+
+  private static Map<String, List<?>> createPayload() {
+    List<ServiceTemplateDto> templates = new ArrayList<>(DTO_COUNT);
+    List<ProcessConfigurationDto> processConfigurations = new ArrayList<>(DTO_COUNT);
+    for (var i = 0; i < DTO_COUNT; i++) {
+      templates.add(new ServiceTemplateDto("Lobby", "template-" + i, "local", i, i % 2 == 0));
+      processConfigurations.add(new ProcessConfigurationDto(
+        "MINECRAFT_SERVER",
+        512 + i,
+        List.of("-XX:+UseZGC", "-XX:+ZGenerational", "-Dfile.encoding=UTF-8"),
+        List.of("--nogui"),
+        Map.of("SERVICE_ID", String.valueOf(i), "SERVICE_GROUP", "Lobby")));
+    }
+
+    return Map.of("templates", templates, "processConfigurations", processConfigurations);
+  }
+}
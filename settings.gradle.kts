@@ -22,6 +22,7 @@ include("web-api")
 include("web-jwt-auth")
 include("web-impl-netty")
 include("web-codec-gson")
+include("web-codec-jackson")
 include("web-ticket-auth")
 include("web-parameter-validator")
 include("cloudnet-rest-module")
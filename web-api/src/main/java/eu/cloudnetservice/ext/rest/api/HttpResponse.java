@@ -16,7 +16,11 @@
 
 package eu.cloudnetservice.ext.rest.api;
 
+import eu.cloudnetservice.ext.rest.api.util.ByteRange;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a response http message transferred from a server to a client.
@@ -43,4 +47,53 @@ public interface HttpResponse extends HttpMessage<HttpResponse> {
    * @throws NullPointerException if the given response code is null.
    */
   @NonNull HttpResponse status(@NonNull HttpResponseCode code);
+
+  /**
+   * Gets an output stream which writes directly into the body of this response, replacing the current body. This
+   * allows to serialize large bodies straight into the buffer that is transferred to the client, without materializing
+   * them as a string or byte array first. Closing the returned stream is not required.
+   *
+   * @return an output stream writing into the body of this response.
+   * @throws UnsupportedOperationException if writing the body is not supported by the response.
+   */
+  @NonNull OutputStream bodyOutputStream();
+
+  /**
+   * Gets the file which content should be transferred as the body of this response. This method returns null if the
+   * body of this response is not backed by a file.
+   *
+   * @return the file to transfer as the body of this response, or null if the body is not backed by a file.
+   */
+  @Nullable Path bodyFile();
+
+  /**
+   * Gets the range of the body file which should be transferred as the body of this response. This method returns null
+   * if the complete file should be transferred.
+   *
+   * @return the range of the body file to transfer, or null if the complete file should be transferred.
+   */
+  @Nullable ByteRange bodyFileRange();
+
+  /**
+   * Sets the body of this response to the content of the given file. Other than streaming the file content using
+   * {@link #body(java.io.InputStream)}, this allows the implementation to transfer the file directly from the file
+   * system into the connection without copying it through the heap (if supported). Setting the body file to null will
+   * remove the current body file.
+   *
+   * @param file the file to transfer as the body of this response.
+   * @return the same instance as used to call the method, for chaining.
+   */
+  default @NonNull HttpResponse bodyFile(@Nullable Path file) {
+    return this.bodyFile(file, null);
+  }
+
+  /**
+   * Sets the body of this response to the given range of the given file. If the given range is null, the complete file
+   * is transferred. See {@link #bodyFile(Path)} for more information.
+   *
+   * @param file  the file to transfer as the body of this response.
+   * @param range the range of the file to transfer, null to transfer the complete file.
+   * @return the same instance as used to call the method, for chaining.
+   */
+  @NonNull HttpResponse bodyFile(@Nullable Path file, @Nullable ByteRange range);
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import lombok.NonNull;
+
+/**
+ * Assigns a http handler method to a named dispatch pool. Requests targeting the handler are executed in the executor
+ * registered for the pool in the component configuration, rather than in the default executor of the component. This
+ * allows to isolate expensive handlers (for example uploads) from cheap ones, preventing a burst of expensive requests
+ * from starving all other handlers. The pool must be registered in the component configuration before the handler is
+ * registered.
+ *
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DispatchPool {
+
+  /**
+   * Gets the name of the dispatch pool to execute requests to the handler in.
+   *
+   * @return the name of the dispatch pool to execute requests to the handler in.
+   */
+  @NonNull String value();
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a http handler method as non-blocking. Requests targeting a non-blocking handler are routed, intercepted and
+ * handled directly on the io thread which received the request, rather than being handed off to the executor service
+ * of the component. This removes the thread handoff for cheap handlers (for example health checks or reads from
+ * memory) but means that the handler and all its interceptors must never block, as that would stall all other
+ * connections served by the same io thread.
+ * <p>
+ * Handlers which read their body as a stream or which have an interceptor that might block are still dispatched to
+ * the executor service, even if they are marked as non-blocking. This includes all handlers that require
+ * authentication, as the authentication interceptors might block, authenticated handlers are therefore never processed
+ * on the io thread.
+ *
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NonBlocking {
+
+}
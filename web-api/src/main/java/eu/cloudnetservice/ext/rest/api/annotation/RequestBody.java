@@ -31,7 +31,15 @@
  *   <li>{@link java.io.InputStream}
  *   <li>{@link java.io.Reader}
  * </ul>
+ * <p>
+ * If the parameter type is either {@link java.io.InputStream} or {@link java.io.Reader} the request body is streamed
+ * to the handler. The handler is called as soon as the request headers were received and reads the body while it is
+ * still being received. The body is not buffered in memory, it is limited by the maximum streamed content length of the
+ * component instead of the maximum content length. Requests announcing a larger body are rejected with a {@code 413}
+ * response, the connection is closed if a body exceeds the limit while streaming. Note that the body can only be read
+ * once in that case.
  *
+ * @see eu.cloudnetservice.ext.rest.api.config.ComponentConfig#maxStreamedContentLength()
  * @since 1.0
  */
 @Documented
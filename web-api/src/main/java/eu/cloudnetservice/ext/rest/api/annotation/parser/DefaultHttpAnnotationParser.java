@@ -23,7 +23,9 @@
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.AuthenticationProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.ContentTypeProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.CrossOriginProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.DispatchPoolProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.FirstRequestQueryParamProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.NonBlockingProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestBodyProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestHeaderProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestPathParamProcessor;
@@ -106,6 +108,8 @@ public DefaultHttpAnnotationParser(@NonNull HttpHandlerRegistry httpHandlerRegis
       .registerAnnotationProcessor(new RequestPathProcessor())
       .registerAnnotationProcessor(new ContentTypeProcessor())
       .registerAnnotationProcessor(new CrossOriginProcessor())
+      .registerAnnotationProcessor(new NonBlockingProcessor())
+      .registerAnnotationProcessor(new DispatchPoolProcessor())
       .registerAnnotationProcessor(new RequestHeaderProcessor())
       .registerAnnotationProcessor(new RequestTypedBodyProcessor())
       .registerAnnotationProcessor(new RequestPathParamProcessor())
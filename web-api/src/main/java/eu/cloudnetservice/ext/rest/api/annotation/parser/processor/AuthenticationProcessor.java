@@ -125,6 +125,12 @@ public void buildPreprocessor(
         // there were declared auth providers, register a pre-processor to handle authentication
         var scopes = Set.of(authentication.scopes());
         config.addHandlerInterceptor(new HttpHandlerInterceptor() {
+          @Override
+          public boolean mayBlock() {
+            // auth providers might load the user from the database or hash the given password
+            return true;
+          }
+
           @Override
           public boolean preProcess(
             @NonNull HttpContext context,
@@ -139,6 +145,12 @@ public boolean preProcess(
     } else {
       // there might be an authentication annotation present on one parameter, register our hints
       config.addHandlerInterceptor(new HttpHandlerInterceptor() {
+        @Override
+        public boolean mayBlock() {
+          // the authentication is done when resolving the parameters of the handler
+          return true;
+        }
+
         @Override
         public boolean preProcess(
           @NonNull HttpContext context,
@@ -89,6 +89,11 @@ public void buildPreprocessor(
             .build();
         }
 
+        // stream based body types can be fed while the body is still being received
+        if (InputStream.class.isAssignableFrom(paramType) || Reader.class.isAssignableFrom(paramType)) {
+          config.streamRequestBody(true);
+        }
+
         return (context) -> {
           if (String.class.isAssignableFrom(param.getType())) {
             return context.request().bodyAsString();
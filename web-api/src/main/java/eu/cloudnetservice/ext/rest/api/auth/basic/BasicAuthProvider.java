@@ -95,8 +95,13 @@ public boolean supportsTokenGeneration() {
 
       // get the password, validate it and erase the password from the memory
       var passwordBytes = Arrays.copyOfRange(decodedBasicValue, basicAuthDelimiterIdx + 1, decodedBasicValue.length);
-      var suppliedValidPassword = this.validatePassword(extractedUser, passwordBytes);
-      Arrays.fill(passwordBytes, (byte) 0);
+      boolean suppliedValidPassword;
+      try {
+        suppliedValidPassword = this.authenticatePassword(context, management, extractedUser, passwordBytes);
+      } finally {
+        Arrays.fill(passwordBytes, (byte) 0);
+      }
+
       if (suppliedValidPassword) {
         // valid user and password
         return new AuthenticationResult.Success(extractedUser, null);
@@ -119,7 +124,40 @@ private int findBasicDelimiter(byte[] basicAuthValue) {
     return -1;
   }
 
-  public boolean validatePassword(@NonNull RestUser user, byte[] passwordBytes) {
+  /**
+   * Handles a basic auth login attempt of the given user with the given password. The default implementation
+   * delegates to {@link #validatePassword(RestUserManagement, RestUser, byte[])}, implementations can override this
+   * method to apply checks based on the request around the password validation, for example to throttle clients. The
+   * given password bytes are erased after this method returns.
+   *
+   * @param context       the context of the request that contains the login attempt.
+   * @param management    the user management the given user was loaded from.
+   * @param user          the user that tries to log in.
+   * @param passwordBytes the utf-8 encoded password supplied by the client.
+   * @return true if the login attempt is successful, false otherwise.
+   * @throws NullPointerException if the given context, management or user is null.
+   */
+  protected boolean authenticatePassword(
+    @NonNull HttpContext context,
+    @NonNull RestUserManagement management,
+    @NonNull RestUser user,
+    byte[] passwordBytes
+  ) {
+    return this.validatePassword(management, user, passwordBytes);
+  }
+
+  /**
+   * Validates that the given password is the password of the given user. This method is not bound to a request and is
+   * also used to verify passwords outside of logins. The given user management can be used to update the user, for
+   * example to rehash the password using new hash parameters. The default implementation rejects all passwords.
+   *
+   * @param management    the user management the given user was loaded from.
+   * @param user          the user to validate the password of.
+   * @param passwordBytes the utf-8 encoded password to validate.
+   * @return true if the given password is the password of the given user, false otherwise.
+   * @throws NullPointerException if the given management or user is null.
+   */
+  public boolean validatePassword(@NonNull RestUserManagement management, @NonNull RestUser user, byte[] passwordBytes) {
     return false;
   }
 }
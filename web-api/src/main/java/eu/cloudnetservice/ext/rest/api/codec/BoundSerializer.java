@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.codec;
+
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.NonNull;
+
+/**
+ * A serializer which was bound to a specific type by a {@link DataformatCodec}. All type specific lookups (for example
+ * resolving the adapter of the type) are done once while binding, making the serializer cheap to use repeatedly.
+ *
+ * @see DataformatCodec#serializer(java.lang.reflect.Type)
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface BoundSerializer {
+
+  /**
+   * Serializes the given object into the given output stream, using utf-8 as the charset for text based formats. The
+   * given object must be an instance of the type this serializer was bound to. The given stream is not closed by this
+   * method.
+   *
+   * @param object the object to serialize.
+   * @param target the stream to write the serialized object to.
+   * @throws NullPointerException if the given object or target stream is null.
+   * @throws UncheckedIOException if an I/O error occurs while writing to the given stream.
+   */
+  void serialize(@NonNull Object object, @NonNull OutputStream target);
+}
@@ -17,9 +17,11 @@
 package eu.cloudnetservice.ext.rest.api.codec;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A codec loader that resolves {@link DataformatCodec} implementations using the {@link ServiceLoader} from Java
@@ -31,7 +33,7 @@
  */
 public final class CodecLoader {
 
-  private static final Map<Class<?>, Object> CODEC_RESOLVE_CACHE = new ConcurrentHashMap<>(16, 0.9f, 1);
+  private static final Map<Class<?>, Optional<?>> CODEC_RESOLVE_CACHE = new ConcurrentHashMap<>(16, 0.9f, 1);
 
   private CodecLoader() {
     throw new UnsupportedOperationException();
@@ -47,12 +49,28 @@ private CodecLoader() {
    * @throws NullPointerException     if the given type is null.
    * @throws IllegalArgumentException if no codec for the given type was found.
    */
-  @SuppressWarnings("unchecked")
   public static @NonNull <T extends DataformatCodec> T resolveCodec(@NonNull Class<T> type) {
+    var codec = findCodec(type);
+    if (codec == null) {
+      throw new IllegalArgumentException("Missing codec implementation for: " + type.getSimpleName());
+    }
+
+    return codec;
+  }
+
+  /**
+   * Loads a codec using the given type from Java SPI, returning null if no implementation is available. The result of
+   * the lookup is cached and is used for any further calls for the same type.
+   *
+   * @param type the type of the codec.
+   * @param <T>  the generic type of the codec.
+   * @return the resolved codec for the given type, null if no codec for the given type was found.
+   * @throws NullPointerException if the given type is null.
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable <T extends DataformatCodec> T findCodec(@NonNull Class<T> type) {
     return (T) CODEC_RESOLVE_CACHE.computeIfAbsent(
       type,
-      __ -> ServiceLoader.load(type, type.getClassLoader())
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException("Missing codec implementation for: " + type.getSimpleName())));
+      __ -> ServiceLoader.load(type, type.getClassLoader()).findFirst()).orElse(null);
   }
 }
@@ -16,9 +16,13 @@
 
 package eu.cloudnetservice.ext.rest.api.codec;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import lombok.NonNull;
 
 /**
@@ -32,7 +36,8 @@
 public interface DataformatCodec {
 
   /**
-   * Serializes the given object from the given type into a string.
+   * Serializes the given object from the given type into a string. Codecs of binary formats return the base64 encoded
+   * binary representation of the given object.
    *
    * @param type   the type of the object to serialize.
    * @param object the object to serialize.
@@ -41,6 +46,41 @@ public interface DataformatCodec {
    */
   @NonNull String serialize(@NonNull Type type, @NonNull Object object);
 
+  /**
+   * Serializes the given object from the given type directly into the given output stream, using utf-8 as the charset
+   * for text based formats. Implementations should override this method to stream the serialized representation into
+   * the target without materializing it in memory first, the default implementation delegates to
+   * {@link #serialize(Type, Object)}. The given stream is not closed by this method.
+   *
+   * @param type   the type of the object to serialize.
+   * @param object the object to serialize.
+   * @param target the stream to write the serialized object to.
+   * @throws NullPointerException if the given type, object or target stream is null.
+   * @throws UncheckedIOException if an I/O error occurs while writing to the given stream.
+   */
+  default void serialize(@NonNull Type type, @NonNull Object object, @NonNull OutputStream target) {
+    try {
+      target.write(this.serialize(type, object).getBytes(StandardCharsets.UTF_8));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /**
+   * Binds a serializer to the given type. The returned serializer can be reused for all objects of the given type.
+   * Implementations which resolve expensive type information while binding should cache a bounded amount of bound
+   * serializers in the codec instance, callers can therefore call this method for each serialization. As cached
+   * serializers keep their type reachable, callers should only bind declared types rather than the runtime class of
+   * arbitrary objects. The default implementation delegates to {@link #serialize(Type, Object, OutputStream)}.
+   *
+   * @param type the type to bind the serializer to.
+   * @return a serializer bound to the given type.
+   * @throws NullPointerException if the given type is null.
+   */
+  default @NonNull BoundSerializer serializer(@NonNull Type type) {
+    return (object, target) -> this.serialize(type, object, target);
+  }
+
   /**
    * Deserializes the given input stream to an object of the given type.
    *
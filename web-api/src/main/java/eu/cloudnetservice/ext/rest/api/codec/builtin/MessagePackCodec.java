@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.codec.builtin;
+
+import eu.cloudnetservice.ext.rest.api.codec.CodecLoader;
+import eu.cloudnetservice.ext.rest.api.codec.DataformatCodec;
+
+/**
+ * A dataformat codec that serializes into and deserializes from the binary MessagePack format. As the format is
+ * binary, the string based serialization returns the base64 encoded MessagePack representation, the stream based
+ * methods should be preferred. The given charset is ignored when deserializing.
+ * <p>
+ * To obtain a codec implementation use {@code CodecLoader.findCodec(MessagePackCodec.class)}, a MessagePack codec
+ * is optional.
+ *
+ * @see CodecLoader
+ * @see DataformatCodec
+ * @since 1.0
+ */
+public interface MessagePackCodec extends DataformatCodec {
+
+}
@@ -23,24 +23,36 @@
 import eu.cloudnetservice.ext.rest.api.HttpHandler;
 import eu.cloudnetservice.ext.rest.api.connection.EmptyConnectionInfoResolver;
 import eu.cloudnetservice.ext.rest.api.connection.HttpConnectionInfoResolver;
+import eu.cloudnetservice.ext.rest.api.dispatch.RequestDispatchers;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public record ComponentConfig(
   int maxContentLength,
+  long maxStreamedContentLength,
   boolean disableNativeTransport,
+  boolean disableIoUringTransport,
+  boolean enableHttp2,
   @NonNull CorsConfig corsConfig,
+  @NonNull CompressionConfig compressionConfig,
+  @NonNull SocketConfig socketConfig,
+  @NonNull WebSocketConfig webSocketConfig,
+  @NonNull Http2Config http2Config,
   @NonNull HttpProxyMode haProxyMode,
   @NonNull HttpHandler fallbackHttpHandler,
   @NonNull ExecutorService executorService,
+  @NonNull Map<String, ExecutorService> dispatchPools,
   @Nullable SslConfiguration sslConfiguration,
   @NonNull HttpConnectionInfoResolver connectionInfoResolver
 ) {
 
   public static final int DEFAULT_MAX_CONTENT_LENGTH = 5 * 1024 * 1024;
+  public static final long DEFAULT_MAX_STREAMED_CONTENT_LENGTH = 1024L * 1024 * 1024;
 
   private static final HttpHandler DEFAULT_FALLBACK_HANDLER = new HttpHandler() {
     @Override
@@ -55,10 +67,18 @@ public record ComponentConfig(
 
   public static @NonNull Builder builder(@NonNull ComponentConfig componentConfig) {
     return new Builder()
+      .maxStreamedContentLength(componentConfig.maxStreamedContentLength())
       .disableNativeTransport(componentConfig.disableNativeTransport())
+      .disableIoUringTransport(componentConfig.disableIoUringTransport())
+      .enableHttp2(componentConfig.enableHttp2())
       .corsConfig(componentConfig.corsConfig())
+      .compressionConfig(componentConfig.compressionConfig())
+      .socketConfig(componentConfig.socketConfig())
+      .webSocketConfig(componentConfig.webSocketConfig())
+      .http2Config(componentConfig.http2Config())
       .haProxyMode(componentConfig.haProxyMode())
       .fallbackHttpHandler(componentConfig.fallbackHttpHandler())
+      .dispatchPools(componentConfig.dispatchPools())
       .sslConfiguration(componentConfig.sslConfiguration())
       .connectionInfoResolver(componentConfig.connectionInfoResolver());
   }
@@ -66,12 +86,20 @@ public record ComponentConfig(
   public static final class Builder {
 
     private int maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+    private long maxStreamedContentLength = DEFAULT_MAX_STREAMED_CONTENT_LENGTH;
     private boolean disableNativeTransport;
+    private boolean disableIoUringTransport;
+    private boolean enableHttp2;
     private HttpHandler fallbackHttpHandler = DEFAULT_FALLBACK_HANDLER;
     private ExecutorService executorService;
+    private Map<String, ExecutorService> dispatchPools = new HashMap<>();
     private SslConfiguration sslConfiguration;
     private HttpProxyMode haProxyMode = DISABLED;
     private CorsConfig.Builder corsConfigBuilder = CorsConfig.builder();
+    private CompressionConfig compressionConfig = CompressionConfig.builder().build();
+    private SocketConfig socketConfig = SocketConfig.builder().build();
+    private WebSocketConfig webSocketConfig = WebSocketConfig.builder().build();
+    private Http2Config http2Config = Http2Config.builder().build();
     private HttpConnectionInfoResolver connectionInfoResolver = EmptyConnectionInfoResolver.INSTANCE;
 
     public @NonNull Builder maxContentLength(int maxContentLength) {
@@ -81,11 +109,28 @@ public static final class Builder {
       return this;
     }
 
+    public @NonNull Builder maxStreamedContentLength(long maxStreamedContentLength) {
+      Preconditions.checkArgument(maxStreamedContentLength > 0, "maxStreamedContentLength must be greater than 0");
+
+      this.maxStreamedContentLength = maxStreamedContentLength;
+      return this;
+    }
+
     public @NonNull Builder disableNativeTransport(boolean disableNativeTransport) {
       this.disableNativeTransport = disableNativeTransport;
       return this;
     }
 
+    public @NonNull Builder disableIoUringTransport(boolean disableIoUringTransport) {
+      this.disableIoUringTransport = disableIoUringTransport;
+      return this;
+    }
+
+    public @NonNull Builder enableHttp2(boolean enableHttp2) {
+      this.enableHttp2 = enableHttp2;
+      return this;
+    }
+
     public @NonNull Builder fallbackHttpHandler(@NonNull HttpHandler fallbackHttpHandler) {
       this.fallbackHttpHandler = fallbackHttpHandler;
       return this;
@@ -111,6 +156,26 @@ public static final class Builder {
       return this;
     }
 
+    public @NonNull Builder compressionConfig(@NonNull CompressionConfig compressionConfig) {
+      this.compressionConfig = compressionConfig;
+      return this;
+    }
+
+    public @NonNull Builder socketConfig(@NonNull SocketConfig socketConfig) {
+      this.socketConfig = socketConfig;
+      return this;
+    }
+
+    public @NonNull Builder webSocketConfig(@NonNull WebSocketConfig webSocketConfig) {
+      this.webSocketConfig = webSocketConfig;
+      return this;
+    }
+
+    public @NonNull Builder http2Config(@NonNull Http2Config http2Config) {
+      this.http2Config = http2Config;
+      return this;
+    }
+
     public @NonNull Builder connectionInfoResolver(@NonNull HttpConnectionInfoResolver resolver) {
       this.connectionInfoResolver = resolver;
       return this;
@@ -126,16 +191,54 @@ public static final class Builder {
       return this;
     }
 
+    public @NonNull Builder virtualThreadExecutorService() {
+      return this.executorService(RequestDispatchers.newVirtualThreadDispatcher());
+    }
+
+    public @NonNull Builder boundedExecutorService(int threads, int queueCapacity) {
+      Preconditions.checkArgument(threads > 0, "threads must be greater than 0");
+      Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+
+      return this.executorService(RequestDispatchers.newBoundedDispatcher(threads, queueCapacity));
+    }
+
+    public @NonNull Builder dispatchPools(@NonNull Map<String, ExecutorService> dispatchPools) {
+      this.dispatchPools = new HashMap<>(dispatchPools);
+      return this;
+    }
+
+    public @NonNull Builder registerDispatchPool(@NonNull String name, @NonNull ExecutorService executorService) {
+      Preconditions.checkArgument(!name.isBlank(), "dispatch pool name must not be blank");
+
+      this.dispatchPools.put(name, executorService);
+      return this;
+    }
+
+    public @NonNull Builder registerBoundedDispatchPool(@NonNull String name, int threads, int queueCapacity) {
+      Preconditions.checkArgument(threads > 0, "threads must be greater than 0");
+      Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+
+      return this.registerDispatchPool(name, RequestDispatchers.newBoundedDispatcher(threads, queueCapacity));
+    }
+
     public @NonNull ComponentConfig build() {
       Preconditions.checkNotNull(this.executorService, "Missing executor service");
 
       return new ComponentConfig(
         this.maxContentLength,
+        this.maxStreamedContentLength,
         this.disableNativeTransport,
+        this.disableIoUringTransport,
+        this.enableHttp2,
         this.corsConfigBuilder.build(),
+        this.compressionConfig,
+        this.socketConfig,
+        this.webSocketConfig,
+        this.http2Config,
         this.haProxyMode,
         this.fallbackHttpHandler,
         this.executorService,
+        Map.copyOf(this.dispatchPools),
         this.sslConfiguration,
         this.connectionInfoResolver);
     }
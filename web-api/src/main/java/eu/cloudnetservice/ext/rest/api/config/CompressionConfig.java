@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import com.google.common.base.Preconditions;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The policy deciding which responses are compressed and which compression levels are used for each encoding. Brotli
+ * and zstd are only negotiated if their native implementation is available at runtime. The zstd implementation is
+ * shipped with the rest module, brotli is disabled by default as its natives must be provided separately.
+ *
+ * @param enabled            if responses should be compressed at all.
+ * @param minimumSize        the minimum size (in bytes) a response must have to be compressed.
+ * @param excludedMediaTypes the media types which are never compressed, can contain wildcard subtypes (type/*).
+ * @param gzipLevel          the gzip compression level, between 0 and 9.
+ * @param deflateLevel       the deflate compression level, between 0 and 9.
+ * @param brotliQuality      the brotli compression quality, between 0 and 11.
+ * @param zstdLevel          the zstd compression level, between 1 and 22.
+ * @param enableBrotli       if brotli should be negotiated when the brotli natives are available.
+ * @param enableZstd         if zstd should be negotiated when the zstd natives are available.
+ * @since 1.0
+ */
+public record CompressionConfig(
+  boolean enabled,
+  int minimumSize,
+  @NonNull Set<String> excludedMediaTypes,
+  int gzipLevel,
+  int deflateLevel,
+  int brotliQuality,
+  int zstdLevel,
+  boolean enableBrotli,
+  boolean enableZstd
+) {
+
+  public static final int DEFAULT_MINIMUM_SIZE = 1024;
+  public static final Set<String> DEFAULT_EXCLUDED_MEDIA_TYPES = Set.of(
+    "application/octet-stream",
+    "application/zip",
+    "application/gzip",
+    "application/x-gzip",
+    "application/zstd",
+    "application/x-7z-compressed",
+    "application/x-rar-compressed",
+    "application/java-archive",
+    "image/*",
+    "video/*",
+    "audio/*",
+    "font/woff",
+    "font/woff2");
+
+  /**
+   * Constructs a new compression config instance, validating the given levels and normalizing the excluded media types.
+   *
+   * @param enabled            if responses should be compressed at all.
+   * @param minimumSize        the minimum size (in bytes) a response must have to be compressed.
+   * @param excludedMediaTypes the media types which are never compressed, can contain wildcard subtypes (type/*).
+   * @param gzipLevel          the gzip compression level, between 0 and 9.
+   * @param deflateLevel       the deflate compression level, between 0 and 9.
+   * @param brotliQuality      the brotli compression quality, between 0 and 11.
+   * @param zstdLevel          the zstd compression level, between 1 and 22.
+   * @param enableBrotli       if brotli should be negotiated when the brotli natives are available.
+   * @param enableZstd         if zstd should be negotiated when the zstd natives are available.
+   * @throws NullPointerException     if the given excluded media types are null.
+   * @throws IllegalArgumentException if the minimum size is negative or one of the levels is out of range.
+   */
+  public CompressionConfig {
+    Preconditions.checkArgument(minimumSize >= 0, "minimumSize must not be negative");
+    Preconditions.checkArgument(gzipLevel >= 0 && gzipLevel <= 9, "gzipLevel must be between 0 and 9");
+    Preconditions.checkArgument(deflateLevel >= 0 && deflateLevel <= 9, "deflateLevel must be between 0 and 9");
+    Preconditions.checkArgument(brotliQuality >= 0 && brotliQuality <= 11, "brotliQuality must be between 0 and 11");
+    Preconditions.checkArgument(zstdLevel >= 1 && zstdLevel <= 22, "zstdLevel must be between 1 and 22");
+
+    excludedMediaTypes = excludedMediaTypes.stream()
+      .map(mediaType -> mediaType.trim().toLowerCase(Locale.ROOT))
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  public static @NonNull Builder builder(@NonNull CompressionConfig config) {
+    return builder()
+      .enabled(config.enabled())
+      .minimumSize(config.minimumSize())
+      .excludedMediaTypes(config.excludedMediaTypes())
+      .gzipLevel(config.gzipLevel())
+      .deflateLevel(config.deflateLevel())
+      .brotliQuality(config.brotliQuality())
+      .zstdLevel(config.zstdLevel())
+      .enableBrotli(config.enableBrotli())
+      .enableZstd(config.enableZstd());
+  }
+
+  /**
+   * Checks if a response with the given content type should be compressed according to this policy. Responses without
+   * a content type are compressed if compression is enabled.
+   *
+   * @param contentType the content type of the response, can be null if the response has no content type.
+   * @return true if the response should be compressed, false otherwise.
+   */
+  public boolean shouldCompress(@Nullable String contentType) {
+    if (!this.enabled) {
+      return false;
+    }
+
+    if (contentType == null) {
+      return true;
+    }
+
+    // strip the parameters from the content type, only the type and subtype are relevant
+    var parameterStart = contentType.indexOf(';');
+    var mediaType = (parameterStart == -1 ? contentType : contentType.substring(0, parameterStart))
+      .trim()
+      .toLowerCase(Locale.ROOT);
+    if (this.excludedMediaTypes.contains(mediaType)) {
+      return false;
+    }
+
+    // check for an exclusion of all subtypes of the type
+    var subtypeStart = mediaType.indexOf('/');
+    return subtypeStart == -1 || !this.excludedMediaTypes.contains(mediaType.substring(0, subtypeStart) + "/*");
+  }
+
+  public static final class Builder {
+
+    private boolean enabled = true;
+    private int minimumSize = DEFAULT_MINIMUM_SIZE;
+    private Set<String> excludedMediaTypes = new HashSet<>(DEFAULT_EXCLUDED_MEDIA_TYPES);
+    private int gzipLevel = 6;
+    private int deflateLevel = 6;
+    private int brotliQuality = 4;
+    private int zstdLevel = 3;
+    private boolean enableBrotli;
+    private boolean enableZstd = true;
+
+    public @NonNull Builder enabled(boolean enabled) {
+      this.enabled = enabled;
+      return this;
+    }
+
+    public @NonNull Builder minimumSize(int minimumSize) {
+      this.minimumSize = minimumSize;
+      return this;
+    }
+
+    public @NonNull Builder excludedMediaTypes(@NonNull Collection<String> excludedMediaTypes) {
+      this.excludedMediaTypes = new HashSet<>();
+      excludedMediaTypes.forEach(this::excludeMediaType);
+      return this;
+    }
+
+    public @NonNull Builder excludeMediaType(@NonNull String mediaType) {
+      this.excludedMediaTypes.add(mediaType);
+      return this;
+    }
+
+    public @NonNull Builder gzipLevel(int gzipLevel) {
+      this.gzipLevel = gzipLevel;
+      return this;
+    }
+
+    public @NonNull Builder deflateLevel(int deflateLevel) {
+      this.deflateLevel = deflateLevel;
+      return this;
+    }
+
+    public @NonNull Builder brotliQuality(int brotliQuality) {
+      this.brotliQuality = brotliQuality;
+      return this;
+    }
+
+    public @NonNull Builder zstdLevel(int zstdLevel) {
+      this.zstdLevel = zstdLevel;
+      return this;
+    }
+
+    public @NonNull Builder enableBrotli(boolean enableBrotli) {
+      this.enableBrotli = enableBrotli;
+      return this;
+    }
+
+    public @NonNull Builder enableZstd(boolean enableZstd) {
+      this.enableZstd = enableZstd;
+      return this;
+    }
+
+    public @NonNull CompressionConfig build() {
+      return new CompressionConfig(
+        this.enabled,
+        this.minimumSize,
+        this.excludedMediaTypes,
+        this.gzipLevel,
+        this.deflateLevel,
+        this.brotliQuality,
+        this.zstdLevel,
+        this.enableBrotli,
+        this.enableZstd);
+    }
+  }
+}
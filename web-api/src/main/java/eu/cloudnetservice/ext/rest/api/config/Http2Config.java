@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+/**
+ * The settings which are sent to clients on http/2 connections. Each stream of a http/2 connection is dispatched as a
+ * separate request, the maximum amount of concurrent streams therefore limits the amount of requests a single
+ * connection can have in flight.
+ *
+ * @param maxConcurrentStreams the maximum amount of streams a client can open concurrently on one connection.
+ * @param maxHeaderListSize    the maximum size (in bytes) of the header list of a request.
+ * @since 1.0
+ */
+public record Http2Config(int maxConcurrentStreams, int maxHeaderListSize) {
+
+  public static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+  public static final int DEFAULT_MAX_HEADER_LIST_SIZE = 8 * 1024;
+
+  /**
+   * Constructs a new http/2 config instance, validating the given settings.
+   *
+   * @param maxConcurrentStreams the maximum amount of streams a client can open concurrently on one connection.
+   * @param maxHeaderListSize    the maximum size (in bytes) of the header list of a request.
+   * @throws IllegalArgumentException if one of the given settings is not positive.
+   */
+  public Http2Config {
+    Preconditions.checkArgument(maxConcurrentStreams > 0, "maxConcurrentStreams must be greater than 0");
+    Preconditions.checkArgument(maxHeaderListSize > 0, "maxHeaderListSize must be greater than 0");
+  }
+
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  public static @NonNull Builder builder(@NonNull Http2Config config) {
+    return builder()
+      .maxConcurrentStreams(config.maxConcurrentStreams())
+      .maxHeaderListSize(config.maxHeaderListSize());
+  }
+
+  public static final class Builder {
+
+    private int maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+    private int maxHeaderListSize = DEFAULT_MAX_HEADER_LIST_SIZE;
+
+    public @NonNull Builder maxConcurrentStreams(int maxConcurrentStreams) {
+      this.maxConcurrentStreams = maxConcurrentStreams;
+      return this;
+    }
+
+    public @NonNull Builder maxHeaderListSize(int maxHeaderListSize) {
+      this.maxHeaderListSize = maxHeaderListSize;
+      return this;
+    }
+
+    public @NonNull Http2Config build() {
+      return new Http2Config(this.maxConcurrentStreams, this.maxHeaderListSize);
+    }
+  }
+}
@@ -31,7 +31,10 @@
 public record HttpHandlerConfig(
   @NonNull HttpMethod httpMethod,
   @Nullable CorsConfig corsConfig,
-  @NonNull List<HttpHandlerInterceptor> handlerInterceptors
+  @NonNull List<HttpHandlerInterceptor> handlerInterceptors,
+  boolean nonBlocking,
+  @Nullable String dispatchPool,
+  boolean streamRequestBody
 ) {
 
   public static @NonNull Builder builder() {
@@ -42,7 +45,25 @@ public record HttpHandlerConfig(
     return builder()
       .httpMethod(config.httpMethod())
       .corsConfiguration(config.corsConfig())
-      .handlerInterceptors(config.handlerInterceptors());
+      .handlerInterceptors(config.handlerInterceptors())
+      .nonBlocking(config.nonBlocking())
+      .dispatchPool(config.dispatchPool())
+      .streamRequestBody(config.streamRequestBody());
+  }
+
+  public boolean processableOnIoThread() {
+    // handlers reading a streamed body would block the io thread which has to receive the body
+    if (!this.nonBlocking || this.streamRequestBody) {
+      return false;
+    }
+
+    for (var interceptor : this.handlerInterceptors) {
+      if (interceptor.mayBlock()) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
   public boolean invokePreProcessors(
@@ -88,6 +109,9 @@ public static final class Builder {
     private HttpMethod httpMethod;
     private CorsConfig corsConfig;
     private List<HttpHandlerInterceptor> handlerInterceptors = new LinkedList<>();
+    private boolean nonBlocking;
+    private String dispatchPool;
+    private boolean streamRequestBody;
 
     private Builder() {
     }
@@ -118,13 +142,31 @@ private Builder() {
       return this;
     }
 
+    public @NonNull Builder nonBlocking(boolean nonBlocking) {
+      this.nonBlocking = nonBlocking;
+      return this;
+    }
+
+    public @NonNull Builder dispatchPool(@Nullable String dispatchPool) {
+      this.dispatchPool = dispatchPool;
+      return this;
+    }
+
+    public @NonNull Builder streamRequestBody(boolean streamRequestBody) {
+      this.streamRequestBody = streamRequestBody;
+      return this;
+    }
+
     public @NonNull HttpHandlerConfig build() {
       Preconditions.checkNotNull(this.httpMethod, "http method is required");
 
       return new HttpHandlerConfig(
         this.httpMethod,
         this.corsConfig,
-        Arrays.asList(this.handlerInterceptors.toArray(HttpHandlerInterceptor[]::new)));
+        Arrays.asList(this.handlerInterceptors.toArray(HttpHandlerInterceptor[]::new)),
+        this.nonBlocking,
+        this.dispatchPool,
+        this.streamRequestBody);
     }
   }
 }
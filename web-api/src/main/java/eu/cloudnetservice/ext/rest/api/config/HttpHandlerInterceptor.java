@@ -37,6 +37,17 @@ public interface HttpHandlerInterceptor {
    * @return the http context to pass to the handler, or null to drop the request execution.
    * @throws NullPointerException if the given path or context is null.
    */
+  /**
+   * Gets if this interceptor might block the calling thread while processing a request, for example because it has
+   * to load data from a database. Handlers which are marked as non-blocking are still dispatched to the executor of
+   * the component if one of their interceptors might block.
+   *
+   * @return true if this interceptor might block the calling thread, false otherwise.
+   */
+  default boolean mayBlock() {
+    return false;
+  }
+
   default boolean preProcess(
     @NonNull HttpContext context,
     @NonNull HttpHandler handler,
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+/**
+ * The options applied to the server sockets of the http server and the connections accepted by them.
+ *
+ * @param backlog                  the backlog of the server sockets, 0 to use the default of the transport.
+ * @param tcpFastOpen              the tcp fast open queue length, 0 to disable. Only applied on native transports.
+ * @param writeBufferLowWaterMark  the amount of queued bytes below which a connection becomes writable again.
+ * @param writeBufferHighWaterMark the amount of queued bytes above which a connection is no longer writable.
+ * @param acceptorThreads          the amount of server sockets bound per listener when the port is reused.
+ * @param workerThreads            the amount of threads handling connections, 0 to use the default of netty.
+ * @param reusePort                if one server socket per acceptor thread should be bound using SO_REUSEPORT.
+ * @since 1.0
+ */
+public record SocketConfig(
+  int backlog,
+  int tcpFastOpen,
+  int writeBufferLowWaterMark,
+  int writeBufferHighWaterMark,
+  int acceptorThreads,
+  int workerThreads,
+  boolean reusePort
+) {
+
+  public static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 32 * 1024;
+  public static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 64 * 1024;
+
+  /**
+   * Constructs a new socket config instance, validating the given options.
+   *
+   * @param backlog                  the backlog of the server sockets, 0 to use the default of the transport.
+   * @param tcpFastOpen              the tcp fast open queue length, 0 to disable. Only applied on native transports.
+   * @param writeBufferLowWaterMark  the amount of queued bytes below which a connection becomes writable again.
+   * @param writeBufferHighWaterMark the amount of queued bytes above which a connection is no longer writable.
+   * @param acceptorThreads          the amount of server sockets bound per listener when the port is reused.
+   * @param workerThreads            the amount of threads handling connections, 0 to use the default of netty.
+   * @param reusePort                if one server socket per acceptor thread should be bound using SO_REUSEPORT.
+   * @throws IllegalArgumentException if one of the given options is out of range.
+   */
+  public SocketConfig {
+    Preconditions.checkArgument(backlog >= 0, "backlog must not be negative");
+    Preconditions.checkArgument(tcpFastOpen >= 0, "tcpFastOpen must not be negative");
+    Preconditions.checkArgument(writeBufferLowWaterMark >= 0, "writeBufferLowWaterMark must not be negative");
+    Preconditions.checkArgument(
+      writeBufferHighWaterMark > 0 && writeBufferHighWaterMark >= writeBufferLowWaterMark,
+      "writeBufferHighWaterMark must be greater than 0 and greater than or equal to writeBufferLowWaterMark");
+    Preconditions.checkArgument(acceptorThreads > 0, "acceptorThreads must be greater than 0");
+    Preconditions.checkArgument(workerThreads >= 0, "workerThreads must not be negative");
+  }
+
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  public static @NonNull Builder builder(@NonNull SocketConfig config) {
+    return builder()
+      .backlog(config.backlog())
+      .tcpFastOpen(config.tcpFastOpen())
+      .writeBufferWaterMark(config.writeBufferLowWaterMark(), config.writeBufferHighWaterMark())
+      .acceptorThreads(config.acceptorThreads())
+      .workerThreads(config.workerThreads())
+      .reusePort(config.reusePort());
+  }
+
+  public static final class Builder {
+
+    private int backlog;
+    private int tcpFastOpen;
+    private int writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+    private int writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+    private int acceptorThreads = 1;
+    private int workerThreads;
+    private boolean reusePort;
+
+    public @NonNull Builder backlog(int backlog) {
+      this.backlog = backlog;
+      return this;
+    }
+
+    public @NonNull Builder tcpFastOpen(int tcpFastOpen) {
+      this.tcpFastOpen = tcpFastOpen;
+      return this;
+    }
+
+    public @NonNull Builder writeBufferWaterMark(int low, int high) {
+      this.writeBufferLowWaterMark = low;
+      this.writeBufferHighWaterMark = high;
+      return this;
+    }
+
+    public @NonNull Builder acceptorThreads(int acceptorThreads) {
+      this.acceptorThreads = acceptorThreads;
+      return this;
+    }
+
+    public @NonNull Builder workerThreads(int workerThreads) {
+      this.workerThreads = workerThreads;
+      return this;
+    }
+
+    public @NonNull Builder reusePort(boolean reusePort) {
+      this.reusePort = reusePort;
+      return this;
+    }
+
+    public @NonNull SocketConfig build() {
+      return new SocketConfig(
+        this.backlog,
+        this.tcpFastOpen,
+        this.writeBufferLowWaterMark,
+        this.writeBufferHighWaterMark,
+        this.acceptorThreads,
+        this.workerThreads,
+        this.reusePort);
+    }
+  }
+}
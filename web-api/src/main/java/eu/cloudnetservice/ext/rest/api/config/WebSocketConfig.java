@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketSlowConsumerPolicy;
+import lombok.NonNull;
+
+/**
+ * The outbound limits of web socket channels. Frames which can not be written directly because the recipient is not
+ * reading fast enough are queued, once the queued frames exceed the configured limit the slow consumer policy applies.
+ *
+ * @param maxQueuedBytes     the maximum amount of bytes that can be queued for sending per channel.
+ * @param slowConsumerPolicy the policy to apply when sending a frame would exceed the queued bytes limit.
+ * @since 1.0
+ */
+public record WebSocketConfig(long maxQueuedBytes, @NonNull WebSocketSlowConsumerPolicy slowConsumerPolicy) {
+
+  public static final long DEFAULT_MAX_QUEUED_BYTES = 4 * 1024 * 1024;
+
+  /**
+   * Constructs a new web socket config instance, validating the given limits.
+   *
+   * @param maxQueuedBytes     the maximum amount of bytes that can be queued for sending per channel.
+   * @param slowConsumerPolicy the policy to apply when sending a frame would exceed the queued bytes limit.
+   * @throws NullPointerException     if the given slow consumer policy is null.
+   * @throws IllegalArgumentException if the given maximum amount of queued bytes is not positive.
+   */
+  public WebSocketConfig {
+    Preconditions.checkArgument(maxQueuedBytes > 0, "maxQueuedBytes must be greater than 0");
+  }
+
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  public static @NonNull Builder builder(@NonNull WebSocketConfig config) {
+    return builder()
+      .maxQueuedBytes(config.maxQueuedBytes())
+      .slowConsumerPolicy(config.slowConsumerPolicy());
+  }
+
+  public static final class Builder {
+
+    private long maxQueuedBytes = DEFAULT_MAX_QUEUED_BYTES;
+    private WebSocketSlowConsumerPolicy slowConsumerPolicy = WebSocketSlowConsumerPolicy.DISCONNECT;
+
+    public @NonNull Builder maxQueuedBytes(long maxQueuedBytes) {
+      this.maxQueuedBytes = maxQueuedBytes;
+      return this;
+    }
+
+    public @NonNull Builder slowConsumerPolicy(@NonNull WebSocketSlowConsumerPolicy slowConsumerPolicy) {
+      this.slowConsumerPolicy = slowConsumerPolicy;
+      return this;
+    }
+
+    public @NonNull WebSocketConfig build() {
+      return new WebSocketConfig(this.maxQueuedBytes, this.slowConsumerPolicy);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.dispatch;
+
+import com.google.common.base.Preconditions;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+
+/**
+ * A request dispatcher with a fixed amount of threads and a bounded queue that sheds load based on the time requests
+ * spend waiting in the queue, following the idea of the controlled delay (CoDel) algorithm.
+ * <p>
+ * Each time a worker takes a request from the queue the time the request spent waiting is compared to the target
+ * delay. If the delay stays above the target for a full interval, the dispatcher considers itself overloaded and
+ * rejects newly submitted requests with a {@link RequestDispatchRejectedException} until either a request was taken
+ * from the queue that waited less than the target delay or the queue was fully drained. Requests are additionally
+ * rejected if the queue is full. This prevents requests from waiting for seconds in the queue, they are instead
+ * rejected early allowing the client to retry the request later.
+ *
+ * @since 1.0
+ */
+public final class LoadSheddingDispatcher extends ThreadPoolExecutor {
+
+  public static final Duration DEFAULT_TARGET_DELAY = Duration.ofMillis(50);
+  public static final Duration DEFAULT_INTERVAL = Duration.ofMillis(500);
+
+  private final long targetDelayNanos;
+  private final long intervalNanos;
+  private final Duration retryAfter;
+
+  private final AtomicLong firstAboveTargetTime = new AtomicLong();
+  private volatile boolean shedding;
+
+  /**
+   * Constructs a new load shedding dispatcher.
+   *
+   * @param threads       the amount of threads that are used to process requests.
+   * @param queueCapacity the maximum amount of requests that can wait for processing.
+   * @param targetDelay   the maximum time a request should wait in the queue before being processed.
+   * @param interval      the time the queue delay must stay above the target delay before shedding load.
+   * @param threadFactory the factory for the threads used to process requests.
+   * @throws NullPointerException     if the given target delay, interval or thread factory is null.
+   * @throws IllegalArgumentException if the given thread count, queue capacity, target delay or interval is invalid.
+   */
+  public LoadSheddingDispatcher(
+    int threads,
+    int queueCapacity,
+    @NonNull Duration targetDelay,
+    @NonNull Duration interval,
+    @NonNull ThreadFactory threadFactory
+  ) {
+    super(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+    Preconditions.checkArgument(targetDelay.isPositive(), "targetDelay must be positive");
+    Preconditions.checkArgument(interval.isPositive(), "interval must be positive");
+
+    this.targetDelayNanos = targetDelay.toNanos();
+    this.intervalNanos = interval.toNanos();
+    this.retryAfter = Duration.ofSeconds(Math.max(1, interval.toSeconds()));
+
+    // all threads are core threads to make sure that all of them are actually used, allow them to time out
+    // though to not keep threads alive for no reason while idling
+    this.allowCoreThreadTimeOut(true);
+    this.setRejectedExecutionHandler((task, executor) -> {
+      throw new RequestDispatchRejectedException("Dispatcher queue is full", this.retryAfter);
+    });
+  }
+
+  /**
+   * Get if the dispatcher is currently shedding load, meaning that new requests get rejected.
+   *
+   * @return true if the dispatcher is currently shedding load, false otherwise.
+   */
+  public boolean shedding() {
+    return this.shedding;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void execute(@NonNull Runnable command) {
+    if (this.shedding) {
+      if (!this.getQueue().isEmpty()) {
+        throw new RequestDispatchRejectedException("Dispatcher queue delay above target", this.retryAfter);
+      }
+
+      // the queue was drained, there is no reason to keep shedding load
+      this.shedding = false;
+    }
+
+    super.execute(new QueuedTask(command, System.nanoTime()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void beforeExecute(@NonNull Thread thread, @NonNull Runnable runnable) {
+    if (runnable instanceof QueuedTask queuedTask) {
+      var now = System.nanoTime();
+      this.recordQueueDelay(now, now - queuedTask.enqueueTime());
+    }
+  }
+
+  /**
+   * Records the time a request waited in the queue and updates the shedding state accordingly.
+   *
+   * @param now        the current nano time.
+   * @param queueDelay the time in nanoseconds the request waited in the queue.
+   */
+  private void recordQueueDelay(long now, long queueDelay) {
+    if (queueDelay < this.targetDelayNanos) {
+      // the request was processed in time, leave the shedding state
+      // only write when the state actually changes to not contend on the shared fields from all workers
+      if (this.firstAboveTargetTime.get() != 0) {
+        this.firstAboveTargetTime.set(0);
+      }
+      if (this.shedding) {
+        this.shedding = false;
+      }
+      return;
+    }
+
+    var firstAboveTarget = this.firstAboveTargetTime.get();
+    if (firstAboveTarget == 0) {
+      // first request above the target delay, the delay must stay above target for an interval to start shedding
+      // if multiple workers race here only one of them starts the interval
+      this.firstAboveTargetTime.compareAndSet(0, now + this.intervalNanos);
+    } else if (now - firstAboveTarget >= 0 && !this.shedding) {
+      this.shedding = true;
+    }
+  }
+
+  /**
+   * A task wrapper which holds the time when the wrapped task was submitted to the dispatcher.
+   *
+   * @param delegate    the actual task to execute.
+   * @param enqueueTime the nano time when the task was submitted.
+   * @since 1.0
+   */
+  private record QueuedTask(@NonNull Runnable delegate, long enqueueTime) implements Runnable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+      this.delegate.run();
+    }
+  }
+}
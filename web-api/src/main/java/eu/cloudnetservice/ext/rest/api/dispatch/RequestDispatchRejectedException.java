@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.dispatch;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.NonNull;
+
+/**
+ * An exception thrown by a request dispatcher if a request was rejected due to overload. The exception contains the
+ * time after which the client can retry the request.
+ *
+ * @since 1.0
+ */
+public final class RequestDispatchRejectedException extends RejectedExecutionException {
+
+  @Serial
+  private static final long serialVersionUID = -2715146203871431695L;
+
+  private final Duration retryAfter;
+
+  /**
+   * Constructs a new request dispatch rejected exception.
+   *
+   * @param message    the detail message of the exception.
+   * @param retryAfter the time after which the client can retry the rejected request.
+   * @throws NullPointerException if the given message or retry after duration is null.
+   */
+  public RequestDispatchRejectedException(@NonNull String message, @NonNull Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * Get the time after which the client can retry the rejected request.
+   *
+   * @return the time after which the client can retry the rejected request.
+   */
+  public @NonNull Duration retryAfter() {
+    return this.retryAfter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Throwable fillInStackTrace() {
+    // the stack trace is not of interest, and we don't want to pay for it when shedding load
+    return this;
+  }
+}
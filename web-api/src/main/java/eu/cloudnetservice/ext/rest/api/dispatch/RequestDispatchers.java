@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.dispatch;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+
+/**
+ * Factory methods for the executor services that can be used to dispatch requests to their http handlers.
+ *
+ * @since 1.0
+ */
+public final class RequestDispatchers {
+
+  /**
+   * The name prefix of the virtual threads created by the virtual thread dispatcher.
+   */
+  static final String VIRTUAL_THREAD_NAME_PREFIX = "rest-request-dispatcher-";
+
+  private RequestDispatchers() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Creates a new executor service that executes each request on a new virtual thread. This is especially useful when
+   * http handlers are mostly waiting on blocking calls, as the amount of concurrently handled requests is not bound to
+   * the size of a platform thread pool. Virtual threads that get pinned to their carrier thread can be reported using
+   * the {@link VirtualThreadPinningReporter}, which must be started and stopped by the caller.
+   *
+   * @return a new executor service executing each request on a new virtual thread.
+   */
+  public static @NonNull ExecutorService newVirtualThreadDispatcher() {
+    var threadFactory = Thread.ofVirtual().name(VIRTUAL_THREAD_NAME_PREFIX, 0).factory();
+    return Executors.newThreadPerTaskExecutor(threadFactory);
+  }
+
+  /**
+   * Creates a new bounded executor service that sheds load based on the time requests wait in the queue. The
+   * dispatcher uses the default target delay and interval, see {@link LoadSheddingDispatcher} for more information.
+   *
+   * @param threads       the amount of threads that are used to process requests.
+   * @param queueCapacity the maximum amount of requests that can wait for processing.
+   * @return a new bounded executor service shedding load when overloaded.
+   * @throws IllegalArgumentException if the given thread count or queue capacity is invalid.
+   */
+  public static @NonNull ExecutorService newBoundedDispatcher(int threads, int queueCapacity) {
+    return newBoundedDispatcher(
+      threads,
+      queueCapacity,
+      LoadSheddingDispatcher.DEFAULT_TARGET_DELAY,
+      LoadSheddingDispatcher.DEFAULT_INTERVAL);
+  }
+
+  /**
+   * Creates a new bounded executor service that sheds load based on the time requests wait in the queue, see
+   * {@link LoadSheddingDispatcher} for more information.
+   *
+   * @param threads       the amount of threads that are used to process requests.
+   * @param queueCapacity the maximum amount of requests that can wait for processing.
+   * @param targetDelay   the maximum time a request should wait in the queue before being processed.
+   * @param interval      the time the queue delay must stay above the target delay before shedding load.
+   * @return a new bounded executor service shedding load when overloaded.
+   * @throws NullPointerException     if the given target delay or interval is null.
+   * @throws IllegalArgumentException if the given thread count, queue capacity, target delay or interval is invalid.
+   */
+  public static @NonNull ExecutorService newBoundedDispatcher(
+    int threads,
+    int queueCapacity,
+    @NonNull Duration targetDelay,
+    @NonNull Duration interval
+  ) {
+    return new LoadSheddingDispatcher(
+      threads,
+      queueCapacity,
+      targetDelay,
+      interval,
+      newPlatformThreadFactory("rest-request-dispatcher-"));
+  }
+
+  /**
+   * Creates a new thread factory for daemon platform threads, naming the threads with the given prefix followed by a
+   * sequential thread number.
+   *
+   * @param namePrefix the prefix for the names of the created threads.
+   * @return a new thread factory for daemon platform threads.
+   * @throws NullPointerException if the given name prefix is null.
+   */
+  static @NonNull ThreadFactory newPlatformThreadFactory(@NonNull String namePrefix) {
+    var threadCounter = new AtomicInteger();
+    return runnable -> {
+      var thread = new Thread(runnable, namePrefix + threadCounter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
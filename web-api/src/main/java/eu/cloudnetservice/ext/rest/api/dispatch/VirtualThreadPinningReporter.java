@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.dispatch;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A reporter for virtual threads that get pinned to their carrier thread while executing a request. A pinned virtual
+ * thread blocks its carrier thread (for example when blocking inside a native frame), reducing the amount of requests
+ * that can be processed concurrently. Pinning events are collected using the {@code jdk.VirtualThreadPinned} flight
+ * recorder event and are logged as a warning including the stack trace of the pinned thread. Only the virtual threads
+ * of the dispatcher created by {@link RequestDispatchers#newVirtualThreadDispatcher()} are reported, pinning events of
+ * other virtual threads in the jvm are ignored.
+ *
+ * @since 1.0
+ */
+public final class VirtualThreadPinningReporter {
+
+  /**
+   * The default threshold a virtual thread must be pinned for to get reported, matches the default of the jdk.
+   */
+  public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(20);
+
+  private static final int MAX_REPORTED_FRAMES = 10;
+  private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningReporter.class);
+
+  private static RecordingStream recordingStream;
+
+  private VirtualThreadPinningReporter() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Starts the reporting of pinned virtual threads using the default threshold. This method has no effect if the
+   * reporting was already started.
+   *
+   * @return true if the reporting is running, false if the flight recorder is not available in the current jvm.
+   */
+  public static boolean startReporting() {
+    return startReporting(DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Starts the reporting of virtual threads which are pinned to their carrier for at least the given threshold. This
+   * method has no effect if the reporting was already started.
+   *
+   * @param threshold the minimum duration a virtual thread must be pinned to get reported.
+   * @return true if the reporting is running, false if the flight recorder is not available in the current jvm.
+   * @throws NullPointerException if the given threshold is null.
+   */
+  public static synchronized boolean startReporting(@NonNull Duration threshold) {
+    if (recordingStream != null) {
+      return true;
+    }
+
+    try {
+      var stream = new RecordingStream();
+      stream.enable(PINNED_EVENT_NAME).withThreshold(threshold).withStackTrace();
+      stream.onEvent(PINNED_EVENT_NAME, VirtualThreadPinningReporter::reportPinnedThread);
+      stream.startAsync();
+
+      recordingStream = stream;
+      return true;
+    } catch (Exception | LinkageError exception) {
+      LOGGER.debug("Unable to start reporting of pinned virtual threads", exception);
+      return false;
+    }
+  }
+
+  /**
+   * Stops the reporting of pinned virtual threads. This method has no effect if the reporting is not running.
+   */
+  public static synchronized void stopReporting() {
+    if (recordingStream != null) {
+      recordingStream.close();
+      recordingStream = null;
+    }
+  }
+
+  /**
+   * Logs the information about the pinned thread contained in the given pinning event, if the pinned thread is a thread
+   * of the virtual thread dispatcher.
+   *
+   * @param event the pinning event to report.
+   * @throws NullPointerException if the given event is null.
+   */
+  private static void reportPinnedThread(@NonNull RecordedEvent event) {
+    // the event is emitted for all virtual threads in the jvm, only report the threads which are handling requests
+    var thread = event.getThread();
+    var threadName = thread == null ? null : thread.getJavaName();
+    if (threadName == null || !threadName.startsWith(RequestDispatchers.VIRTUAL_THREAD_NAME_PREFIX)) {
+      return;
+    }
+
+    var stackTrace = new StringJoiner("\n\tat ", "\n\tat ", "").setEmptyValue("");
+    if (event.getStackTrace() != null) {
+      var frames = event.getStackTrace().getFrames();
+      for (var index = 0; index < Math.min(frames.size(), MAX_REPORTED_FRAMES); index++) {
+        var frame = frames.get(index);
+        var method = frame.getMethod();
+        stackTrace.add(String.format("%s.%s:%d", method.getType().getName(), method.getName(), frame.getLineNumber()));
+      }
+    }
+
+    LOGGER.warn(
+      "Virtual thread {} was pinned to its carrier thread for {}ms while handling a request{}",
+      threadName,
+      event.getDuration().toMillis(),
+      stackTrace);
+  }
+}
@@ -169,6 +169,14 @@ public DefaultHttpHandlerRegistry(@NonNull ComponentConfig componentConfig) {
    */
   @Override
   public void registerHandler(@NonNull String path, @NonNull HttpHandler handler, @NonNull HttpHandlerConfig config) {
+    // ensure that the dispatch pool of the handler is known before modifying the tree
+    var dispatchPool = config.dispatchPool();
+    if (dispatchPool != null && !this.componentConfig.dispatchPools().containsKey(dispatchPool)) {
+      throw new HttpHandlerRegisterException(
+        "Tried to register http handler for path %s using unknown dispatch pool %s",
+        path, dispatchPool);
+    }
+
     // no need to do further checks if the root handler was requested
     var targetTreeNode = this.rootHandlerTreeNode;
     if (!path.isBlank() && !path.equals("/")) {
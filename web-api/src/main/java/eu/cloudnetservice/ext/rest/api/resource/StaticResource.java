@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.resource;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A static resource which was loaded into memory once and is served from memory afterward.
+ *
+ * @param path        the path of the resource, relative to the base path of the cache it was loaded by.
+ * @param contentType the content type of the resource.
+ * @param content     the uncompressed content of the resource.
+ * @param gzipContent the gzip compressed content of the resource, null if compressing the resource isn't beneficial.
+ * @param entityTag   the strong entity tag of the uncompressed resource content, including the surrounding quotes.
+ * @param immutable   if the resource is immutable as its name contains a hash of its content.
+ * @since 1.0
+ */
+public record StaticResource(
+  @NonNull String path,
+  @NonNull String contentType,
+  byte[] content,
+  byte[] gzipContent,
+  @NonNull String entityTag,
+  boolean immutable
+) {
+
+  /**
+   * Get the entity tag of the gzip compressed representation of this resource, null if there is no compressed
+   * representation of this resource.
+   *
+   * @return the entity tag of the gzip compressed representation of this resource.
+   */
+  public @Nullable String gzipEntityTag() {
+    if (this.gzipContent == null) {
+      return null;
+    }
+
+    // insert the suffix before the closing quote, compressed representations must have a different strong etag
+    return this.entityTag.substring(0, this.entityTag.length() - 1) + "-gzip\"";
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.resource;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.net.MediaType;
+import eu.cloudnetservice.ext.rest.api.config.CompressionConfig;
+import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResourceResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A cache for static resources which are bundled in the classpath, for example the files of a documentation ui. Each
+ * resource is loaded from the classpath once when it is first requested and is served from memory afterward. Resources
+ * are compressed ahead of time when they are loaded, and are served with strong entity tags which allows clients to
+ * revalidate their cached copy.
+ *
+ * @since 1.0
+ */
+public final class StaticResourceCache {
+
+  private static final Pattern HASHED_RESOURCE_PATTERN = Pattern.compile(".*[.-][0-9a-fA-F]{8,}\\.[a-zA-Z0-9]+$");
+  private static final Map<String, String> KNOWN_CONTENT_TYPES = Map.ofEntries(
+    Map.entry("html", MediaType.HTML_UTF_8.toString()),
+    Map.entry("css", MediaType.CSS_UTF_8.toString()),
+    Map.entry("js", MediaType.JAVASCRIPT_UTF_8.toString()),
+    Map.entry("mjs", MediaType.JAVASCRIPT_UTF_8.toString()),
+    Map.entry("json", MediaType.JSON_UTF_8.toString()),
+    Map.entry("map", MediaType.JSON_UTF_8.toString()),
+    Map.entry("yaml", "application/yaml; charset=utf-8"),
+    Map.entry("yml", "application/yaml; charset=utf-8"),
+    Map.entry("txt", MediaType.PLAIN_TEXT_UTF_8.toString()),
+    Map.entry("svg", MediaType.SVG_UTF_8.toString()),
+    Map.entry("png", MediaType.PNG.toString()),
+    Map.entry("ico", MediaType.ICO.toString()),
+    Map.entry("woff", MediaType.WOFF.toString()),
+    Map.entry("woff2", MediaType.WOFF2.toString()));
+
+  private final String basePath;
+  private final ClassLoader classLoader;
+  private final CompressionConfig compressionConfig;
+  private final Map<String, StaticResource> resources = new ConcurrentHashMap<>();
+
+  private StaticResourceCache(
+    @NonNull String basePath,
+    @NonNull ClassLoader classLoader,
+    @NonNull CompressionConfig compressionConfig
+  ) {
+    this.basePath = basePath;
+    this.classLoader = classLoader;
+    this.compressionConfig = compressionConfig;
+  }
+
+  /**
+   * Constructs a new static resource cache which loads the resources below the given base path from the given class
+   * loader.
+   *
+   * @param classLoader the class loader to load the resources from.
+   * @param basePath    the base path in the class loader of the resources to serve.
+   * @return a new static resource cache for the given base path.
+   * @throws NullPointerException if the given class loader or base path is null.
+   */
+  public static @NonNull StaticResourceCache create(@NonNull ClassLoader classLoader, @NonNull String basePath) {
+    return create(classLoader, basePath, CompressionConfig.builder().build());
+  }
+
+  /**
+   * Constructs a new static resource cache which loads the resources below the given base path from the given class
+   * loader. The given compression config is used to decide which resources should be compressed ahead of time.
+   *
+   * @param classLoader       the class loader to load the resources from.
+   * @param basePath          the base path in the class loader of the resources to serve.
+   * @param compressionConfig the compression config deciding which resources to compress.
+   * @return a new static resource cache for the given base path.
+   * @throws NullPointerException if the given class loader, base path or compression config is null.
+   */
+  public static @NonNull StaticResourceCache create(
+    @NonNull ClassLoader classLoader,
+    @NonNull String basePath,
+    @NonNull CompressionConfig compressionConfig
+  ) {
+    var normalizedBasePath = basePath.isEmpty() || basePath.endsWith("/") ? basePath : basePath + '/';
+    return new StaticResourceCache(normalizedBasePath, classLoader, compressionConfig);
+  }
+
+  /**
+   * Serves the resource at the given path. The response is a not found response if the resource does not exist.
+   *
+   * @param path the path of the resource to serve, relative to the base path of this cache.
+   * @return a response serving the resource at the given path.
+   * @throws NullPointerException if the given path is null.
+   */
+  public @NonNull IntoResponse<?> serve(@NonNull String path) {
+    var resource = this.resource(path);
+    if (resource == null) {
+      return PlainTextResponse.builder().notFound();
+    }
+
+    return StaticResourceResponse.builder().body(resource);
+  }
+
+  /**
+   * Get the resource at the given path, loading it into the cache if it wasn't requested before.
+   *
+   * @param path the path of the resource, relative to the base path of this cache.
+   * @return the resource at the given path, null if the resource does not exist.
+   * @throws NullPointerException if the given path is null.
+   */
+  public @Nullable StaticResource resource(@NonNull String path) {
+    var normalizedPath = normalizePath(path);
+    if (normalizedPath == null) {
+      return null;
+    }
+
+    var resource = this.resources.get(normalizedPath);
+    if (resource == null) {
+      // load the resource, prevent the cache from growing for each requested path by only caching existing resources
+      var loadedResource = this.loadResource(normalizedPath);
+      if (loadedResource == null) {
+        return null;
+      }
+
+      resource = this.resources.computeIfAbsent(normalizedPath, ignored -> loadedResource);
+    }
+
+    return resource;
+  }
+
+  /**
+   * Normalizes the given resource path, removing leading slashes. This method returns null if the path tries to leave
+   * the base path of this cache or points to a directory.
+   *
+   * @param path the path to normalize.
+   * @return the normalized path, null if the path is not valid.
+   * @throws NullPointerException if the given path is null.
+   */
+  private static @Nullable String normalizePath(@NonNull String path) {
+    var normalizedPath = path.replace('\\', '/');
+    while (normalizedPath.startsWith("/")) {
+      normalizedPath = normalizedPath.substring(1);
+    }
+
+    if (normalizedPath.isEmpty() || normalizedPath.endsWith("/")) {
+      return null;
+    }
+
+    for (var segment : normalizedPath.split("/")) {
+      if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+        return null;
+      }
+    }
+
+    return normalizedPath;
+  }
+
+  /**
+   * Resolves the content type of the resource at the given path based on the file extension.
+   *
+   * @param path the path of the resource to resolve the content type of.
+   * @return the content type of the resource.
+   * @throws NullPointerException if the given path is null.
+   */
+  private static @NonNull String resolveContentType(@NonNull String path) {
+    var extensionStart = path.lastIndexOf('.');
+    if (extensionStart != -1) {
+      var extension = path.substring(extensionStart + 1).toLowerCase(Locale.ROOT);
+      var contentType = KNOWN_CONTENT_TYPES.get(extension);
+      if (contentType != null) {
+        return contentType;
+      }
+    }
+
+    var guessedContentType = URLConnection.guessContentTypeFromName(path);
+    return guessedContentType == null ? MediaType.OCTET_STREAM.toString() : guessedContentType;
+  }
+
+  /**
+   * Loads the resource at the given path from the class loader of this cache.
+   *
+   * @param path the normalized path of the resource to load.
+   * @return the loaded resource, null if the resource does not exist.
+   * @throws NullPointerException if the given path is null.
+   * @throws UncheckedIOException if an I/O error occurs while reading the resource.
+   */
+  private @Nullable StaticResource loadResource(@NonNull String path) {
+    try (var stream = this.classLoader.getResourceAsStream(this.basePath + path)) {
+      if (stream == null) {
+        return null;
+      }
+
+      var content = stream.readAllBytes();
+      var contentType = resolveContentType(path);
+      var gzipContent = this.compress(content, contentType);
+
+      var contentHash = Hashing.sha256().hashBytes(content).asBytes();
+      var entityTag = '"' + BaseEncoding.base64Url().omitPadding().encode(Arrays.copyOf(contentHash, 16)) + '"';
+
+      var immutable = HASHED_RESOURCE_PATTERN.matcher(path).matches();
+      return new StaticResource(path, contentType, content, gzipContent, entityTag, immutable);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /**
+   * Compresses the given content using gzip, if the compression config allows it and compression is beneficial.
+   *
+   * @param content     the content to compress.
+   * @param contentType the content type of the content.
+   * @return the compressed content, null if the content should not be served compressed.
+   * @throws NullPointerException if the given content type is null.
+   * @throws IOException          if an I/O error occurs while compressing the content.
+   */
+  private byte[] compress(byte[] content, @NonNull String contentType) throws IOException {
+    if (content.length < this.compressionConfig.minimumSize() || !this.compressionConfig.shouldCompress(contentType)) {
+      return null;
+    }
+
+    var outputStream = new ByteArrayOutputStream(content.length / 2);
+    try (var gzipStream = new LeveledGZIPOutputStream(outputStream, this.compressionConfig.gzipLevel())) {
+      gzipStream.write(content);
+    }
+
+    // only keep the compressed content if it saves at least a tenth of the size
+    var compressedContent = outputStream.toByteArray();
+    return compressedContent.length < content.length * 0.9 ? compressedContent : null;
+  }
+
+  /**
+   * A gzip output stream which uses the given compression level instead of the default compression level.
+   *
+   * @since 1.0
+   */
+  private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+    /**
+     * Constructs a new gzip output stream using the given compression level.
+     *
+     * @param out   the output stream to write the compressed data to.
+     * @param level the compression level to use.
+     * @throws NullPointerException if the given output stream is null.
+     * @throws IOException          if an I/O error occurs while writing the gzip header.
+     */
+    public LeveledGZIPOutputStream(@NonNull OutputStream out, int level) throws IOException {
+      super(out);
+      this.def.setLevel(level);
+    }
+  }
+}
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.ext.rest.api.response.type;
 
 import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
 import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
 import eu.cloudnetservice.ext.rest.api.HttpResponse;
@@ -25,12 +26,26 @@
 import eu.cloudnetservice.ext.rest.api.response.DefaultResponse;
 import eu.cloudnetservice.ext.rest.api.response.DefaultResponseBuilder;
 import eu.cloudnetservice.ext.rest.api.response.Response;
+import eu.cloudnetservice.ext.rest.api.util.ByteRange;
+import eu.cloudnetservice.ext.rest.api.util.HttpDateUtil;
+import eu.cloudnetservice.ext.rest.api.util.HttpRangeUtil;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -43,6 +58,9 @@
  */
 public final class FileResponse extends DefaultResponse<Path> {
 
+  private static final String BYTES_RANGE_UNIT = "bytes";
+  private static final List<String> DEFAULT_CONTENT_TYPE = List.of(MediaType.OCTET_STREAM.toString());
+
   private FileResponse(
     @Nullable Path body,
     @NonNull HttpHeaderMap httpHeaderMap,
@@ -76,11 +94,110 @@ private FileResponse(
    */
   @Override
   protected void serializeBody(@NonNull HttpResponse response, @NonNull Path body) {
+    long fileLength;
+    Instant lastModified;
     try {
-      response.body(Files.newInputStream(body, StandardOpenOption.READ));
+      fileLength = Files.size(body);
+      lastModified = Files.getLastModifiedTime(body).toInstant();
     } catch (IOException exception) {
       throw new UncheckedIOException(exception);
     }
+
+    // announce the range support and the validator that can be used for if-range
+    response.headers()
+      .set(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT)
+      .setIfAbsent(HttpHeaders.LAST_MODIFIED, HttpDateUtil.formatAsHttpDate(lastModified));
+
+    // range requests are only evaluated for successful get requests
+    var request = response.context().request();
+    var rangeHeader = request.headers().firstValue(HttpHeaders.RANGE);
+    if (rangeHeader == null
+      || this.responseCode != HttpResponseCode.OK
+      || !request.method().equalsIgnoreCase("GET")
+      || !HttpRangeUtil.ifRangeMatches(request.headers(), lastModified)) {
+      response.bodyFile(body);
+      return;
+    }
+
+    var ranges = HttpRangeUtil.parseRanges(rangeHeader, fileLength);
+    if (ranges == null) {
+      // the range header should be ignored, send the complete file
+      response.bodyFile(body);
+    } else if (ranges.isEmpty()) {
+      // none of the requested ranges is satisfiable
+      response.status(HttpResponseCode.RANGE_NOT_SATISFIABLE);
+      response.headers().set(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+    } else if (ranges.size() == 1) {
+      // single range, transfer the requested part of the file directly
+      var range = ranges.getFirst();
+      response.status(HttpResponseCode.PARTIAL_CONTENT);
+      response.headers().set(HttpHeaders.CONTENT_RANGE, range.contentRange(fileLength));
+      response.bodyFile(body, range);
+    } else {
+      // multiple ranges, transfer them as a multipart body with each part containing one range
+      var contentType = response.headers().firstValue(HttpHeaders.CONTENT_TYPE, MediaType.OCTET_STREAM.toString());
+      var boundary = Long.toHexString(ThreadLocalRandom.current().nextLong());
+      response.status(HttpResponseCode.PARTIAL_CONTENT);
+      response.headers().set(HttpHeaders.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundary);
+      var parts = multipartByteRangeParts(body, ranges, contentType, boundary, fileLength);
+      response.body(new SequenceInputStream(parts));
+    }
+  }
+
+  /**
+   * Constructs the parts of a multipart byteranges body containing the given ranges of the given file. The file is only
+   * opened when the part containing the range content is read.
+   *
+   * @param file        the file to read the ranges from.
+   * @param ranges      the ranges of the file to include in the body.
+   * @param contentType the content type of the file.
+   * @param boundary    the boundary to use between the body parts.
+   * @param fileLength  the complete length of the file.
+   * @return the parts of the multipart body, in order.
+   * @throws NullPointerException if the given file, ranges, content type or boundary is null.
+   */
+  private static @NonNull Enumeration<InputStream> multipartByteRangeParts(
+    @NonNull Path file,
+    @NonNull List<ByteRange> ranges,
+    @NonNull String contentType,
+    @NonNull String boundary,
+    long fileLength
+  ) {
+    List<Supplier<InputStream>> parts = new ArrayList<>();
+    for (var range : ranges) {
+      var partHeader = String.format(
+        "\r\n--%s\r\n%s: %s\r\n%s: %s\r\n\r\n",
+        boundary,
+        HttpHeaders.CONTENT_TYPE,
+        contentType,
+        HttpHeaders.CONTENT_RANGE,
+        range.contentRange(fileLength));
+      parts.add(() -> new ByteArrayInputStream(partHeader.getBytes(StandardCharsets.US_ASCII)));
+      parts.add(() -> {
+        try {
+          var fileChannel = FileChannel.open(file, StandardOpenOption.READ).position(range.start());
+          return ByteStreams.limit(Channels.newInputStream(fileChannel), range.length());
+        } catch (IOException exception) {
+          throw new UncheckedIOException(exception);
+        }
+      });
+    }
+
+    var closeDelimiter = String.format("\r\n--%s--\r\n", boundary);
+    parts.add(() -> new ByteArrayInputStream(closeDelimiter.getBytes(StandardCharsets.US_ASCII)));
+
+    var partIterator = parts.iterator();
+    return new Enumeration<>() {
+      @Override
+      public boolean hasMoreElements() {
+        return partIterator.hasNext();
+      }
+
+      @Override
+      public InputStream nextElement() {
+        return partIterator.next().get();
+      }
+    };
   }
 
   /**
@@ -117,9 +234,7 @@ private Builder() {
 
         this.httpHeaderMap
           .setIfAbsent(HttpHeaders.CONTENT_DISPOSITION, List.of(attachment))
-          .setIfAbsent(
-            HttpHeaders.CONTENT_TYPE,
-            List.of(MediaType.OCTET_STREAM.toString()));
+          .setIfAbsent(HttpHeaders.CONTENT_TYPE, DEFAULT_CONTENT_TYPE);
       }
 
       return new FileResponse(this.body, this.httpHeaderMap.unmodifiableClone(), this.responseCode);
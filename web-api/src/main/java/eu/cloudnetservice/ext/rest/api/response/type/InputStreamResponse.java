@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.ext.rest.api.response.type;
 
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
 import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
 import eu.cloudnetservice.ext.rest.api.HttpResponse;
@@ -24,7 +26,12 @@
 import eu.cloudnetservice.ext.rest.api.response.DefaultResponse;
 import eu.cloudnetservice.ext.rest.api.response.DefaultResponseBuilder;
 import eu.cloudnetservice.ext.rest.api.response.Response;
+import eu.cloudnetservice.ext.rest.api.util.HttpDateUtil;
+import eu.cloudnetservice.ext.rest.api.util.HttpRangeUtil;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -38,12 +45,21 @@
  */
 public final class InputStreamResponse extends DefaultResponse<InputStream> {
 
+  private static final List<String> DEFAULT_CONTENT_TYPE = List.of(MediaType.OCTET_STREAM.toString());
+
+  private final long completeLength;
+  private final Instant lastModified;
+
   private InputStreamResponse(
     @Nullable InputStream body,
     @NonNull HttpHeaderMap httpHeaderMap,
-    @NonNull HttpResponseCode responseCode
+    @NonNull HttpResponseCode responseCode,
+    long completeLength,
+    @Nullable Instant lastModified
   ) {
     super(body, httpHeaderMap, responseCode);
+    this.completeLength = completeLength;
+    this.lastModified = lastModified;
   }
 
   /**
@@ -63,7 +79,12 @@ private InputStreamResponse(
    * @throws NullPointerException if the given response is null.
    */
   public static @NonNull Builder builder(@NonNull Response<InputStream> response) {
-    return builder().responseCode(response.responseCode()).header(response.headers()).body(response.body());
+    var builder = builder().responseCode(response.responseCode()).header(response.headers()).body(response.body());
+    if (response instanceof InputStreamResponse streamResponse && streamResponse.completeLength >= 0) {
+      builder.seekable(streamResponse.completeLength, streamResponse.lastModified);
+    }
+
+    return builder;
   }
 
   /**
@@ -71,7 +92,65 @@ private InputStreamResponse(
    */
   @Override
   protected void serializeBody(@NonNull HttpResponse response, @NonNull InputStream body) {
-    response.body(body);
+    // range requests can only be served if the length of the stream is known
+    if (this.completeLength < 0) {
+      response.body(body);
+      return;
+    }
+
+    response.headers().set(HttpHeaders.ACCEPT_RANGES, "bytes");
+    if (this.lastModified != null) {
+      response.headers().setIfAbsent(HttpHeaders.LAST_MODIFIED, HttpDateUtil.formatAsHttpDate(this.lastModified));
+    }
+
+    // range requests are only evaluated for successful get requests
+    var request = response.context().request();
+    var rangeHeader = request.headers().firstValue(HttpHeaders.RANGE);
+    if (rangeHeader == null
+      || this.responseCode != HttpResponseCode.OK
+      || !request.method().equalsIgnoreCase("GET")
+      || (this.lastModified != null && !HttpRangeUtil.ifRangeMatches(request.headers(), this.lastModified))
+      || (this.lastModified == null && request.headers().contains(HttpHeaders.IF_RANGE))) {
+      response.body(body);
+      return;
+    }
+
+    // the stream can only be read forward, multiple ranges are therefore answered with the full content
+    var ranges = HttpRangeUtil.parseRanges(rangeHeader, this.completeLength);
+    if (ranges == null || ranges.size() > 1) {
+      response.body(body);
+    } else if (ranges.isEmpty()) {
+      // none of the requested ranges is satisfiable, the body is not needed
+      closeQuietly(body);
+      response.status(HttpResponseCode.RANGE_NOT_SATISFIABLE);
+      response.headers().set(HttpHeaders.CONTENT_RANGE, "bytes */" + this.completeLength);
+    } else {
+      // skip to the start of the range and only send the bytes covered by it
+      var range = ranges.getFirst();
+      try {
+        body.skipNBytes(range.start());
+      } catch (IOException exception) {
+        closeQuietly(body);
+        throw new UncheckedIOException(exception);
+      }
+
+      response.status(HttpResponseCode.PARTIAL_CONTENT);
+      response.headers().set(HttpHeaders.CONTENT_RANGE, range.contentRange(this.completeLength));
+      response.body(ByteStreams.limit(body, range.length()));
+    }
+  }
+
+  /**
+   * Closes the given stream, ignoring any exception thrown while closing it.
+   *
+   * @param stream the stream to close.
+   * @throws NullPointerException if the given stream is null.
+   */
+  private static void closeQuietly(@NonNull InputStream stream) {
+    try {
+      stream.close();
+    } catch (IOException ignored) {
+    }
   }
 
   /**
@@ -90,16 +169,43 @@ protected void serializeBody(@NonNull HttpResponse response, @NonNull InputStrea
    */
   public static final class Builder extends DefaultResponseBuilder<InputStream, Builder> {
 
+    private long completeLength = -1;
+    private Instant lastModified;
+
     private Builder() {
     }
 
+    /**
+     * Marks the body stream of the response as seekable, enabling range requests for the response. The body stream is
+     * skipped to the start of a requested range, which should be cheap for the stream (for example because it is backed
+     * by a file). The last modification time is used to validate if-range requests, if-range requests are always
+     * answered with the full content if it is not given.
+     *
+     * @param completeLength the complete length of the body stream.
+     * @param lastModified   the last modification time of the body content, can be null.
+     * @return this builder, for chaining.
+     * @throws IllegalArgumentException if the given length is negative.
+     */
+    public @NonNull Builder seekable(long completeLength, @Nullable Instant lastModified) {
+      Preconditions.checkArgument(completeLength >= 0, "completeLength must not be negative");
+
+      this.completeLength = completeLength;
+      this.lastModified = lastModified;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public @NonNull Response<InputStream> build() {
-      this.httpHeaderMap.setIfAbsent(HttpHeaders.CONTENT_TYPE, List.of(MediaType.OCTET_STREAM.toString()));
-      return new InputStreamResponse(this.body, this.httpHeaderMap.unmodifiableClone(), this.responseCode);
+      this.httpHeaderMap.setIfAbsent(HttpHeaders.CONTENT_TYPE, DEFAULT_CONTENT_TYPE);
+      return new InputStreamResponse(
+        this.body,
+        this.httpHeaderMap.unmodifiableClone(),
+        this.responseCode,
+        this.completeLength,
+        this.lastModified);
     }
   }
 }
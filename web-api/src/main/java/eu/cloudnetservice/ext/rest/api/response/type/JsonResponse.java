@@ -21,11 +21,15 @@
 import eu.cloudnetservice.ext.rest.api.HttpResponse;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.codec.CodecLoader;
+import eu.cloudnetservice.ext.rest.api.codec.DataformatCodec;
+import eu.cloudnetservice.ext.rest.api.codec.builtin.CborCodec;
 import eu.cloudnetservice.ext.rest.api.codec.builtin.JsonCodec;
+import eu.cloudnetservice.ext.rest.api.codec.builtin.MessagePackCodec;
 import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
 import eu.cloudnetservice.ext.rest.api.response.DefaultResponse;
 import eu.cloudnetservice.ext.rest.api.response.DefaultResponseBuilder;
 import eu.cloudnetservice.ext.rest.api.response.Response;
+import java.lang.reflect.Type;
 import java.util.List;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -34,7 +38,9 @@
  * The json response implementation which is capable of serializing a given object into the response for the request.
  * <p>
  * This implementation uses the {@link JsonCodec} to serialize, the implementation can be swapped by including a
- * different codec using the java service provider interface.
+ * different codec using the java service provider interface. If the client prefers a binary format (CBOR or
+ * MessagePack) in the accept header of the request and a codec for the format is available, the body is serialized
+ * into the binary format instead.
  *
  * @see Response
  * @see JsonCodec
@@ -43,12 +49,23 @@
  */
 public final class JsonResponse<T> extends DefaultResponse<T> {
 
+  private static final List<String> DEFAULT_CONTENT_TYPE = List.of(MediaType.JSON_UTF_8.toString());
+  private static final List<BinaryFormat> BINARY_FORMATS = List.of(
+    new BinaryFormat("application/cbor", CborCodec.class),
+    new BinaryFormat("application/msgpack", MessagePackCodec.class),
+    new BinaryFormat("application/x-msgpack", MessagePackCodec.class),
+    new BinaryFormat("application/vnd.msgpack", MessagePackCodec.class));
+
+  private final Type bodyType;
+
   private JsonResponse(
     @Nullable T body,
+    @Nullable Type bodyType,
     @NonNull HttpHeaderMap httpHeaderMap,
     @NonNull HttpResponseCode responseCode
   ) {
     super(body, httpHeaderMap, responseCode);
+    this.bodyType = bodyType;
   }
 
   /**
@@ -68,10 +85,89 @@ private JsonResponse(
    * @throws NullPointerException if the given response is null.
    */
   public static <T> @NonNull Builder<T> builder(@NonNull Response<? extends T> response) {
-    return JsonResponse.<T>builder()
+    var builder = JsonResponse.<T>builder()
       .responseCode(response.responseCode())
       .header(response.headers())
       .body(response.body());
+    if (response instanceof JsonResponse<? extends T> jsonResponse) {
+      builder.bodyType(jsonResponse.bodyType);
+    }
+
+    return builder;
+  }
+
+  /**
+   * Selects the binary format to serve the body in based on the given accept header value. A binary format is only
+   * selected if it has a strictly higher quality value than json, which stays the default for clients accepting both
+   * formats equally, accepting everything or not sending an accept header at all.
+   *
+   * @param accept the accept header value of the request, can be null.
+   * @return the binary format to serve the body in, null if the body should be served as json.
+   */
+  static @Nullable BinaryFormat selectBinaryFormat(@Nullable String accept) {
+    if (accept == null) {
+      return null;
+    }
+
+    var jsonQuality = 0D;
+    var binaryQuality = 0D;
+    BinaryFormat binaryFormat = null;
+    for (var mediaRange : accept.split(",")) {
+      var parameterStart = mediaRange.indexOf(';');
+      var mediaType = (parameterStart == -1 ? mediaRange : mediaRange.substring(0, parameterStart)).trim();
+      var quality = parameterStart == -1 ? 1D : parseQuality(mediaRange.substring(parameterStart + 1));
+
+      // json is the default representation of the body, wildcards therefore always select json
+      if (mediaType.equalsIgnoreCase(MediaType.JSON_UTF_8.withoutParameters().toString())
+        || mediaType.equalsIgnoreCase("application/*")
+        || mediaType.equals("*/*")) {
+        jsonQuality = Math.max(jsonQuality, quality);
+        continue;
+      }
+
+      for (var format : BINARY_FORMATS) {
+        if (quality > binaryQuality && format.mediaType().equalsIgnoreCase(mediaType)) {
+          binaryFormat = format;
+          binaryQuality = quality;
+        }
+      }
+    }
+
+    return binaryQuality > jsonQuality ? binaryFormat : null;
+  }
+
+  /**
+   * Parses the quality value from the given parameters of a media range, defaulting to 1 if no quality is given or the
+   * given quality is not a number. Quality values outside the valid range are clamped to the range from 0 to 1.
+   *
+   * @param parameters the parameters of the media range, without the leading semicolon.
+   * @return the parsed quality value of the media range.
+   * @throws NullPointerException if the given parameters are null.
+   */
+  static double parseQuality(@NonNull String parameters) {
+    for (var parameter : parameters.split(";")) {
+      var trimmedParameter = parameter.trim();
+      if (trimmedParameter.length() > 2 && trimmedParameter.regionMatches(true, 0, "q=", 0, 2)) {
+        try {
+          var quality = Double.parseDouble(trimmedParameter.substring(2));
+          return Double.isNaN(quality) ? 1D : Math.clamp(quality, 0D, 1D);
+        } catch (NumberFormatException exception) {
+          return 1D;
+        }
+      }
+    }
+
+    return 1D;
+  }
+
+  /**
+   * Gets the declared type of the body of this response, null if the type should be taken from the runtime class of
+   * the body.
+   *
+   * @return the declared type of the body of this response, null if no type was declared.
+   */
+  public @Nullable Type bodyType() {
+    return this.bodyType;
   }
 
   /**
@@ -79,8 +175,31 @@ private JsonResponse(
    */
   @Override
   protected void serializeBody(@NonNull HttpResponse response, @NonNull T body) {
-    var codec = CodecLoader.resolveCodec(JsonCodec.class);
-    response.body(codec.serialize(body.getClass(), body));
+    Class<? extends DataformatCodec> codecType = JsonCodec.class;
+
+    // negotiate the representation of the body, unless the handler explicitly set a different content type
+    if (DEFAULT_CONTENT_TYPE.getFirst().equals(this.httpHeaderMap.firstValue(HttpHeaders.CONTENT_TYPE))) {
+      var accept = response.context().request().headers().firstValue(HttpHeaders.ACCEPT);
+      var binaryFormat = selectBinaryFormat(accept);
+      if (binaryFormat != null && CodecLoader.findCodec(binaryFormat.codecType()) != null) {
+        codecType = binaryFormat.codecType();
+        response.headers().set(HttpHeaders.CONTENT_TYPE, binaryFormat.mediaType());
+      }
+
+      // the representation varies based on the accept header if a binary format could have been requested
+      if (CodecLoader.findCodec(CborCodec.class) != null || CodecLoader.findCodec(MessagePackCodec.class) != null) {
+        response.headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+      }
+    }
+
+    // the codec binds the serializer once per declared type, no adapter lookup is needed when serializing the body
+    // the runtime classes of bodies are not bound, they might be from other class loaders and would stay reachable
+    var codec = CodecLoader.resolveCodec(codecType);
+    if (this.bodyType != null) {
+      codec.serializer(this.bodyType).serialize(body, response.bodyOutputStream());
+    } else {
+      codec.serialize(body.getClass(), body, response.bodyOutputStream());
+    }
   }
 
   /**
@@ -99,16 +218,46 @@ protected void serializeBody(@NonNull HttpResponse response, @NonNull T body) {
    */
   public static final class Builder<T> extends DefaultResponseBuilder<T, Builder<T>> {
 
+    private Type bodyType;
+
     private Builder() {
     }
 
+    /**
+     * Sets the declared type of the body which should be used for serialization instead of the runtime class of the
+     * body. This is required to correctly serialize generic bodies, for example a list of a specific element type.
+     * Declared types should be constants, as a serializer is bound and cached for each of them.
+     *
+     * @param bodyType the declared type of the body, null to use the runtime class of the body.
+     * @return the same builder as used to call the method, for chaining.
+     */
+    public @NonNull Builder<T> bodyType(@Nullable Type bodyType) {
+      this.bodyType = bodyType;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public @NonNull Response<T> build() {
-      this.httpHeaderMap.setIfAbsent(HttpHeaders.CONTENT_TYPE, List.of(MediaType.JSON_UTF_8.toString()));
-      return new JsonResponse<>(this.body, this.httpHeaderMap.unmodifiableClone(), this.responseCode);
+      this.httpHeaderMap.setIfAbsent(HttpHeaders.CONTENT_TYPE, DEFAULT_CONTENT_TYPE);
+      return new JsonResponse<>(
+        this.body,
+        this.bodyType,
+        this.httpHeaderMap.unmodifiableClone(),
+        this.responseCode);
     }
   }
+
+  /**
+   * A binary format in which the body of a json response can be served if requested by the client.
+   *
+   * @param mediaType the media type of the binary format.
+   * @param codecType the type of the codec serializing into the binary format.
+   * @since 1.0
+   */
+  record BinaryFormat(@NonNull String mediaType, @NonNull Class<? extends DataformatCodec> codecType) {
+
+  }
 }
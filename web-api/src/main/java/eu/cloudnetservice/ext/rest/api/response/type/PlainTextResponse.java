@@ -37,6 +37,8 @@
  */
 public final class PlainTextResponse extends DefaultResponse<String> {
 
+  private static final List<String> DEFAULT_CONTENT_TYPE = List.of(MediaType.PLAIN_TEXT_UTF_8.toString());
+
   private PlainTextResponse(
     @Nullable String body,
     @NonNull HttpHeaderMap httpHeaderMap,
@@ -97,9 +99,7 @@ private Builder() {
      */
     @Override
     public @NonNull Response<String> build() {
-      this.httpHeaderMap.setIfAbsent(
-        HttpHeaders.CONTENT_TYPE,
-        List.of(MediaType.PLAIN_TEXT_UTF_8.toString()));
+      this.httpHeaderMap.setIfAbsent(HttpHeaders.CONTENT_TYPE, DEFAULT_CONTENT_TYPE);
       return new PlainTextResponse(this.body, this.httpHeaderMap.unmodifiableClone(), this.responseCode);
     }
   }
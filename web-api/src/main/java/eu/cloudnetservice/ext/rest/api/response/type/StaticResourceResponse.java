@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.response.type;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.resource.StaticResource;
+import eu.cloudnetservice.ext.rest.api.response.DefaultResponse;
+import eu.cloudnetservice.ext.rest.api.response.DefaultResponseBuilder;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The response implementation serving a static resource from memory. The precompressed representation of the resource
+ * is served to clients accepting it, and requests revalidating a cached copy of the resource are answered with a not
+ * modified response.
+ *
+ * @see eu.cloudnetservice.ext.rest.api.resource.StaticResourceCache
+ * @see Response
+ * @since 1.0
+ */
+public final class StaticResourceResponse extends DefaultResponse<StaticResource> {
+
+  private static final String GZIP_ENCODING = "gzip";
+  private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+  private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+  private StaticResourceResponse(
+    @Nullable StaticResource body,
+    @NonNull HttpHeaderMap httpHeaderMap,
+    @NonNull HttpResponseCode responseCode
+  ) {
+    super(body, httpHeaderMap, responseCode);
+  }
+
+  /**
+   * Constructs a new empty static resource response builder.
+   *
+   * @return a new empty static resource response builder.
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Constructs a new static resource response builder copying all values from the given response.
+   *
+   * @param response the response to copy the values from.
+   * @return a new static resource response builder copying all values from the given response.
+   * @throws NullPointerException if the given response is null.
+   */
+  public static @NonNull Builder builder(@NonNull Response<StaticResource> response) {
+    return builder().responseCode(response.responseCode()).header(response.headers()).body(response.body());
+  }
+
+  /**
+   * Checks if the given accept-encoding header value accepts the gzip encoding. An explicit gzip entry takes precedence
+   * over the wildcard entry, regardless of the order in which they appear.
+   *
+   * @param acceptEncoding the accept-encoding header value to check, can be null.
+   * @return true if the given header value accepts the gzip encoding, false otherwise.
+   */
+  static boolean acceptsGzip(@Nullable String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    var gzipListed = false;
+    var gzipAcceptable = false;
+    var wildcardAcceptable = false;
+    for (var coding : acceptEncoding.split(",")) {
+      var parameterStart = coding.indexOf(';');
+      var codingName = (parameterStart == -1 ? coding : coding.substring(0, parameterStart)).trim();
+
+      // the coding is explicitly not acceptable if the quality value is 0
+      var parameters = parameterStart == -1 ? "" : coding.substring(parameterStart + 1).replace(" ", "");
+      var acceptable = !parameters.matches("(?i)q=0(\\.0{0,3})?");
+      if (codingName.equalsIgnoreCase(GZIP_ENCODING)) {
+        gzipListed = true;
+        gzipAcceptable = acceptable;
+      } else if (codingName.equals("*")) {
+        wildcardAcceptable = acceptable;
+      }
+    }
+
+    return gzipListed ? gzipAcceptable : wildcardAcceptable;
+  }
+
+  /**
+   * Checks if one of the entity tags in the given if-none-match header value matches the given entity tag, using the
+   * weak comparison function.
+   *
+   * @param ifNoneMatch the if-none-match header value to check, can be null.
+   * @param entityTag   the entity tag of the selected representation.
+   * @return true if the given header value matches the given entity tag, false otherwise.
+   * @throws NullPointerException if the given entity tag is null.
+   */
+  private static boolean ifNoneMatchMatches(@Nullable String ifNoneMatch, @NonNull String entityTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+
+    if (ifNoneMatch.trim().equals("*")) {
+      return true;
+    }
+
+    for (var candidate : ifNoneMatch.split(",")) {
+      var trimmedCandidate = candidate.trim();
+      if (trimmedCandidate.startsWith("W/")) {
+        trimmedCandidate = trimmedCandidate.substring(2);
+      }
+
+      if (trimmedCandidate.equals(entityTag)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void serializeBody(@NonNull HttpResponse response, @NonNull StaticResource body) {
+    var request = response.context().request();
+    var requestHeaders = request.headers();
+
+    // hashed resources never change, all other resources must be revalidated before using a cached copy
+    var cacheControl = body.immutable() ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL;
+    response.headers().setIfAbsent(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+    // select the representation to send, the response varies based on the accepted encodings if compressed
+    var gzip = body.gzipContent() != null && acceptsGzip(requestHeaders.firstValue(HttpHeaders.ACCEPT_ENCODING));
+    if (body.gzipContent() != null) {
+      response.headers().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    var entityTag = gzip ? body.gzipEntityTag() : body.entityTag();
+    response.headers().set(HttpHeaders.ETAG, entityTag);
+
+    // check if the client already has the selected representation cached
+    var method = request.method();
+    if (this.responseCode == HttpResponseCode.OK
+      && (method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("HEAD"))
+      && ifNoneMatchMatches(requestHeaders.firstValue(HttpHeaders.IF_NONE_MATCH), entityTag)) {
+      response.status(HttpResponseCode.NOT_MODIFIED);
+      return;
+    }
+
+    if (gzip) {
+      response.headers().set(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+      response.body(body.gzipContent());
+    } else {
+      response.body(body.content());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Response.Builder<StaticResource, ?> intoResponseBuilder() {
+    return StaticResourceResponse.builder(this);
+  }
+
+  /**
+   * The static resource response builder implementation applying the content type of the resource.
+   *
+   * @see eu.cloudnetservice.ext.rest.api.response.Response.Builder
+   * @since 1.0
+   */
+  public static final class Builder extends DefaultResponseBuilder<StaticResource, Builder> {
+
+    private Builder() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Response<StaticResource> build() {
+      if (this.body != null) {
+        this.httpHeaderMap.setIfAbsent(HttpHeaders.CONTENT_TYPE, this.body.contentType());
+      }
+
+      return new StaticResourceResponse(this.body, this.httpHeaderMap.unmodifiableClone(), this.responseCode);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.util;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+/**
+ * A range of bytes as used in range requests, as defined in <a
+ * href="https://datatracker.ietf.org/doc/html/rfc9110#section-14.1.1">RFC 9110 Section 14.1.1</a>.
+ *
+ * @param start the offset of the first byte in the range.
+ * @param end   the offset of the last byte in the range, inclusive.
+ * @since 1.0
+ */
+public record ByteRange(long start, long end) {
+
+  /**
+   * Constructs a new byte range.
+   *
+   * @param start the offset of the first byte in the range.
+   * @param end   the offset of the last byte in the range, inclusive.
+   * @throws IllegalArgumentException if the start is negative or the end is before the start.
+   */
+  public ByteRange {
+    Preconditions.checkArgument(start >= 0, "start must be positive");
+    Preconditions.checkArgument(end >= start, "end must not be before start");
+  }
+
+  /**
+   * Get the amount of bytes covered by this range.
+   *
+   * @return the amount of bytes covered by this range.
+   */
+  public long length() {
+    return this.end - this.start + 1;
+  }
+
+  /**
+   * Formats this range as the value of a content-range header for a representation with the given length.
+   *
+   * @param completeLength the complete length of the selected representation.
+   * @return the content-range header value for this range.
+   */
+  public @NonNull String contentRange(long completeLength) {
+    return String.format("bytes %d-%d/%d", this.start, this.end, completeLength);
+  }
+}
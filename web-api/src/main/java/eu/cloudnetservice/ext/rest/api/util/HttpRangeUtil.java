@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.util;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility to evaluate range requests as defined in <a
+ * href="https://datatracker.ietf.org/doc/html/rfc9110#section-14">RFC 9110 Section 14</a>.
+ *
+ * @since 1.0
+ */
+public final class HttpRangeUtil {
+
+  /**
+   * The maximum amount of ranges that are served for a single request. Requests for more ranges are answered with the
+   * full representation, as serving a lot of small ranges is more expensive than serving the full content.
+   */
+  public static final int MAX_RANGES = 16;
+
+  private static final String BYTES_UNIT_PREFIX = "bytes=";
+
+  private HttpRangeUtil() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Parses the given range header value for a representation with the given length. The returned ranges are in the
+   * order requested by the client. This method returns null if the range header should be ignored, which is the case
+   * if the header is malformed, uses an unknown range unit or requests too many ranges. An empty list is returned if
+   * none of the requested ranges is satisfiable.
+   *
+   * @param rangeHeader    the value of the range header to parse.
+   * @param completeLength the complete length of the selected representation.
+   * @return the requested ranges, an empty list if none is satisfiable or null if the header should be ignored.
+   * @throws NullPointerException if the given range header is null.
+   */
+  public static @Nullable List<ByteRange> parseRanges(@NonNull String rangeHeader, long completeLength) {
+    var header = rangeHeader.trim();
+    if (!header.regionMatches(true, 0, BYTES_UNIT_PREFIX, 0, BYTES_UNIT_PREFIX.length())) {
+      return null;
+    }
+
+    var rangeSpecs = header.substring(BYTES_UNIT_PREFIX.length()).split(",");
+    if (rangeSpecs.length > MAX_RANGES) {
+      return null;
+    }
+
+    List<ByteRange> ranges = new ArrayList<>(rangeSpecs.length);
+    for (var rangeSpec : rangeSpecs) {
+      var spec = rangeSpec.trim();
+      var separatorIndex = spec.indexOf('-');
+      if (separatorIndex == -1) {
+        return null;
+      }
+
+      try {
+        var firstPos = spec.substring(0, separatorIndex).trim();
+        var lastPos = spec.substring(separatorIndex + 1).trim();
+        if (firstPos.isEmpty()) {
+          // suffix range, requesting the last n bytes of the representation
+          var suffixLength = Long.parseLong(lastPos);
+          if (suffixLength < 0) {
+            return null;
+          }
+
+          if (suffixLength > 0 && completeLength > 0) {
+            ranges.add(new ByteRange(Math.max(0, completeLength - suffixLength), completeLength - 1));
+          }
+        } else {
+          // an open range ends with the representation, only an explicit last position before the start is invalid
+          var start = Long.parseLong(firstPos);
+          var end = lastPos.isEmpty() ? Long.MAX_VALUE : Long.parseLong(lastPos);
+          if (start < 0 || end < start) {
+            return null;
+          }
+
+          // ranges starting after the representation end are not satisfiable
+          if (start < completeLength) {
+            ranges.add(new ByteRange(start, Math.min(end, completeLength - 1)));
+          }
+        }
+      } catch (NumberFormatException exception) {
+        return null;
+      }
+    }
+
+    return ranges;
+  }
+
+  /**
+   * Checks if the range request should be evaluated based on the if-range header in the given request headers. Only
+   * http dates are supported as validators, if-range headers containing an entity tag never match.
+   *
+   * @param requestHeaders the headers of the request to check.
+   * @param lastModified   the last modification time of the selected representation.
+   * @return true if the range request should be evaluated, false if the full representation should be sent.
+   * @throws NullPointerException if the given request headers or last modification time is null.
+   */
+  public static boolean ifRangeMatches(@NonNull HttpHeaderMap requestHeaders, @NonNull Instant lastModified) {
+    var ifRange = requestHeaders.firstValue(HttpHeaders.IF_RANGE);
+    if (ifRange == null) {
+      return true;
+    }
+
+    // http dates have a precision of seconds, the date must exactly match the last modification time
+    var ifRangeDate = HttpDateUtil.parseHttpDate(ifRange);
+    return ifRangeDate != null && ifRangeDate.toEpochSecond() == lastModified.getEpochSecond();
+  }
+}
@@ -96,6 +96,26 @@ public interface WebSocketChannel extends AutoCloseable {
    */
   @NonNull WebSocketChannel sendWebSocketFrame(@NonNull WebSocketFrameType webSocketFrameType, byte[] bytes);
 
+  /**
+   * Enables or disables the batching of data frames sent into this channel. When enabled, text and binary frames are
+   * collected and flushed to the recipient together, either once the flush interval elapsed or the byte budget of the
+   * batch is reached. Frames that were batched before disabling the batching are flushed immediately.
+   *
+   * @param batching the batching options to use, null to disable batching.
+   * @return the same instance as used to call the method, for chaining.
+   */
+  @NonNull WebSocketChannel batchFrames(@Nullable WebSocketFrameBatching batching);
+
+  /**
+   * Gets the amount of bytes that were sent into this channel but were not yet written to the recipient. This includes
+   * frames that are held back because the recipient is reading slower than frames are sent. Once the amount exceeds the
+   * configured limit of the channel, the configured slow consumer policy is applied.
+   *
+   * @return the amount of bytes queued for writing to the recipient.
+   * @see eu.cloudnetservice.ext.rest.api.config.WebSocketConfig
+   */
+  long queuedBytes();
+
   /**
    * Sends a close frame into this channel and closes the connection to the recipient without waiting for any kind of
    * response. Any listener added to this channel can change the given reason status code and the reason text. The given
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.websocket;
+
+import com.google.common.base.Preconditions;
+import java.time.Duration;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The options for batching the data frames sent into a web socket channel. Batched frames are collected until either
+ * the flush interval elapsed since the first frame of the batch was sent or the batch reached the byte budget, and are
+ * then flushed to the recipient at once. This reduces the amount of flushes (and therefore syscalls) when many small
+ * frames are sent in a short time, for example log lines. Control frames are never batched.
+ *
+ * @param flushInterval      the maximum time a frame is held back before the batch is flushed.
+ * @param maxBatchBytes      the amount of bytes after which a batch is flushed before the flush interval elapsed.
+ * @param textFrameDelimiter the delimiter to join consecutive text frames of a batch into one frame with, null to send
+ *                           each text frame separately.
+ * @see WebSocketChannel#batchFrames(WebSocketFrameBatching)
+ * @since 1.0
+ */
+public record WebSocketFrameBatching(
+  @NonNull Duration flushInterval,
+  int maxBatchBytes,
+  @Nullable String textFrameDelimiter
+) {
+
+  public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(50);
+  public static final int DEFAULT_MAX_BATCH_BYTES = 64 * 1024;
+
+  /**
+   * Creates a new builder for web socket frame batching options.
+   *
+   * @return a new builder for web socket frame batching options.
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * A builder for web socket frame batching options.
+   *
+   * @since 1.0
+   */
+  public static final class Builder {
+
+    private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+    private int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+    private String textFrameDelimiter;
+
+    /**
+     * Sets the maximum time a frame is held back before the batch is flushed.
+     *
+     * @param flushInterval the maximum time a frame is held back before the batch is flushed.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException     if the given interval is null.
+     * @throws IllegalArgumentException if the given interval is not positive.
+     */
+    public @NonNull Builder flushInterval(@NonNull Duration flushInterval) {
+      Preconditions.checkArgument(flushInterval.isPositive(), "flushInterval must be positive");
+
+      this.flushInterval = flushInterval;
+      return this;
+    }
+
+    /**
+     * Sets the amount of bytes after which a batch is flushed before the flush interval elapsed.
+     *
+     * @param maxBatchBytes the amount of bytes after which a batch is flushed.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws IllegalArgumentException if the given byte amount is not positive.
+     */
+    public @NonNull Builder maxBatchBytes(int maxBatchBytes) {
+      Preconditions.checkArgument(maxBatchBytes > 0, "maxBatchBytes must be greater than 0");
+
+      this.maxBatchBytes = maxBatchBytes;
+      return this;
+    }
+
+    /**
+     * Sets the delimiter to join consecutive text frames of a batch into one frame with. Recipients must be able to
+     * split the frames again, therefore the delimiter should not be part of the text content of the frames.
+     *
+     * @param textFrameDelimiter the delimiter to join text frames with, null to send each text frame separately.
+     * @return the same instance as used to call the method, for chaining.
+     */
+    public @NonNull Builder mergeTextFrames(@Nullable String textFrameDelimiter) {
+      this.textFrameDelimiter = textFrameDelimiter;
+      return this;
+    }
+
+    /**
+     * Builds the web socket frame batching options from this builder.
+     *
+     * @return the web socket frame batching options.
+     */
+    public @NonNull WebSocketFrameBatching build() {
+      return new WebSocketFrameBatching(this.flushInterval, this.maxBatchBytes, this.textFrameDelimiter);
+    }
+  }
+}
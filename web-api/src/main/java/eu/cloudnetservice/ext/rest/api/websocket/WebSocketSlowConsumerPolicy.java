@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.websocket;
+
+/**
+ * The policies that can be applied to a web socket channel when the recipient is not reading the sent frames as fast as
+ * they are produced and the amount of queued outbound bytes exceeds the configured limit. Control frames (ping and
+ * pong) are never affected by the policy.
+ *
+ * @since 1.0
+ */
+public enum WebSocketSlowConsumerPolicy {
+
+  /**
+   * Drops the oldest queued frames until the new frame fits into the outbound limit. If the new frame alone exceeds the
+   * limit it is dropped instead. This is useful for streams in which only recent data is relevant, for example logs.
+   */
+  DROP_OLDEST,
+  /**
+   * Drops all queued frames which were not yet handed to the network layer and only keeps the new frame. This is useful
+   * for streams in which each frame represents the complete current state, making older frames obsolete.
+   */
+  COALESCE,
+  /**
+   * Closes the connection to the recipient with the status code 1008 (policy violation). Queued frames are discarded.
+   */
+  DISCONNECT
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CompressionConfigTest {
+
+  @Test
+  void testExcludedMediaTypes() {
+    var config = CompressionConfig.builder().build();
+    Assertions.assertTrue(config.shouldCompress(null));
+    Assertions.assertTrue(config.shouldCompress("application/json; charset=utf-8"));
+    Assertions.assertFalse(config.shouldCompress("application/zip"));
+    Assertions.assertFalse(config.shouldCompress("Image/PNG"));
+    Assertions.assertFalse(CompressionConfig.builder().enabled(false).build().shouldCompress("text/plain"));
+  }
+
+  @Test
+  void testExcludedMediaTypesAreNormalized() {
+    var config = new CompressionConfig(true, 0, Set.of(" Text/Plain "), 6, 6, 4, 3, false, true);
+    Assertions.assertEquals(Set.of("text/plain"), config.excludedMediaTypes());
+    Assertions.assertFalse(config.shouldCompress("text/plain"));
+  }
+
+  @Test
+  void testRejectsInvalidLevels() {
+    // deserialized configurations bypass the builder, the validation must happen when constructing the record
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> new CompressionConfig(true, -1, Set.of(), 6, 6, 4, 3, false, true));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> CompressionConfig.builder().gzipLevel(10).build());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> CompressionConfig.builder().deflateLevel(-1).build());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> CompressionConfig.builder().brotliQuality(12).build());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> CompressionConfig.builder().zstdLevel(0).build());
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class Http2ConfigTest {
+
+  @Test
+  void testDefaultsAreBounded() {
+    var config = Http2Config.builder().build();
+    Assertions.assertEquals(Http2Config.DEFAULT_MAX_CONCURRENT_STREAMS, config.maxConcurrentStreams());
+    Assertions.assertEquals(Http2Config.DEFAULT_MAX_HEADER_LIST_SIZE, config.maxHeaderListSize());
+  }
+
+  @Test
+  void testRejectsUnboundedSettings() {
+    // deserialized configurations bypass the builder, the validation must happen when constructing the record
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new Http2Config(0, 8192));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new Http2Config(100, 0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Http2Config.builder().maxConcurrentStreams(-1).build());
+  }
+}
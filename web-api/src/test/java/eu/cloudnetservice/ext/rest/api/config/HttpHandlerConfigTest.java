@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HttpHandlerConfigTest {
+
+  private static final HttpHandlerInterceptor BLOCKING_INTERCEPTOR = new HttpHandlerInterceptor() {
+    @Override
+    public boolean mayBlock() {
+      return true;
+    }
+  };
+
+  @Test
+  void testBlockingHandlersAreNotProcessedOnIoThread() {
+    var config = HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build();
+    Assertions.assertFalse(config.processableOnIoThread());
+  }
+
+  @Test
+  void testNonBlockingHandlersAreProcessedOnIoThread() {
+    var config = HttpHandlerConfig.builder()
+      .httpMethod(HttpMethod.GET)
+      .nonBlocking(true)
+      .addHandlerInterceptor(new HttpHandlerInterceptor() {
+      })
+      .build();
+    Assertions.assertTrue(config.processableOnIoThread());
+  }
+
+  @Test
+  void testNonBlockingHandlersStreamingTheirBodyAreNotProcessedOnIoThread() {
+    var config = HttpHandlerConfig.builder()
+      .httpMethod(HttpMethod.POST)
+      .nonBlocking(true)
+      .streamRequestBody(true)
+      .build();
+    Assertions.assertFalse(config.processableOnIoThread());
+  }
+
+  @Test
+  void testNonBlockingHandlersWithBlockingInterceptorAreNotProcessedOnIoThread() {
+    var config = HttpHandlerConfig.builder()
+      .httpMethod(HttpMethod.GET)
+      .nonBlocking(true)
+      .addHandlerInterceptor(BLOCKING_INTERCEPTOR)
+      .build();
+    Assertions.assertFalse(config.processableOnIoThread());
+  }
+}
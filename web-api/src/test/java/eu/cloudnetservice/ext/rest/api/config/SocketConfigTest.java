@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SocketConfigTest {
+
+  @Test
+  void testDefaultsAreValid() {
+    var config = SocketConfig.builder().build();
+    Assertions.assertEquals(1, config.acceptorThreads());
+    Assertions.assertEquals(SocketConfig.DEFAULT_WRITE_BUFFER_LOW_WATER_MARK, config.writeBufferLowWaterMark());
+    Assertions.assertEquals(SocketConfig.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK, config.writeBufferHighWaterMark());
+  }
+
+  @Test
+  void testRejectsInvalidOptions() {
+    // deserialized configurations bypass the builder, the validation must happen when constructing the record
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SocketConfig(0, 0, 1024, 2048, 0, 0, true));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SocketConfig(-1, 0, 1024, 2048, 1, 0, false));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SocketConfig(0, 0, 2048, 1024, 1, 0, false));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SocketConfig(0, 0, 0, 0, 1, 0, false));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> SocketConfig.builder().writeBufferWaterMark(-1, 1024).build());
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketSlowConsumerPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WebSocketConfigTest {
+
+  @Test
+  void testRejectsInvalidLimits() {
+    // deserialized configurations bypass the builder, the validation must happen when constructing the record
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> new WebSocketConfig(0, WebSocketSlowConsumerPolicy.DISCONNECT));
+    Assertions.assertThrows(NullPointerException.class, () -> new WebSocketConfig(1024, null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> WebSocketConfig.builder().maxQueuedBytes(-1).build());
+  }
+}
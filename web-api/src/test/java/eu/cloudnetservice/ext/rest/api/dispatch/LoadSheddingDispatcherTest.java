@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.dispatch;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LoadSheddingDispatcherTest {
+
+  @Test
+  void testRejectsWhenQueueIsFull() throws Exception {
+    var dispatcher = new LoadSheddingDispatcher(
+      1,
+      1,
+      LoadSheddingDispatcher.DEFAULT_TARGET_DELAY,
+      LoadSheddingDispatcher.DEFAULT_INTERVAL,
+      Executors.defaultThreadFactory());
+    try {
+      var started = new CountDownLatch(1);
+      var release = new CountDownLatch(1);
+      dispatcher.execute(() -> {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      // the first task waits in the queue, the second one exceeds the capacity
+      dispatcher.execute(() -> {
+      });
+      var exception = Assertions.assertThrows(RequestDispatchRejectedException.class, () -> dispatcher.execute(() -> {
+      }));
+      Assertions.assertEquals(Duration.ofSeconds(1), exception.retryAfter());
+
+      release.countDown();
+    } finally {
+      dispatcher.shutdown();
+    }
+  }
+
+  @Test
+  void testUsesAllThreads() throws Exception {
+    var dispatcher = new LoadSheddingDispatcher(
+      4,
+      16,
+      LoadSheddingDispatcher.DEFAULT_TARGET_DELAY,
+      LoadSheddingDispatcher.DEFAULT_INTERVAL,
+      Executors.defaultThreadFactory());
+    try {
+      var running = new CountDownLatch(4);
+      var release = new CountDownLatch(1);
+      for (var i = 0; i < 4; i++) {
+        dispatcher.execute(() -> {
+          running.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+
+      // all tasks must run concurrently, a pool that never grows past one thread would never release the latch
+      Assertions.assertTrue(running.await(5, TimeUnit.SECONDS));
+      release.countDown();
+    } finally {
+      dispatcher.shutdown();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.dispatch;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RequestDispatchersTest {
+
+  @Test
+  void testVirtualThreadDispatcherRunsTasksOnVirtualThreads() throws Exception {
+    var dispatcher = RequestDispatchers.newVirtualThreadDispatcher();
+    try {
+      var thread = dispatcher.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+      Assertions.assertTrue(thread.isVirtual());
+      Assertions.assertTrue(thread.getName().startsWith("rest-request-dispatcher-"));
+    } finally {
+      dispatcher.shutdown();
+    }
+  }
+
+  @Test
+  void testPinningReporterCanBeRestarted() {
+    try {
+      // the flight recorder might not be available in the test jvm, the reporter must not fail in that case
+      var started = VirtualThreadPinningReporter.startReporting();
+      Assertions.assertEquals(started, VirtualThreadPinningReporter.startReporting());
+
+      VirtualThreadPinningReporter.stopReporting();
+      Assertions.assertEquals(started, VirtualThreadPinningReporter.startReporting());
+    } finally {
+      VirtualThreadPinningReporter.stopReporting();
+    }
+  }
+}
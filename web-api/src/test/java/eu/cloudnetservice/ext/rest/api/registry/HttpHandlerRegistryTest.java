@@ -401,4 +401,21 @@ public void testClear() {
     Assertions.assertNull(this.registry.findHandler("api/hello/world", this.httpContext));
     Assertions.assertEquals(0, this.registry.registeredHandlers().size());
   }
+
+  @Test
+  void testDispatchPoolMustBeRegistered() {
+    var config = HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).dispatchPool("uploads").build();
+    Assertions.assertThrows(
+      HttpHandlerRegisterException.class,
+      () -> this.registry.registerHandler("api/upload", EMPTY_HTTP_HANDLER, config));
+    Assertions.assertEquals(0, this.registry.registeredHandlers().size());
+
+    var componentConfig = ComponentConfig.builder(EMPTY_COMPONENT_CONFIG)
+      .executorService(EMPTY_COMPONENT_CONFIG.executorService())
+      .registerDispatchPool("uploads", Executors.newSingleThreadExecutor())
+      .build();
+    var registry = new DefaultHttpHandlerRegistry(componentConfig);
+    Assertions.assertDoesNotThrow(() -> registry.registerHandler("api/upload", EMPTY_HTTP_HANDLER, config));
+    Assertions.assertEquals(1, registry.registeredHandlers().size());
+  }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.resource;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StaticResourceCacheTest {
+
+  @TempDir
+  static Path resourceDirectory;
+  static StaticResourceCache resourceCache;
+
+  @BeforeAll
+  static void setupResources() throws Exception {
+    var docsDirectory = Files.createDirectories(resourceDirectory.resolve("docs"));
+    Files.writeString(docsDirectory.resolve("index.html"), "<html>" + "documentation ".repeat(500) + "</html>");
+    Files.writeString(docsDirectory.resolve("app.3f2a9b1c.js"), "console.log('hi')");
+
+    var classLoader = new URLClassLoader(new URL[]{resourceDirectory.toUri().toURL()}, null);
+    resourceCache = StaticResourceCache.create(classLoader, "docs");
+  }
+
+  @Test
+  void testResourceIsLoadedOnce() {
+    var resource = resourceCache.resource("/index.html");
+    Assertions.assertNotNull(resource);
+    Assertions.assertSame(resource, resourceCache.resource("index.html"));
+    Assertions.assertEquals("text/html; charset=utf-8", resource.contentType());
+    Assertions.assertFalse(resource.immutable());
+    Assertions.assertTrue(resource.entityTag().startsWith("\"") && resource.entityTag().endsWith("\""));
+  }
+
+  @Test
+  void testResourceIsPrecompressed() throws Exception {
+    var resource = resourceCache.resource("index.html");
+    Assertions.assertNotNull(resource);
+    Assertions.assertNotNull(resource.gzipContent());
+    Assertions.assertNotEquals(resource.entityTag(), resource.gzipEntityTag());
+
+    try (var stream = new GZIPInputStream(new ByteArrayInputStream(resource.gzipContent()))) {
+      Assertions.assertArrayEquals(resource.content(), stream.readAllBytes());
+    }
+  }
+
+  @Test
+  void testSmallHashedResource() {
+    var resource = resourceCache.resource("app.3f2a9b1c.js");
+    Assertions.assertNotNull(resource);
+    Assertions.assertTrue(resource.immutable());
+    Assertions.assertNull(resource.gzipContent());
+    Assertions.assertEquals("console.log('hi')", new String(resource.content(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testInvalidPathsAreRejected() {
+    Assertions.assertNull(resourceCache.resource("missing.css"));
+    Assertions.assertNull(resourceCache.resource("../docs/index.html"));
+    Assertions.assertNull(resourceCache.resource("/"));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.response.type;
+
+import eu.cloudnetservice.ext.rest.api.codec.builtin.CborCodec;
+import eu.cloudnetservice.ext.rest.api.codec.builtin.MessagePackCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JsonResponseTest {
+
+  @Test
+  void testJsonIsSelectedByDefault() {
+    Assertions.assertNull(JsonResponse.selectBinaryFormat(null));
+    Assertions.assertNull(JsonResponse.selectBinaryFormat("*/*"));
+    Assertions.assertNull(JsonResponse.selectBinaryFormat("application/json, application/cbor"));
+    Assertions.assertNull(JsonResponse.selectBinaryFormat("application/cbor;q=0.5, application/*"));
+    Assertions.assertNull(JsonResponse.selectBinaryFormat("text/html, application/cbor;q=0"));
+  }
+
+  @Test
+  void testBinaryFormatIsSelectedWhenPreferred() {
+    var cbor = JsonResponse.selectBinaryFormat("application/CBOR");
+    Assertions.assertNotNull(cbor);
+    Assertions.assertEquals("application/cbor", cbor.mediaType());
+    Assertions.assertEquals(CborCodec.class, cbor.codecType());
+
+    var msgpack = JsonResponse.selectBinaryFormat("application/json;q=0.5, application/x-msgpack; q=0.9, */*;q=0.1");
+    Assertions.assertNotNull(msgpack);
+    Assertions.assertEquals("application/x-msgpack", msgpack.mediaType());
+    Assertions.assertEquals(MessagePackCodec.class, msgpack.codecType());
+  }
+
+  @Test
+  void testHighestQualityBinaryFormatIsSelected() {
+    var format = JsonResponse.selectBinaryFormat("application/cbor;q=0.4, application/msgpack;q=0.8, application/json;q=0.2");
+    Assertions.assertNotNull(format);
+    Assertions.assertEquals("application/msgpack", format.mediaType());
+  }
+
+  @Test
+  void testParseQuality() {
+    Assertions.assertEquals(1D, JsonResponse.parseQuality(""));
+    Assertions.assertEquals(1D, JsonResponse.parseQuality("charset=utf-8"));
+    Assertions.assertEquals(0.5D, JsonResponse.parseQuality("charset=utf-8; Q=0.5"));
+    Assertions.assertEquals(0D, JsonResponse.parseQuality("q=0"));
+    Assertions.assertEquals(1D, JsonResponse.parseQuality("q=invalid"));
+    Assertions.assertEquals(1D, JsonResponse.parseQuality("q=NaN"));
+    Assertions.assertEquals(1D, JsonResponse.parseQuality("q=5"));
+    Assertions.assertEquals(0D, JsonResponse.parseQuality("q=-1"));
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.response.type;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StaticResourceResponseTest {
+
+  @Test
+  void testAcceptsGzip() {
+    Assertions.assertFalse(StaticResourceResponse.acceptsGzip(null));
+    Assertions.assertFalse(StaticResourceResponse.acceptsGzip("br, deflate"));
+    Assertions.assertTrue(StaticResourceResponse.acceptsGzip("br, GZIP;q=0.5"));
+    Assertions.assertTrue(StaticResourceResponse.acceptsGzip("*"));
+    Assertions.assertFalse(StaticResourceResponse.acceptsGzip("gzip;q=0"));
+  }
+
+  @Test
+  void testExplicitGzipEntryOverridesWildcard() {
+    Assertions.assertFalse(StaticResourceResponse.acceptsGzip("*, gzip;q=0"));
+    Assertions.assertFalse(StaticResourceResponse.acceptsGzip("gzip; q=0.000, *"));
+    Assertions.assertTrue(StaticResourceResponse.acceptsGzip("*;q=0, gzip"));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.util;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class HttpRangeUtilTest {
+
+  static Stream<Arguments> rangeHeaderSource() {
+    return Stream.of(
+      Arguments.of("bytes=0-499", List.of(new ByteRange(0, 499))),
+      Arguments.of("bytes=500-", List.of(new ByteRange(500, 999))),
+      Arguments.of("bytes=-200", List.of(new ByteRange(800, 999))),
+      Arguments.of("bytes=-2000", List.of(new ByteRange(0, 999))),
+      Arguments.of("bytes=900-1500", List.of(new ByteRange(900, 999))),
+      Arguments.of("bytes=0-0, 10-19", List.of(new ByteRange(0, 0), new ByteRange(10, 19))),
+      Arguments.of("bytes=1000-", List.of()),
+      Arguments.of("bytes=1000-1200, -0", List.of()),
+      Arguments.of("bytes=10-5", null),
+      Arguments.of("bytes=abc-def", null),
+      Arguments.of("items=0-5", null),
+      Arguments.of("bytes=0-5 10-20", null));
+  }
+
+  @ParameterizedTest
+  @MethodSource("rangeHeaderSource")
+  void testRangeHeaderParsing(String header, List<ByteRange> expected) {
+    Assertions.assertEquals(expected, HttpRangeUtil.parseRanges(header, 1000));
+  }
+
+  @Test
+  void testTooManyRangesAreIgnored() {
+    var header = "bytes=" + "0-1,".repeat(HttpRangeUtil.MAX_RANGES) + "2-3";
+    Assertions.assertNull(HttpRangeUtil.parseRanges(header, 1000));
+  }
+
+  @Test
+  void testIfRangeMatchesLastModified() {
+    var lastModified = Instant.ofEpochSecond(784111777);
+    var matching = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_RANGE, "Sun, 06 Nov 1994 08:49:37 GMT");
+    Assertions.assertTrue(HttpRangeUtil.ifRangeMatches(matching, lastModified));
+
+    var outdated = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_RANGE, "Sat, 05 Nov 1994 08:49:37 GMT");
+    Assertions.assertFalse(HttpRangeUtil.ifRangeMatches(outdated, lastModified));
+
+    var entityTag = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_RANGE, "\"abc\"");
+    Assertions.assertFalse(HttpRangeUtil.ifRangeMatches(entityTag, lastModified));
+  }
+}
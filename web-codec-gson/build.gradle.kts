@@ -17,4 +17,6 @@
 dependencies {
   compileOnly(projects.webApi)
   implementation(libs.gson)
+  implementation(libs.caffeine)
+  testImplementation(projects.webApi)
 }
@@ -16,24 +16,39 @@
 
 package eu.cloudnetservice.ext.rest.codecgson;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import eu.cloudnetservice.ext.rest.api.codec.BoundSerializer;
 import eu.cloudnetservice.ext.rest.api.codec.builtin.JsonCodec;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import lombok.NonNull;
 
 public class GsonDataformatCodec implements JsonCodec {
 
+  private static final int MAX_BOUND_SERIALIZERS = 256;
+
   private static final Gson DEFAULT_GSON = new GsonBuilder()
     .serializeNulls()
     .disableHtmlEscaping()
     .create();
 
   private final Gson gson;
+  // the codec lives as long as the codec loader, the amount of bound serializers is limited to not pin all bound types
+  private final Cache<Type, BoundSerializer> boundSerializers = Caffeine.newBuilder()
+    .maximumSize(MAX_BOUND_SERIALIZERS)
+    .build();
 
   public GsonDataformatCodec() {
     this(DEFAULT_GSON);
@@ -48,6 +63,39 @@ public GsonDataformatCodec(@NonNull Gson gson) {
     return this.gson.toJson(object, type);
   }
 
+  @Override
+  public void serialize(@NonNull Type type, @NonNull Object object, @NonNull OutputStream target) {
+    // the writer is flushed but not closed, closing the target stream is up to the caller
+    var writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
+    try {
+      this.gson.toJson(object, type, writer);
+      writer.flush();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  @Override
+  public @NonNull BoundSerializer serializer(@NonNull Type type) {
+    return this.boundSerializers.get(type, this::bindSerializer);
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NonNull BoundSerializer bindSerializer(@NonNull Type type) {
+    // resolve the adapter once, serializing using the bound serializer skips the adapter lookup of gson
+    var adapter = (TypeAdapter<Object>) this.gson.getAdapter(TypeToken.get(type));
+    return (object, target) -> {
+      var writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
+      try {
+        var jsonWriter = this.gson.newJsonWriter(writer);
+        adapter.write(jsonWriter, object);
+        jsonWriter.flush();
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    };
+  }
+
   @Override
   public @NonNull Object deserialize(@NonNull Charset charset, @NonNull Type objectType, @NonNull InputStream content) {
     try (var reader = new InputStreamReader(content, charset)) {
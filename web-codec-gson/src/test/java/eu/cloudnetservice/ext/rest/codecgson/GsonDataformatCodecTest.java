@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.codecgson;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class GsonDataformatCodecTest {
+
+  private static final Type INT_LIST_TYPE = new TypeToken<List<Integer>>() {
+  }.getType();
+
+  @Test
+  void testBoundSerializerIsCachedPerCodec() {
+    var codec = new GsonDataformatCodec();
+    Assertions.assertSame(codec.serializer(INT_LIST_TYPE), codec.serializer(INT_LIST_TYPE));
+    Assertions.assertNotSame(codec.serializer(INT_LIST_TYPE), codec.serializer(List.class));
+    Assertions.assertNotSame(codec.serializer(INT_LIST_TYPE), new GsonDataformatCodec().serializer(INT_LIST_TYPE));
+  }
+
+  @Test
+  void testBoundSerializerUsesDeclaredType() {
+    // the adapter is only registered for the parameterized type, the raw runtime class must not resolve it
+    var gson = new GsonBuilder().registerTypeAdapter(INT_LIST_TYPE, new TypeAdapter<List<Integer>>() {
+      @Override
+      public void write(JsonWriter out, List<Integer> value) throws IOException {
+        out.value(value.stream().mapToInt(Integer::intValue).sum());
+      }
+
+      @Override
+      public List<Integer> read(JsonReader in) {
+        throw new UnsupportedOperationException();
+      }
+    }).create();
+    var codec = new GsonDataformatCodec(gson);
+
+    Assertions.assertEquals("6", serialize(codec, INT_LIST_TYPE, List.of(1, 2, 3)));
+    Assertions.assertEquals("[1,2,3]", serialize(codec, List.class, List.of(1, 2, 3)));
+  }
+
+  private static String serialize(GsonDataformatCodec codec, Type type, Object object) {
+    var target = new ByteArrayOutputStream();
+    codec.serializer(type).serialize(object, target);
+    return target.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.codecjackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.ext.rest.api.codec.BoundSerializer;
+import eu.cloudnetservice.ext.rest.api.codec.builtin.JsonCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import lombok.NonNull;
+
+public class JacksonDataformatCodec implements JsonCodec {
+
+  private static final int MAX_BOUND_SERIALIZERS = 256;
+
+  private static final ObjectMapper DEFAULT_OBJECT_MAPPER = JacksonMapperUtil.buildDefaultMapper(JsonMapper.builder());
+
+  private final ObjectMapper objectMapper;
+  // bounded as the codec instance is cached for the lifetime of the codec loader
+  private final Cache<Type, BoundSerializer> boundSerializers = Caffeine.newBuilder()
+    .maximumSize(MAX_BOUND_SERIALIZERS)
+    .build();
+
+  public JacksonDataformatCodec() {
+    this(DEFAULT_OBJECT_MAPPER);
+  }
+
+  public JacksonDataformatCodec(@NonNull ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public @NonNull String serialize(@NonNull Type type, @NonNull Object object) {
+    try {
+      return this.objectMapper.writerFor(this.objectMapper.constructType(type)).writeValueAsString(object);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  @Override
+  public void serialize(@NonNull Type type, @NonNull Object object, @NonNull OutputStream target) {
+    try {
+      this.objectMapper.writerFor(this.objectMapper.constructType(type)).writeValue(target, object);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  @Override
+  public @NonNull BoundSerializer serializer(@NonNull Type type) {
+    return this.boundSerializers.get(type, this::bindSerializer);
+  }
+
+  private @NonNull BoundSerializer bindSerializer(@NonNull Type type) {
+    // the writer prefetches the root value serializer, no lookup is needed when serializing using the bound serializer
+    var writer = this.objectMapper.writerFor(this.objectMapper.constructType(type));
+    return (object, target) -> {
+      try {
+        writer.writeValue(target, object);
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    };
+  }
+
+  @Override
+  public @NonNull Object deserialize(@NonNull Charset charset, @NonNull Type objectType, @NonNull InputStream content) {
+    try (var reader = new InputStreamReader(content, charset)) {
+      return this.objectMapper.readerFor(this.objectMapper.constructType(objectType)).readValue(reader);
+    } catch (IOException exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.codecjackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JacksonBinaryDataformatCodecTest {
+
+  static Stream<JacksonBinaryDataformatCodec> codecs() {
+    return Stream.of(new JacksonCborDataformatCodec(), new JacksonMessagePackDataformatCodec());
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecs")
+  void testStreamRoundTrip(JacksonBinaryDataformatCodec codec) {
+    var entry = new Entry("lobby", List.of(1, 2, 3));
+    var target = new ByteArrayOutputStream();
+    codec.serialize(Entry.class, entry, target);
+
+    var content = new ByteArrayInputStream(target.toByteArray());
+    Assertions.assertEquals(entry, codec.deserialize(StandardCharsets.UTF_8, Entry.class, content));
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecs")
+  void testStringSerializationIsBase64Encoded(JacksonBinaryDataformatCodec codec) {
+    var entry = new Entry("proxy", List.of());
+    var target = new ByteArrayOutputStream();
+    codec.serializer(Entry.class).serialize(entry, target);
+
+    var serialized = codec.serialize(Entry.class, entry);
+    Assertions.assertArrayEquals(target.toByteArray(), Base64.getDecoder().decode(serialized));
+  }
+
+  record Entry(String name, List<Integer> ports) {
+
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.codecjackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import eu.cloudnetservice.ext.rest.api.codec.CodecLoader;
+import eu.cloudnetservice.ext.rest.api.codec.builtin.JsonCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JacksonDataformatCodecTest {
+
+  private static final Type ENTRY_LIST_TYPE = new TypeReference<Map<String, List<Entry>>>() {
+  }.getType();
+
+  @Test
+  void testCodecIsLoadedThroughServiceLoader() {
+    Assertions.assertInstanceOf(JacksonDataformatCodec.class, CodecLoader.resolveCodec(JsonCodec.class));
+  }
+
+  @Test
+  void testSerializeMirrorsGsonCodec() {
+    var codec = new JacksonDataformatCodec();
+    // fields are written instead of getters, null values are included
+    Assertions.assertEquals(
+      "{\"name\":\"lobby\",\"count\":2,\"note\":null}",
+      codec.serialize(Entry.class, new Entry("lobby", 2, null)));
+    Assertions.assertEquals("{}", codec.serialize(Object.class, new Object()));
+  }
+
+  @Test
+  void testDeserializeIgnoresUnknownProperties() {
+    var codec = new JacksonDataformatCodec();
+    var json = "{\"name\":\"lobby\",\"count\":2,\"unknown\":true}";
+
+    var entry = codec.deserialize(
+      StandardCharsets.UTF_8,
+      Entry.class,
+      new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertEquals(new Entry("lobby", 2, null), entry);
+  }
+
+  @Test
+  void testBoundSerializerIsCachedPerCodec() {
+    var codec = new JacksonDataformatCodec();
+    Assertions.assertSame(codec.serializer(ENTRY_LIST_TYPE), codec.serializer(ENTRY_LIST_TYPE));
+    Assertions.assertNotSame(codec.serializer(ENTRY_LIST_TYPE), new JacksonDataformatCodec().serializer(ENTRY_LIST_TYPE));
+  }
+
+  @Test
+  void testBoundSerializerWritesGenericBody() {
+    var codec = new JacksonDataformatCodec();
+    var target = new ByteArrayOutputStream();
+    codec.serializer(ENTRY_LIST_TYPE).serialize(Map.of("entries", List.of(new Entry("proxy", 1, "a"))), target);
+
+    Assertions.assertEquals(
+      "{\"entries\":[{\"name\":\"proxy\",\"count\":1,\"note\":\"a\"}]}",
+      target.toString(StandardCharsets.UTF_8));
+  }
+
+  record Entry(String name, int count, String note) {
+
+  }
+}
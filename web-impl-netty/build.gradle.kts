@@ -19,9 +19,11 @@ dependencies {
 
   implementation(libs.nettyHandler)
   implementation(libs.nettyCodecHttp)
+  implementation(libs.nettyCodecHttp2)
   implementation(libs.nettyContribHaProxy)
 
   // transports
   implementation(libs.nettyNativeEpoll)
   implementation(libs.nettyNativeKqueue)
+  implementation(libs.nettyNativeIoUring)
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.codec.http.HttpRequestDecoder;
+import io.netty5.handler.codec.http.HttpResponseEncoder;
+import io.netty5.handler.codec.http2.Http2SecurityUtil;
+import io.netty5.handler.ssl.ApplicationProtocolNames;
+import io.netty5.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty5.handler.ssl.SslHandler;
+import lombok.NonNull;
+
+/**
+ * A handler which configures the connection pipeline based on the application protocol that was negotiated during the
+ * tls handshake. Connections fall back to http/1.1 if the client does not support alpn.
+ *
+ * @since 1.0
+ */
+final class NettyApplicationProtocolHandler extends ApplicationProtocolNegotiationHandler {
+
+  private final NettyHttpServerInitializer serverInitializer;
+
+  /**
+   * Constructs a new netty application protocol handler instance.
+   *
+   * @param serverInitializer the initializer of the connection to configure.
+   * @throws NullPointerException if the given server initializer is null.
+   */
+  public NettyApplicationProtocolHandler(@NonNull NettyHttpServerInitializer serverInitializer) {
+    super(ApplicationProtocolNames.HTTP_1_1);
+    this.serverInitializer = serverInitializer;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void configurePipeline(@NonNull ChannelHandlerContext ctx, @NonNull String protocol) {
+    switch (protocol) {
+      case ApplicationProtocolNames.HTTP_2 -> {
+        // the cipher suites are not restricted to the ones allowed by http/2 to not affect http/1.1 clients, close the
+        // connection if the client selected a cipher suite which is not allowed to be used with http/2 (rfc 9113, 9.2.2)
+        var cipherSuite = ctx.pipeline().get(SslHandler.class).engine().getSession().getCipherSuite();
+        if (!Http2SecurityUtil.CIPHERS.contains(cipherSuite)) {
+          ctx.close();
+          return;
+        }
+
+        this.serverInitializer.configureHttp2Pipeline(ctx.pipeline());
+      }
+      case ApplicationProtocolNames.HTTP_1_1 -> {
+        ctx.pipeline()
+          .addLast("http-request-decoder", new HttpRequestDecoder())
+          .addLast("http-response-encoder", new HttpResponseEncoder());
+        this.serverInitializer.configureHttpHandlers(ctx.pipeline());
+      }
+      default -> throw new IllegalStateException("Unsupported application protocol: " + protocol);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import io.netty5.channel.ChannelInitializer;
+import io.netty5.handler.codec.http2.Http2StreamChannel;
+import io.netty5.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import lombok.NonNull;
+
+/**
+ * The channel initializer for http/2 stream channels. Each stream converts the http/2 frames into http/1.1 objects,
+ * allowing the stream to be handled by the same handlers as a http/1.1 connection.
+ *
+ * @since 1.0
+ */
+final class NettyHttp2StreamInitializer extends ChannelInitializer<Http2StreamChannel> {
+
+  private final NettyHttpServerInitializer serverInitializer;
+
+  /**
+   * Constructs a new netty http/2 stream initializer instance.
+   *
+   * @param serverInitializer the initializer of the connection the streams belong to.
+   * @throws NullPointerException if the given server initializer is null.
+   */
+  public NettyHttp2StreamInitializer(@NonNull NettyHttpServerInitializer serverInitializer) {
+    this.serverInitializer = serverInitializer;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void initChannel(@NonNull Http2StreamChannel ch) {
+    ch.pipeline().addLast("http2-stream-codec", new Http2StreamFrameToHttpObjectCodec(true));
+    this.serverInitializer.configureHttpHandlers(ch.pipeline());
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import eu.cloudnetservice.ext.rest.api.config.CompressionConfig;
+import io.netty5.handler.codec.compression.Brotli;
+import io.netty5.handler.codec.compression.BrotliMode;
+import io.netty5.handler.codec.compression.CompressionOptions;
+import io.netty5.handler.codec.compression.StandardCompressionOptions;
+import io.netty5.handler.codec.compression.Zstd;
+import io.netty5.handler.codec.http.HttpContentCompressor;
+import io.netty5.handler.codec.http.HttpHeaderNames;
+import io.netty5.handler.codec.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A http content compressor which applies the configured compression policy. Responses are not compressed if they are
+ * smaller than the configured minimum size, have one of the excluded media types (for example archives or images
+ * which are already compressed) or carry a strong entity tag.
+ *
+ * @since 1.0
+ */
+final class NettyHttpContentCompressor extends HttpContentCompressor {
+
+  private static final int DEFAULT_WINDOW_BITS = 15;
+  private static final int DEFAULT_MEM_LEVEL = 8;
+  private static final int BROTLI_WINDOW = 22;
+  private static final int ZSTD_BLOCK_SIZE = 64 * 1024;
+  private static final int ZSTD_MAX_ENCODE_SIZE = 32 * 1024 * 1024;
+
+  private final CompressionConfig compressionConfig;
+
+  /**
+   * Constructs a new content compressor using the given compression policy.
+   *
+   * @param compressionConfig the compression policy to apply.
+   * @throws NullPointerException if the given compression config is null.
+   */
+  public NettyHttpContentCompressor(@NonNull CompressionConfig compressionConfig) {
+    super(compressionConfig.minimumSize(), compressionOptions(compressionConfig));
+    this.compressionConfig = compressionConfig;
+  }
+
+  /**
+   * Builds the compression options to negotiate with clients based on the given config. Brotli and zstd are only
+   * offered if they are enabled and their native implementation is available at runtime.
+   *
+   * @param config the compression config to build the options for.
+   * @return the compression options to negotiate with clients.
+   * @throws NullPointerException if the given config is null.
+   */
+  private static @NonNull CompressionOptions[] compressionOptions(@NonNull CompressionConfig config) {
+    List<CompressionOptions> options = new ArrayList<>();
+    if (config.enableBrotli() && Brotli.isAvailable()) {
+      options.add(StandardCompressionOptions.brotli(config.brotliQuality(), BROTLI_WINDOW, BrotliMode.TEXT));
+    }
+
+    if (config.enableZstd() && Zstd.isAvailable()) {
+      options.add(StandardCompressionOptions.zstd(config.zstdLevel(), ZSTD_BLOCK_SIZE, ZSTD_MAX_ENCODE_SIZE));
+    }
+
+    options.add(StandardCompressionOptions.gzip(config.gzipLevel(), DEFAULT_WINDOW_BITS, DEFAULT_MEM_LEVEL));
+    options.add(StandardCompressionOptions.deflate(config.deflateLevel(), DEFAULT_WINDOW_BITS, DEFAULT_MEM_LEVEL));
+    return options.toArray(CompressionOptions[]::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Result beginEncode(@NonNull HttpResponse httpResponse, @NonNull String acceptEncoding) throws Exception {
+    var headers = httpResponse.headers();
+
+    // a strong entity tag identifies the exact bytes of the representation, compressing the response would make the
+    // tag wrong. these responses (for example precompressed static resources) select their representation themselves
+    var entityTag = headers.get(HttpHeaderNames.ETAG);
+    if (entityTag != null && !entityTag.toString().startsWith("W/")) {
+      return null;
+    }
+
+    var contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+    if (!this.compressionConfig.shouldCompress(contentType == null ? null : contentType.toString())) {
+      return null;
+    }
+
+    // the content size threshold only applies to aggregated responses, check the announced length of other responses
+    var contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+    if (contentLength != null) {
+      try {
+        if (Long.parseLong(contentLength.toString()) < this.compressionConfig.minimumSize()) {
+          return null;
+        }
+      } catch (NumberFormatException ignored) {
+      }
+    }
+
+    return super.beginEncode(httpResponse, acceptEncoding);
+  }
+}
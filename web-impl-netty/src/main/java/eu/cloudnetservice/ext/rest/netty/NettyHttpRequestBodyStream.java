@@ -0,0 +1,267 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelOption;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/**
+ * An input stream which is fed with the content of a http request while it is being received. Reads from the channel
+ * are paused when too much content is queued in the stream and resumed once the consumer read enough of the queued
+ * content, which keeps the memory used per request constant regardless of the size of the request body.
+ *
+ * @since 1.0
+ */
+final class NettyHttpRequestBodyStream extends InputStream {
+
+  static final int HIGH_WATERMARK = 1024 * 1024;
+  static final int LOW_WATERMARK = 256 * 1024;
+
+  private final Channel channel;
+  private final long maxContentLength;
+
+  private final Lock lock = new ReentrantLock();
+  private final Condition contentAvailable = this.lock.newCondition();
+  private final Deque<Buffer> queuedContent = new ArrayDeque<>();
+
+  private long queuedBytes;
+  private long receivedBytes;
+  private boolean readsPaused;
+
+  private boolean closed;
+  private boolean completed;
+  private IOException failure;
+
+  /**
+   * Constructs a new netty http request body stream instance.
+   *
+   * @param channel          the channel from which the request body is received.
+   * @param maxContentLength the maximum amount of bytes the request body is allowed to have.
+   * @throws NullPointerException if the given channel is null.
+   */
+  public NettyHttpRequestBodyStream(@NonNull Channel channel, long maxContentLength) {
+    this.channel = channel;
+    this.maxContentLength = maxContentLength;
+  }
+
+  /**
+   * Offers the next part of the request body to this stream, the ownership of the buffer is transferred to this stream.
+   * Reads from the channel are paused if too much content is queued. If the request body exceeds the maximum content
+   * length the stream is failed and the connection is closed. This method must be called from the event loop of the
+   * channel.
+   *
+   * @param content the next part of the request body.
+   * @throws NullPointerException if the given content is null.
+   */
+  void offer(@NonNull Buffer content) {
+    this.lock.lock();
+    try {
+      if (this.closed || this.failure != null || content.readableBytes() == 0) {
+        // the consumer is not interested in the content anymore or there is no content to queue
+        content.close();
+        return;
+      }
+
+      this.receivedBytes += content.readableBytes();
+      if (this.receivedBytes > this.maxContentLength) {
+        // the client sent more content than allowed, there is no way to continue reading the request in a sane way
+        content.close();
+        this.discardQueuedContent();
+        this.failure = new IOException("Request body exceeds the maximum length of " + this.maxContentLength + " bytes");
+        this.contentAvailable.signalAll();
+        this.channel.close();
+        return;
+      }
+
+      this.queuedContent.add(content);
+      this.queuedBytes += content.readableBytes();
+      if (!this.readsPaused && this.queuedBytes >= HIGH_WATERMARK) {
+        // the consumer is too slow, stop reading from the channel until the consumer caught up
+        this.readsPaused = true;
+        this.channel.setOption(ChannelOption.AUTO_READ, false);
+      }
+
+      this.contentAvailable.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Marks the request body as fully received.
+   */
+  void complete() {
+    this.lock.lock();
+    try {
+      this.completed = true;
+      this.contentAvailable.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Marks the request body as failed, for example because the connection was closed before the body was received.
+   *
+   * @param failure the failure to rethrow to the consumer of the stream.
+   * @throws NullPointerException if the given failure is null.
+   */
+  void fail(@NonNull IOException failure) {
+    this.lock.lock();
+    try {
+      if (!this.completed) {
+        this.failure = failure;
+        this.contentAvailable.signalAll();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read() throws IOException {
+    var singleByte = new byte[1];
+    var read = this.read(singleByte, 0, 1);
+    return read == -1 ? -1 : singleByte[0] & 0xFF;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read(byte @NonNull [] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+
+    this.lock.lock();
+    try {
+      while (this.queuedContent.isEmpty()) {
+        if (this.closed) {
+          throw new IOException("Stream closed");
+        }
+
+        if (this.failure != null) {
+          throw this.failure;
+        }
+
+        if (this.completed) {
+          return -1;
+        }
+
+        try {
+          this.contentAvailable.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for request body");
+        }
+      }
+
+      var content = this.queuedContent.peek();
+      var readBytes = Math.min(len, content.readableBytes());
+      content.readBytes(b, off, readBytes);
+      if (content.readableBytes() == 0) {
+        this.queuedContent.poll();
+        content.close();
+      }
+
+      this.queuedBytes -= readBytes;
+      if (this.readsPaused && this.queuedBytes <= LOW_WATERMARK) {
+        this.resumeReads();
+      }
+
+      return readBytes;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int available() {
+    this.lock.lock();
+    try {
+      var content = this.queuedContent.peek();
+      return content == null ? 0 : content.readableBytes();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Closes this stream, discarding all content that is queued or received in the future.
+   */
+  @Override
+  public void close() {
+    this.lock.lock();
+    try {
+      if (!this.closed) {
+        this.closed = true;
+        this.discardQueuedContent();
+
+        // continue reading to allow the remaining request body to be discarded
+        if (this.readsPaused) {
+          this.resumeReads();
+        }
+
+        this.contentAvailable.signalAll();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Releases all content that is currently queued in this stream.
+   */
+  private void discardQueuedContent() {
+    this.queuedBytes = 0;
+
+    Buffer content;
+    while ((content = this.queuedContent.poll()) != null) {
+      content.close();
+    }
+  }
+
+  /**
+   * Resumes reading from the channel after reads were paused due to too much queued content.
+   */
+  private void resumeReads() {
+    this.readsPaused = false;
+    this.channel.executor().execute(() -> {
+      this.channel.setOption(ChannelOption.AUTO_READ, true);
+      this.channel.read();
+    });
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import eu.cloudnetservice.ext.rest.api.util.HttpDateUtil;
+import io.netty5.util.AsciiString;
+import java.time.Instant;
+import lombok.NonNull;
+
+/**
+ * Holds pre-encoded values for headers that are appended to every response sent by the server, to prevent the
+ * allocation and formatting of these values for each response.
+ *
+ * @since 1.0
+ */
+final class NettyHttpResponseHeaders {
+
+  /**
+   * The keep-alive header value sent with every response to a request that keeps the connection alive.
+   */
+  static final AsciiString KEEP_ALIVE_VALUE = AsciiString.cached(
+    "timeout=" + NettyHttpServerInitializer.MAX_CONNECTION_IDLE_TIME.toSeconds());
+
+  private static volatile CachedDate cachedDate = new CachedDate(-1, AsciiString.EMPTY_STRING);
+
+  private NettyHttpResponseHeaders() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Get the current date formatted as a http date for the date header. Http dates have a precision of seconds, the
+   * formatted value is therefore cached and only re-formatted once per second.
+   *
+   * @return the current date formatted as a http date.
+   */
+  static @NonNull AsciiString currentDate() {
+    var currentDate = cachedDate;
+    var currentSecond = System.currentTimeMillis() / 1000;
+    if (currentDate.epochSecond() != currentSecond) {
+      // the cached value is outdated, concurrent updates are fine as they all result in the same value
+      var formattedDate = HttpDateUtil.formatAsHttpDate(Instant.ofEpochSecond(currentSecond));
+      currentDate = new CachedDate(currentSecond, new AsciiString(formattedDate));
+      cachedDate = currentDate;
+    }
+
+    return currentDate.value();
+  }
+
+  /**
+   * A formatted date header value for a specific second.
+   *
+   * @param epochSecond the epoch second which is represented by the formatted value.
+   * @param value       the formatted date value.
+   * @since 1.0
+   */
+  private record CachedDate(long epochSecond, @NonNull AsciiString value) {
+
+  }
+}
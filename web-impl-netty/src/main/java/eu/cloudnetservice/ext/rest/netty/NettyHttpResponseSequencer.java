@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import io.netty5.channel.Channel;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ensures that the responses to pipelined http/1.1 requests are written in the order the requests were received, while
+ * allowing the requests themselves to be processed concurrently. Each request gets a sequence number when it is
+ * received, the response writer of a completed request is held back until all responses to previous requests were
+ * written. All responses that became writable at once are flushed together, and flushes that happen while the channel
+ * is reading are deferred until the read completed, which allows a pipelined burst of requests to be answered with a
+ * single write to the socket.
+ *
+ * @since 1.0
+ */
+final class NettyHttpResponseSequencer {
+
+  /**
+   * The maximum amount of requests on one connection whose responses were not written yet. Each of these requests is
+   * processed concurrently and its response is held in memory until all previous responses were written.
+   */
+  static final int MAX_PENDING_RESPONSES = 64;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NettyHttpResponseSequencer.class);
+
+  private final Channel channel;
+
+  // all state is only accessed from the event loop of the channel
+  private final Map<Long, Runnable> completedResponses = new HashMap<>();
+  private final Map<Long, Runnable> interimResponses = new HashMap<>();
+  private long nextRequestSequence;
+  private long nextResponseSequence;
+  private boolean readInProgress;
+
+  /**
+   * Constructs a new response sequencer for the given channel.
+   *
+   * @param channel the channel to write the responses to.
+   * @throws NullPointerException if the given channel is null.
+   */
+  public NettyHttpResponseSequencer(@NonNull Channel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * Assigns the next sequence number to a received request. This method must be called from the event loop of the
+   * channel, in the order the requests were received.
+   *
+   * @return the sequence number of the received request.
+   */
+  public long nextSequence() {
+    return this.nextRequestSequence++;
+  }
+
+  /**
+   * Checks if the maximum amount of requests whose responses were not written yet is reached for the channel. No further
+   * requests should be accepted from the channel in that case. This method must be called from the event loop of the
+   * channel.
+   *
+   * @return true if the maximum amount of pending responses is reached, false otherwise.
+   */
+  public boolean pendingResponseLimitReached() {
+    return this.nextRequestSequence - this.nextResponseSequence >= MAX_PENDING_RESPONSES;
+  }
+
+  /**
+   * Marks that the channel started or finished reading. Flushes are deferred while a read is in progress, the caller is
+   * responsible to flush the channel when the read completed. This method must be called from the event loop of the
+   * channel.
+   *
+   * @param readInProgress if the channel is currently reading.
+   */
+  public void readInProgress(boolean readInProgress) {
+    this.readInProgress = readInProgress;
+  }
+
+  /**
+   * Completes the response to the request with the given sequence number. The given writer is called on the event loop
+   * of the channel once all responses to previous requests were written. The writer must not flush the channel. This
+   * method can be called from any thread, but must be called exactly once for each assigned sequence number.
+   *
+   * @param sequence       the sequence number of the request that was completed.
+   * @param responseWriter the writer which writes the response to the request into the channel.
+   * @throws NullPointerException if the given response writer is null.
+   */
+  public void completeResponse(long sequence, @NonNull Runnable responseWriter) {
+    var executor = this.channel.executor();
+    if (executor.inEventLoop()) {
+      this.completeResponse0(sequence, responseWriter);
+    } else {
+      executor.execute(() -> this.completeResponse0(sequence, responseWriter));
+    }
+  }
+
+  /**
+   * Writes an interim response (for example {@code 100 Continue}) to the request with the given sequence number. The
+   * interim response is written directly if all responses to previous requests were written, else it is held back
+   * until the last previous response was written. The writer must not flush the channel. This method must be called
+   * from the event loop of the channel, before the response to the request was completed.
+   *
+   * @param sequence       the sequence number of the request the interim response belongs to.
+   * @param responseWriter the writer which writes the interim response into the channel.
+   * @throws NullPointerException if the given response writer is null.
+   */
+  public void writeInterimResponse(long sequence, @NonNull Runnable responseWriter) {
+    if (sequence != this.nextResponseSequence) {
+      this.interimResponses.put(sequence, responseWriter);
+      return;
+    }
+
+    this.runResponseWriter(responseWriter);
+    if (!this.readInProgress) {
+      this.channel.flush();
+    }
+  }
+
+  /**
+   * Runs all response writers that are held back, regardless of their order. Used when the channel became inactive, in
+   * which case the writes fail and release the resources held by the responses. This method must be called from the
+   * event loop of the channel.
+   */
+  public void discardPendingResponses() {
+    for (var responseWriter : this.completedResponses.values()) {
+      this.runResponseWriter(responseWriter);
+    }
+
+    this.completedResponses.clear();
+
+    // interim responses are only allocated when written, there is nothing to release
+    this.interimResponses.clear();
+  }
+
+  /**
+   * Completes the response to the request with the given sequence number, writing it and all directly following
+   * responses if all previous responses were written already. This method must be called from the event loop of the
+   * channel.
+   *
+   * @param sequence       the sequence number of the request that was completed.
+   * @param responseWriter the writer which writes the response to the request into the channel.
+   * @throws NullPointerException if the given response writer is null.
+   */
+  private void completeResponse0(long sequence, @NonNull Runnable responseWriter) {
+    // the order doesn't matter anymore if the channel is closed, the write only releases the response
+    if (!this.channel.isActive()) {
+      this.runResponseWriter(responseWriter);
+      return;
+    }
+
+    if (sequence != this.nextResponseSequence) {
+      this.completedResponses.put(sequence, responseWriter);
+      return;
+    }
+
+    // write the given response and all responses that were completed before and are next in order
+    var nextResponseWriter = responseWriter;
+    do {
+      this.runResponseWriter(nextResponseWriter);
+      this.nextResponseSequence++;
+
+      // the next request is now first in line, write its interim response if it was held back
+      var interimResponseWriter = this.interimResponses.remove(this.nextResponseSequence);
+      if (interimResponseWriter != null) {
+        this.runResponseWriter(interimResponseWriter);
+      }
+    } while ((nextResponseWriter = this.completedResponses.remove(this.nextResponseSequence)) != null);
+
+    if (!this.readInProgress) {
+      this.channel.flush();
+    }
+  }
+
+  /**
+   * Runs the given response writer, closing the channel if the writer fails as the response stream would be corrupted
+   * otherwise.
+   *
+   * @param responseWriter the response writer to run.
+   * @throws NullPointerException if the given response writer is null.
+   */
+  private void runResponseWriter(@NonNull Runnable responseWriter) {
+    try {
+      responseWriter.run();
+    } catch (Throwable throwable) {
+      LOGGER.debug("Exception caught while writing http response", throwable);
+      this.channel.close();
+    }
+  }
+}
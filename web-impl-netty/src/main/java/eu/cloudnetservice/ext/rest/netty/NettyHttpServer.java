@@ -24,8 +24,13 @@
 import eu.cloudnetservice.ext.rest.api.registry.HttpHandlerRegistry;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelOption;
 import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.WriteBufferWaterMark;
+import io.netty5.channel.unix.UnixChannelOption;
+import io.netty5.handler.ssl.ApplicationProtocolConfig;
+import io.netty5.handler.ssl.ApplicationProtocolNames;
 import io.netty5.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty5.handler.ssl.OpenSsl;
 import io.netty5.handler.ssl.SslContext;
@@ -33,11 +38,16 @@
 import io.netty5.handler.ssl.SslProvider;
 import io.netty5.util.concurrent.Future;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -51,7 +61,7 @@ final class NettyHttpServer implements HttpServer {
   private final SslContext sslContext;
   private final ComponentConfig componentConfig;
 
-  private final Map<HostAndPort, Future<Void>> channelFutures = new ConcurrentHashMap<>();
+  private final Map<HostAndPort, List<Future<Void>>> channelFutures = new ConcurrentHashMap<>();
 
   private final NettyTransportType transportType;
   private final EventLoopGroup bossEventLoopGroup;
@@ -73,15 +83,18 @@ public NettyHttpServer(@NonNull ComponentConfig componentConfig) {
     this.annotationParser = DefaultHttpAnnotationParser.withDefaultProcessors(this.httpHandlerRegistry);
 
     // init ssl
-    this.sslContext = initSslContext(componentConfig.sslConfiguration());
+    this.sslContext = initSslContext(componentConfig.sslConfiguration(), componentConfig.enableHttp2());
 
     // select the available netty transport & create new a new event loop group with them
-    this.transportType = NettyTransportType.availableTransport(componentConfig.disableNativeTransport());
-    this.bossEventLoopGroup = this.transportType.createEventLoopGroup(1);
-    this.workerEventLoopGroup = this.transportType.createEventLoopGroup(0);
+    this.transportType = NettyTransportType.availableTransport(
+      componentConfig.disableNativeTransport(),
+      componentConfig.disableIoUringTransport());
+    var socketConfig = componentConfig.socketConfig();
+    this.bossEventLoopGroup = this.transportType.createEventLoopGroup(socketConfig.acceptorThreads());
+    this.workerEventLoopGroup = this.transportType.createEventLoopGroup(socketConfig.workerThreads());
   }
 
-  private static @Nullable SslContext initSslContext(@Nullable SslConfiguration sslConfiguration) {
+  private static @Nullable SslContext initSslContext(@Nullable SslConfiguration sslConfiguration, boolean http2) {
     if (sslConfiguration == null) {
       // ssl is disabled, nothing to do
       return null;
@@ -90,11 +103,24 @@ public NettyHttpServer(@NonNull ComponentConfig componentConfig) {
         var keyStream = Files.newInputStream(sslConfiguration.keyPath(), StandardOpenOption.READ);
         var keyCertStream = Files.newInputStream(sslConfiguration.keyCertPath(), StandardOpenOption.READ)
       ) {
-        return SslContextBuilder.forServer(keyCertStream, keyStream, sslConfiguration.keyPassword())
-          .applicationProtocolConfig(null)
-          .ciphers(null, IdentityCipherSuiteFilter.INSTANCE)
-          .sslProvider(OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK)
-          .build();
+        var sslProvider = OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK;
+        var contextBuilder = SslContextBuilder.forServer(keyCertStream, keyStream, sslConfiguration.keyPassword())
+          .sslProvider(sslProvider);
+
+        // the cipher suites are not restricted to the ones allowed by http/2 as that would apply to http/1.1 clients as
+        // well. instead, connections that negotiated http/2 with an inadequate cipher suite are closed after the handshake
+        contextBuilder.ciphers(null, IdentityCipherSuiteFilter.INSTANCE);
+        if (http2) {
+          // advertise http/2 using alpn
+          contextBuilder.applicationProtocolConfig(new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1));
+        }
+
+        return contextBuilder.build();
       } catch (IOException exception) {
         throw new IllegalArgumentException("Unable to construct server SSL context", exception);
       }
@@ -143,8 +169,8 @@ public boolean sslEnabled() {
    */
   @Override
   public @NonNull CompletableFuture<Void> addListener(@NonNull HostAndPort hostAndPort) {
-    CompletableFuture<Void> result = new CompletableFuture<>();
-    new ServerBootstrap()
+    var socketConfig = this.componentConfig.socketConfig();
+    var bootstrap = new ServerBootstrap()
       .group(this.bossEventLoopGroup, this.workerEventLoopGroup)
       .channelFactory(this.transportType.serverChannelFactory())
       .childHandler(new NettyHttpServerInitializer(
@@ -157,22 +183,80 @@ public boolean sslEnabled() {
       .childOption(ChannelOption.AUTO_READ, true)
       .childOption(ChannelOption.TCP_NODELAY, true)
       .childOption(ChannelOption.SO_REUSEADDR, true)
+      .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+        socketConfig.writeBufferLowWaterMark(),
+        socketConfig.writeBufferHighWaterMark()))
 
-      .option(ChannelOption.SO_REUSEADDR, true)
+      .option(ChannelOption.SO_REUSEADDR, true);
+
+    // only override the backlog of the transport if explicitly requested
+    if (socketConfig.backlog() > 0) {
+      bootstrap.option(ChannelOption.SO_BACKLOG, socketConfig.backlog());
+    }
+
+    // tcp fast open is only supported by the native transports
+    if (socketConfig.tcpFastOpen() > 0 && this.transportType.nativeTransport()) {
+      bootstrap.option(ChannelOption.TCP_FASTOPEN, socketConfig.tcpFastOpen());
+    }
+
+    // bind one server socket per acceptor thread if supported, the kernel then distributes the incoming connections
+    // between them. as the boss group assigns the event loops round-robin, each socket is accepted on its own thread
+    var reusePort = socketConfig.reusePort() && this.transportType.supportsReusePort();
+    var acceptors = reusePort ? socketConfig.acceptorThreads() : 1;
+    if (reusePort) {
+      bootstrap.option(UnixChannelOption.SO_REUSEPORT, true);
+    }
 
-      .bind(hostAndPort.host(), hostAndPort.port())
-      .addListener(future -> {
-        if (future.isSuccess()) {
-          // ok, we bound successfully
-          result.complete(null);
-          this.channelFutures.put(hostAndPort, future.getNow().closeFuture());
+    // bind the first socket on its own, if an ephemeral port was requested the other sockets must use the same port
+    return this.bindSocket(bootstrap, hostAndPort.host(), hostAndPort.port()).thenCompose(firstChannel -> {
+      var boundPort = ((InetSocketAddress) firstChannel.localAddress()).getPort();
+      List<CompletableFuture<Channel>> bindFutures = new ArrayList<>(acceptors);
+      bindFutures.add(CompletableFuture.completedFuture(firstChannel));
+      for (var i = 1; i < acceptors; i++) {
+        bindFutures.add(this.bindSocket(bootstrap, hostAndPort.host(), boundPort));
+      }
+
+      var allBound = CompletableFuture.allOf(bindFutures.toArray(CompletableFuture[]::new));
+      return allBound.whenComplete((ignored, throwable) -> {
+        if (throwable == null) {
+          // all sockets were bound, register them as part of the listener
+          var closeFutures = this.channelFutures.computeIfAbsent(hostAndPort, $ -> new CopyOnWriteArrayList<>());
+          bindFutures.forEach(bindFuture -> closeFutures.add(bindFuture.join().closeFuture()));
         } else {
-          // something went wrong
-          result.completeExceptionally(future.cause());
+          // close the sockets that were bound successfully, the listener is either bound completely or not at all
+          bindFutures.stream()
+            .filter(bindFuture -> !bindFuture.isCompletedExceptionally())
+            .forEach(bindFuture -> bindFuture.join().close());
         }
       });
+    });
+  }
 
-    return result;
+  /**
+   * Binds a server socket using the given bootstrap to the given host and port.
+   *
+   * @param bootstrap the bootstrap to bind the server socket with.
+   * @param host      the host to bind the server socket to.
+   * @param port      the port to bind the server socket to.
+   * @return a future completed with the bound server channel.
+   * @throws NullPointerException if the given bootstrap or host is null.
+   */
+  private @NonNull CompletableFuture<Channel> bindSocket(
+    @NonNull ServerBootstrap bootstrap,
+    @NonNull String host,
+    int port
+  ) {
+    CompletableFuture<Channel> bindFuture = new CompletableFuture<>();
+    bootstrap.bind(host, port).addListener(future -> {
+      if (future.isSuccess()) {
+        // ok, we bound successfully
+        bindFuture.complete(future.getNow());
+      } else {
+        // something went wrong
+        bindFuture.completeExceptionally(future.cause());
+      }
+    });
+    return bindFuture;
   }
 
   /**
@@ -181,10 +265,14 @@ public boolean sslEnabled() {
   @Override
   public void close() {
     for (var entry : this.channelFutures.values()) {
-      entry.cancel();
+      entry.forEach(Future::cancel);
     }
 
     this.bossEventLoopGroup.shutdownGracefully();
     this.workerEventLoopGroup.shutdownGracefully();
+
+    // stop the threads of the request executors, requests that are currently processed are still completed
+    this.componentConfig.executorService().shutdown();
+    this.componentConfig.dispatchPools().values().forEach(ExecutorService::shutdown);
   }
 }
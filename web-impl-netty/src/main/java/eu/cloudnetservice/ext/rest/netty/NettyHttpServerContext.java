@@ -32,6 +32,7 @@
 import io.netty5.handler.codec.http.DefaultFullHttpResponse;
 import io.netty5.handler.codec.http.HttpResponseStatus;
 import io.netty5.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
+import io.netty5.handler.codec.http2.Http2StreamChannel;
 import io.netty5.util.Send;
 import java.net.URI;
 import java.util.Collection;
@@ -47,6 +48,7 @@
  */
 final class NettyHttpServerContext implements HttpContext {
 
+  final NettyHttpServerRequest httpServerRequest;
   final NettyHttpServerResponse httpServerResponse;
   final Multimap<String, Object> invocationHints = ArrayListMultimap.create();
 
@@ -55,7 +57,6 @@ final class NettyHttpServerContext implements HttpContext {
 
   private final NettyHttpServer nettyHttpServer;
   private final BasicHttpConnectionInfo connectionInfo;
-  private final NettyHttpServerRequest httpServerRequest;
 
   volatile boolean closeAfter = false;
   volatile boolean cancelSendResponse = false;
@@ -106,6 +107,11 @@ public NettyHttpServerContext(
   @Override
   public @NonNull CompletableFuture<WebSocketChannel> upgrade() {
     if (this.webSocketServerChannel == null) {
+      // web socket connections cannot be established from a http/2 stream
+      if (this.nettyChannel instanceof Http2StreamChannel) {
+        return CompletableFuture.failedFuture(new IllegalStateException("Web socket upgrade unsupported over http/2"));
+      }
+
       // not upgraded yet, build a new handshaker based on the given information
       var handshaker = new WebSocketServerHandshakerFactory(
         this.httpRequest.uri(),
@@ -139,7 +145,10 @@ public NettyHttpServerContext(
               this.channel.clientAddress());
 
             // successfully greeted the client, setup everything we need
-            this.webSocketServerChannel = new NettyWebSocketServerChannel(this.channel, this.nettyChannel);
+            this.webSocketServerChannel = new NettyWebSocketServerChannel(
+              this.channel,
+              this.nettyChannel,
+              this.nettyHttpServer.componentConfig().webSocketConfig());
             this.nettyChannel.pipeline().addLast(
               "websocket-server-channel-handler",
               new NettyWebSocketServerChannelHandler(this.webSocketServerChannel));
@@ -16,40 +16,55 @@
 
 package eu.cloudnetservice.ext.rest.netty;
 
-import com.google.common.net.HttpHeaders;
 import eu.cloudnetservice.ext.rest.api.HttpContext;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.cors.CorsRequestProcessor;
 import eu.cloudnetservice.ext.rest.api.cors.DefaultCorsRequestProcessor;
+import eu.cloudnetservice.ext.rest.api.dispatch.RequestDispatchRejectedException;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.Response;
 import eu.cloudnetservice.ext.rest.api.tree.HttpHandlerConfigPair;
+import eu.cloudnetservice.ext.rest.api.tree.HttpHandlerTree;
+import eu.cloudnetservice.ext.rest.api.tree.HttpPathNode;
+import eu.cloudnetservice.ext.rest.api.util.ByteRange;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
-import eu.cloudnetservice.ext.rest.api.util.HttpDateUtil;
-import io.netty5.buffer.Buffer;
 import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelFutureListeners;
 import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.DefaultFileRegion;
 import io.netty5.channel.SimpleChannelInboundHandler;
+import io.netty5.handler.codec.http.DefaultFullHttpResponse;
 import io.netty5.handler.codec.http.DefaultHttpResponse;
 import io.netty5.handler.codec.http.EmptyLastHttpContent;
 import io.netty5.handler.codec.http.FullHttpRequest;
+import io.netty5.handler.codec.http.FullHttpResponse;
 import io.netty5.handler.codec.http.HttpChunkedInput;
+import io.netty5.handler.codec.http.HttpContent;
+import io.netty5.handler.codec.http.HttpHeaderNames;
+import io.netty5.handler.codec.http.HttpHeaderValues;
+import io.netty5.handler.codec.http.HttpObject;
 import io.netty5.handler.codec.http.HttpRequest;
 import io.netty5.handler.codec.http.HttpResponseStatus;
 import io.netty5.handler.codec.http.HttpUtil;
+import io.netty5.handler.codec.http.HttpVersion;
+import io.netty5.handler.codec.http.LastHttpContent;
+import io.netty5.handler.codec.http.headers.HttpHeaders;
+import io.netty5.handler.codec.http2.Http2StreamChannel;
+import io.netty5.handler.stream.ChunkedNioFile;
 import io.netty5.handler.stream.ChunkedStream;
 import io.netty5.util.AttributeKey;
-import io.netty5.util.Resource;
-import io.netty5.util.Send;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.internal.SilentDispose;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.time.Instant;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -61,10 +76,11 @@
  *
  * @since 1.0
  */
-final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpRequest> {
+final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpObject> {
 
   public static final AttributeKey<HostAndPort> PROXY_REMOTE_ADDRESS_KEY = AttributeKey.valueOf("PROXY_REMOTE_ADDRESS");
 
+  private static final int FILE_CHUNK_SIZE = 64 * 1024;
   private static final Logger LOGGER = LoggerFactory.getLogger(NettyHttpServerHandler.class);
 
   private final CorsRequestProcessor corsRequestProcessor;
@@ -75,6 +91,9 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
   private final ExecutorService executorService;
 
   private NettyHttpChannel channel;
+  private NettyHttpResponseSequencer responseSequencer;
+  private PreparedRequest pendingRequest;
+  private NettyHttpRequestBodyStream streamingBody;
 
   /**
    * Constructs a new http server handler instance.
@@ -95,11 +114,27 @@ public NettyHttpServerHandler(
     this.executorService = executorService;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handlerAdded(@NonNull ChannelHandlerContext ctx) {
+    this.responseSequencer = new NettyHttpResponseSequencer(ctx.channel());
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void channelInactive(@NonNull ChannelHandlerContext ctx) {
+    // the connection was closed while the request body was still being received
+    if (this.streamingBody != null) {
+      this.streamingBody.fail(new IOException("Connection closed while receiving request body"));
+      this.streamingBody = null;
+    }
+
+    this.disposePendingRequest();
+    this.responseSequencer.discardPendingResponses();
     if (!ctx.channel().isActive() || !ctx.channel().isOpen() || !ctx.channel().isWritable()) {
       ctx.channel().close();
     }
@@ -118,6 +153,8 @@ public void channelExceptionCaught(@NonNull ChannelHandlerContext ctx, @NonNull
    */
   @Override
   public void channelReadComplete(@NonNull ChannelHandlerContext ctx) {
+    // flush all responses that were written while reading at once
+    this.responseSequencer.readInProgress(false);
     ctx.flush();
   }
 
@@ -125,73 +162,145 @@ public void channelReadComplete(@NonNull ChannelHandlerContext ctx) {
    * {@inheritDoc}
    */
   @Override
-  protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull HttpRequest msg) {
+  protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull HttpObject msg) {
+    this.responseSequencer.readInProgress(true);
+    if (msg instanceof HttpRequest request) {
+      this.handleRequest(ctx, request);
+    } else if (msg instanceof HttpContent<?> content && this.streamingBody != null) {
+      // the next part of a request body that is streamed to the handler
+      this.streamingBody.offer(content.payload().send().receive());
+      if (content instanceof LastHttpContent<?>) {
+        this.streamingBody.complete();
+        this.streamingBody = null;
+      }
+    }
+  }
+
+  /**
+   * Prepares the handling of the given request when the request head was received, before the request body is
+   * aggregated. The prepared context is used once the full request was received. If the handler which is responsible
+   * for the request wants to stream the request body, the body must not be aggregated and is streamed to the handler
+   * instead. This method must be called from the event loop of the given channel.
+   *
+   * @param channel     the channel from which the request came.
+   * @param httpRequest the head of the request to prepare.
+   * @return true if the body of the given request should be streamed, false if it should be aggregated.
+   * @throws NullPointerException if the given channel or request is null.
+   */
+  boolean prepareStreamingRequest(@NonNull Channel channel, @NonNull HttpRequest httpRequest) {
+    if (httpRequest.decoderResult().isFailure()) {
+      return false;
+    }
+
+    this.disposePendingRequest();
+    this.pendingRequest = this.prepareRequest(channel, httpRequest);
+    return this.pendingRequest != null && this.pendingRequest.streamRequestBody();
+  }
+
+  /**
+   * Handles an incoming http request. The request is either a full request including the request body or the head of
+   * a request whose body gets streamed to the handler.
+   *
+   * @param ctx         the context of the channel from which the request came.
+   * @param httpRequest the decoded request to handle.
+   * @throws NullPointerException if the given channel context or request is null.
+   */
+  private void handleRequest(@NonNull ChannelHandlerContext ctx, @NonNull HttpRequest httpRequest) {
+    // disconnect clients which pipeline more requests than allowed instead of buffering their responses without limit
+    if (this.responseSequencer.pendingResponseLimitReached()) {
+      this.disposePendingRequest();
+      ctx.close();
+      return;
+    }
+
+    // responses to pipelined requests must be sent in the order the requests were received
+    var sequence = this.responseSequencer.nextSequence();
+
     // validate that the request was actually decoded before processing
-    if (msg.decoderResult().isFailure()) {
-      NettyHttpServerUtil.sendResponseAndClose(ctx, HttpResponseStatus.BAD_REQUEST);
+    if (httpRequest.decoderResult().isFailure()) {
+      this.disposePendingRequest();
+      this.sendResponseAndClose(ctx, sequence, HttpResponseStatus.BAD_REQUEST);
       return;
     }
 
-    // handle the message inside the executor from here on
-    Send<Buffer> buffer;
-    if (msg instanceof FullHttpRequest request) {
-      buffer = request.payload().send();
-    } else {
-      buffer = null;
+    // use the request that was prepared when the request head was received, prepare it now if needed
+    var preparedRequest = this.pendingRequest;
+    this.pendingRequest = null;
+    if (preparedRequest == null) {
+      preparedRequest = this.prepareRequest(ctx.channel(), httpRequest);
+      if (preparedRequest == null) {
+        this.sendResponseAndClose(ctx, sequence, HttpResponseStatus.BAD_REQUEST);
+        return;
+      }
     }
 
+    var context = preparedRequest.context();
     try {
-      this.executorService.submit(() -> {
-        try {
-          this.handleMessage(ctx.channel(), msg, buffer);
-        } catch (Throwable throwable) {
-          NettyHttpServerUtil.sendResponseAndClose(ctx, HttpResponseStatus.INTERNAL_SERVER_ERROR);
-          LOGGER.debug("Exception caught during processing of http request", throwable);
-        } finally {
-          Resource.dispose(buffer);
+      if (httpRequest instanceof FullHttpRequest request) {
+        // the ownership of the request body is transferred to the request context from here on
+        context.httpServerRequest.attachBody(request.payload().send());
+      } else {
+        // the request body is streamed to the handler while it is received, reject it early if it's announced as too large
+        var maxContentLength = this.nettyHttpServer.componentConfig().maxStreamedContentLength();
+        if (HttpUtil.getContentLength(httpRequest, -1L) > maxContentLength) {
+          SilentDispose.tryPropagatingDispose(context.httpServerResponse.httpResponse);
+          this.sendResponseAndClose(ctx, sequence, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+          return;
         }
-      });
-    } catch (RejectedExecutionException exception) {
-      NettyHttpServerUtil.sendResponseAndClose(ctx, HttpResponseStatus.SERVICE_UNAVAILABLE);
-      LOGGER.debug("Unable to submit request to executor service, rejecting request", exception);
-      Resource.dispose(buffer);
+
+        if (HttpUtil.is100ContinueExpected(httpRequest)) {
+          // the interim response must not overtake the responses to previous pipelined requests
+          this.responseSequencer.writeInterimResponse(sequence, () -> ctx.write(new DefaultFullHttpResponse(
+            HttpVersion.HTTP_1_1,
+            HttpResponseStatus.CONTINUE,
+            ctx.bufferAllocator().allocate(0))));
+        }
+
+        this.streamingBody = new NettyHttpRequestBodyStream(ctx.channel(), maxContentLength);
+        context.httpServerRequest.attachBodyStream(this.streamingBody);
+      }
+
+      this.dispatchRequest(ctx, sequence, httpRequest, preparedRequest);
+    } catch (Throwable throwable) {
+      this.sendResponseAndClose(ctx, sequence, HttpResponseStatus.INTERNAL_SERVER_ERROR);
+      LOGGER.debug("Exception caught during processing of http request", throwable);
+      context.httpServerRequest.releaseBody();
+      SilentDispose.tryPropagatingDispose(context.httpServerResponse.httpResponse);
     }
   }
 
   /**
-   * Handles an incoming http request, posting it to the correct handler while parsing everything from it beforehand.
+   * Prepares the handling of the given request by constructing the handling context and resolving the handler that is
+   * responsible for the request.
    *
    * @param channel     the channel from which the request came.
-   * @param httpRequest the decoded request to handle.
-   * @param buffer      the buffer of the incoming request containing the request body.
+   * @param httpRequest the head of the request to prepare.
+   * @return the prepared request, null if the request uri is invalid.
    * @throws NullPointerException if the given channel or request is null.
    */
-  private void handleMessage(
-    @NonNull Channel channel,
-    @NonNull HttpRequest httpRequest,
-    @Nullable Send<Buffer> buffer
-  ) {
+  private @Nullable PreparedRequest prepareRequest(@NonNull Channel channel, @NonNull HttpRequest httpRequest) {
     URI uri;
     try {
       uri = new URI(httpRequest.uri());
     } catch (URISyntaxException exception) {
-      NettyHttpServerUtil.sendResponseAndClose(channel, HttpResponseStatus.BAD_REQUEST);
       LOGGER.debug("Unable to parse request uri '{}', rejecting request", httpRequest.uri(), exception);
-      return;
+      return null;
     }
 
     // if an opaque uri is sent to the server we reject the request immediately as it does
     // not contain the required information to properly process the request (especially due
     // to the lack of path information which is the base of our internal handling)
     if (uri.isOpaque()) {
-      NettyHttpServerUtil.sendResponseAndClose(channel, HttpResponseStatus.BAD_REQUEST);
-      return;
+      return null;
     }
 
     // check if the HttpChannel for this channel wasn't constructed yet - do that if needed now
     if (this.channel == null) {
       // get the client address of the channel - either from some proxy info or from the supplied client address
-      var clientAddress = channel.attr(PROXY_REMOTE_ADDRESS_KEY).getAndSet(null);
+      // http/2 streams share the connection channel which holds the proxy info for all streams
+      var clientAddress = channel instanceof Http2StreamChannel
+        ? channel.parent().attr(PROXY_REMOTE_ADDRESS_KEY).get()
+        : channel.attr(PROXY_REMOTE_ADDRESS_KEY).getAndSet(null);
       if (clientAddress == null) {
         clientAddress = HostAndPortUtil.extractFromSocketAddressInfo(channel.remoteAddress());
       }
@@ -201,19 +310,156 @@ private void handleMessage(
       this.channel = new NettyHttpChannel(channel, requestScheme, this.connectedAddress, clientAddress);
     }
 
-    // build the handling context
+    // build the handling context, the body is attached once it was received
     var context = new NettyHttpServerContext(
       this.nettyHttpServer,
       this.channel,
       uri,
       new HashMap<>(),
       httpRequest,
-      buffer);
+      null);
 
     // find the node that is responsible to handle the request
     var fullPath = uri.getPath();
     var matchingTreeNode = this.nettyHttpServer.handlerRegistry().findHandler(fullPath, context);
 
+    // check if the handler wants to receive the request body as a stream
+    var streamRequestBody = false;
+    if (matchingTreeNode != null) {
+      var targetHandler = matchingTreeNode.pathNode().findHandlerForMethod(httpRequest.method().name());
+      streamRequestBody = targetHandler != null && targetHandler.config().streamRequestBody();
+    }
+
+    return new PreparedRequest(context, matchingTreeNode, streamRequestBody);
+  }
+
+  /**
+   * Disposes the request that was prepared but not handled yet, if any.
+   */
+  private void disposePendingRequest() {
+    if (this.pendingRequest != null) {
+      SilentDispose.tryPropagatingDispose(this.pendingRequest.context().httpServerResponse.httpResponse);
+      this.pendingRequest = null;
+    }
+  }
+
+  /**
+   * Dispatches the given prepared request to the handler that is responsible for it. If the target handler is marked
+   * as non-blocking the request is processed directly on the io thread, otherwise the processing is moved into the
+   * executor service that is responsible for the handler.
+   *
+   * @param ctx             the context of the channel from which the request came.
+   * @param sequence        the sequence number of the request on the connection.
+   * @param httpRequest     the decoded request to handle.
+   * @param preparedRequest the prepared request to dispatch.
+   * @throws NullPointerException if the given channel context, request or prepared request is null.
+   */
+  private void dispatchRequest(
+    @NonNull ChannelHandlerContext ctx,
+    long sequence,
+    @NonNull HttpRequest httpRequest,
+    @NonNull PreparedRequest preparedRequest
+  ) {
+    var channel = ctx.channel();
+    var context = preparedRequest.context();
+    var matchingTreeNode = preparedRequest.matchingTreeNode();
+
+    // non-blocking handlers can be processed directly on the io thread, saving the handoff to the executor
+    var dispatchExecutor = this.resolveDispatchExecutor(httpRequest, matchingTreeNode);
+    if (dispatchExecutor == null) {
+      try {
+        this.processRequest(channel, sequence, httpRequest, context, matchingTreeNode);
+      } finally {
+        context.httpServerRequest.releaseBody();
+      }
+      return;
+    }
+
+    try {
+      dispatchExecutor.submit(() -> {
+        try {
+          this.processRequest(channel, sequence, httpRequest, context, matchingTreeNode);
+        } catch (Throwable throwable) {
+          this.sendResponseAndClose(ctx, sequence, HttpResponseStatus.INTERNAL_SERVER_ERROR);
+          LOGGER.debug("Exception caught during processing of http request", throwable);
+        } finally {
+          context.httpServerRequest.releaseBody();
+        }
+      });
+    } catch (RequestDispatchRejectedException exception) {
+      // the dispatcher is overloaded, tell the client when to retry the request
+      var retryAfter = Long.toString(exception.retryAfter().toSeconds());
+      this.sendResponseAndClose(
+        ctx,
+        sequence,
+        HttpResponseStatus.SERVICE_UNAVAILABLE,
+        headers -> headers.set(HttpHeaderNames.RETRY_AFTER, retryAfter));
+      context.httpServerRequest.releaseBody();
+      SilentDispose.tryPropagatingDispose(context.httpServerResponse.httpResponse);
+    } catch (RejectedExecutionException exception) {
+      this.sendResponseAndClose(ctx, sequence, HttpResponseStatus.SERVICE_UNAVAILABLE);
+      LOGGER.debug("Unable to submit request to executor service, rejecting request", exception);
+      context.httpServerRequest.releaseBody();
+      SilentDispose.tryPropagatingDispose(context.httpServerResponse.httpResponse);
+    }
+  }
+
+  /**
+   * Resolves the executor in which the given request should be processed. Requests to handlers which are marked as
+   * non-blocking are processed directly on the io thread, requests to handlers which are assigned to a dispatch pool
+   * are processed in the executor of the pool. All other requests are processed in the default executor.
+   *
+   * @param httpRequest      the decoded request to resolve the executor for.
+   * @param matchingTreeNode the tree node that matched the request path, null if no node matched.
+   * @return the executor to process the request in, null if the request should be processed on the io thread.
+   * @throws NullPointerException if the given request is null.
+   */
+  private @Nullable ExecutorService resolveDispatchExecutor(
+    @NonNull HttpRequest httpRequest,
+    @Nullable HttpHandlerTree<HttpPathNode> matchingTreeNode
+  ) {
+    if (matchingTreeNode == null) {
+      // the fallback handler might block
+      return this.executorService;
+    }
+
+    var targetHandler = matchingTreeNode.pathNode().findHandlerForMethod(httpRequest.method().name());
+    if (targetHandler == null) {
+      return this.executorService;
+    }
+
+    var handlerConfig = targetHandler.config();
+    if (handlerConfig.processableOnIoThread()) {
+      return null;
+    }
+
+    var dispatchPool = handlerConfig.dispatchPool();
+    if (dispatchPool != null) {
+      var dispatchPools = this.nettyHttpServer.componentConfig().dispatchPools();
+      return dispatchPools.getOrDefault(dispatchPool, this.executorService);
+    }
+
+    return this.executorService;
+  }
+
+  /**
+   * Posts the given request to the handler that is responsible for it and transfers the response to the client once
+   * the responses to all previous requests on the connection were written.
+   *
+   * @param channel          the channel from which the request came.
+   * @param sequence         the sequence number of the request on the connection.
+   * @param httpRequest      the decoded request to handle.
+   * @param context          the context constructed for the request.
+   * @param matchingTreeNode the tree node that matched the request path, null if no node matched.
+   * @throws NullPointerException if the given channel, request or context is null.
+   */
+  private void processRequest(
+    @NonNull Channel channel,
+    long sequence,
+    @NonNull HttpRequest httpRequest,
+    @NonNull NettyHttpServerContext context,
+    @Nullable HttpHandlerTree<HttpPathNode> matchingTreeNode
+  ) {
     if (matchingTreeNode == null) {
       // no matching node found - fallback
       this.postToFallbackHandler(context);
@@ -242,6 +488,23 @@ private void handleMessage(
       }
     }
 
+    this.responseSequencer.completeResponse(sequence, () -> this.writeResponse(channel, httpRequest, context));
+  }
+
+  /**
+   * Writes the response set in the given context into the given channel without flushing it, unless the sending of the
+   * response was cancelled. This method must be called from the event loop of the given channel.
+   *
+   * @param channel     the channel from which the request came.
+   * @param httpRequest the decoded request to write the response to.
+   * @param context     the context constructed for the request.
+   * @throws NullPointerException if the given channel, request or context is null.
+   */
+  private void writeResponse(
+    @NonNull Channel channel,
+    @NonNull HttpRequest httpRequest,
+    @NonNull NettyHttpServerContext context
+  ) {
     // check if the response set in the context should actually be transferred to the client
     var closeResponse = true;
     if (!context.cancelSendResponse) {
@@ -249,30 +512,31 @@ private void handleMessage(
 
       // append a header when the server responded to the request
       var netty = response.httpResponse;
-      var currentDate = HttpDateUtil.formatAsHttpDate(Instant.now());
-      netty.headers().set(HttpHeaders.DATE, currentDate);
+      netty.headers().set(HttpHeaderNames.DATE, NettyHttpResponseHeaders.currentDate());
 
       // append the keep-alive information as headers, if needed
       var keepAlive = !context.closeAfter && HttpUtil.isKeepAlive(httpRequest);
       HttpUtil.setKeepAlive(netty, keepAlive);
       if (keepAlive) {
-        var keepAliveTimeout = NettyHttpServerInitializer.MAX_CONNECTION_IDLE_TIME.toSeconds();
-        netty.headers().set(HttpHeaders.KEEP_ALIVE, String.format("timeout=%s", keepAliveTimeout));
+        netty.headers().set(HttpHeaderNames.KEEP_ALIVE, NettyHttpResponseHeaders.KEEP_ALIVE_VALUE);
       }
 
       Future<Void> future;
-      if (response.bodyStream() != null) {
+      if (response.bodyFile() != null) {
+        // transfer the file content to the client
+        future = this.writeFileResponse(channel, netty, response.bodyFile(), response.bodyFileRange());
+      } else if (response.bodyStream() != null) {
         // transfer the data chunked to the client
         HttpUtil.setTransferEncodingChunked(netty, true);
         channel.write(new DefaultHttpResponse(netty.protocolVersion(), netty.status(), netty.headers()));
-        future = channel.writeAndFlush(new HttpChunkedInput(
+        future = channel.write(new HttpChunkedInput(
           new ChunkedStream(response.bodyStream()),
           new EmptyLastHttpContent(channel.bufferAllocator())));
       } else {
         // transfer the data in one single go to the client
         HttpUtil.setTransferEncodingChunked(netty, false);
         HttpUtil.setContentLength(netty, netty.payload().readableBytes());
-        future = channel.writeAndFlush(netty);
+        future = channel.write(netty);
         closeResponse = false; // already done by http content encoder
       }
 
@@ -289,6 +553,108 @@ private void handleMessage(
     }
   }
 
+  /**
+   * Writes the given response head followed by the content of the given file to the given channel. On plaintext
+   * http/1.1 connections the file is transferred using a file region which allows the transport to transfer the file
+   * content directly from the file system into the socket (for example using sendfile) without copying it through the
+   * heap. On tls or http/2 connections the file is read and written in chunks instead. The channel is not flushed.
+   *
+   * @param channel the channel to write the response to.
+   * @param netty   the response which head should be written before the file content.
+   * @param file    the file to transfer as the response body.
+   * @param range   the range of the file to transfer, null to transfer the complete file.
+   * @return a future completed when the last part of the response was written.
+   * @throws NullPointerException if the given channel, response or file is null.
+   */
+  private @NonNull Future<Void> writeFileResponse(
+    @NonNull Channel channel,
+    @NonNull FullHttpResponse netty,
+    @NonNull Path file,
+    @Nullable ByteRange range
+  ) {
+    FileChannel fileChannel;
+    try {
+      fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+    } catch (IOException exception) {
+      LOGGER.debug("Unable to open file {} to transfer it to the client", file, exception);
+      netty.setStatus(HttpResponseStatus.NOT_FOUND);
+      HttpUtil.setContentLength(netty, 0);
+      return channel.write(new DefaultFullHttpResponse(
+        netty.protocolVersion(),
+        netty.status(),
+        channel.bufferAllocator().allocate(0),
+        netty.headers(),
+        netty.trailingHeaders()));
+    }
+
+    try {
+      // the file content is written as-is, mark it as such to prevent the compressor from touching it
+      var position = range == null ? 0 : range.start();
+      var length = range == null ? fileChannel.size() : range.length();
+      HttpUtil.setTransferEncodingChunked(netty, false);
+      HttpUtil.setContentLength(netty, length);
+      if (!netty.headers().contains(HttpHeaderNames.CONTENT_ENCODING)) {
+        netty.headers().set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+      }
+      channel.write(new DefaultHttpResponse(netty.protocolVersion(), netty.status(), netty.headers()));
+
+      // file regions can only be written directly into the socket of a plaintext http/1.1 connection
+      if (this.nettyHttpServer.sslEnabled() || channel instanceof Http2StreamChannel) {
+        return channel.write(new HttpChunkedInput(
+          new ChunkedNioFile(fileChannel, position, length, FILE_CHUNK_SIZE),
+          new EmptyLastHttpContent(channel.bufferAllocator())));
+      } else {
+        channel.write(new DefaultFileRegion(fileChannel, position, length));
+        return channel.write(new EmptyLastHttpContent(channel.bufferAllocator()));
+      }
+    } catch (IOException exception) {
+      // unable to read the file size, close the file and the connection as the response head might be written already
+      try {
+        fileChannel.close();
+      } catch (IOException ignored) {
+      }
+      return channel.close();
+    }
+  }
+
+  /**
+   * Sends a response with the given status to the client and closes the connection afterwards, once the responses to
+   * all previous requests on the connection were written.
+   *
+   * @param ctx      the context of the channel from which the request came.
+   * @param sequence the sequence number of the request on the connection.
+   * @param status   the status of the response to send.
+   * @throws NullPointerException if the given channel context or status is null.
+   */
+  private void sendResponseAndClose(
+    @NonNull ChannelHandlerContext ctx,
+    long sequence,
+    @NonNull HttpResponseStatus status
+  ) {
+    this.responseSequencer.completeResponse(sequence, () -> NettyHttpServerUtil.sendResponseAndClose(ctx, status));
+  }
+
+  /**
+   * Sends a response with the given status to the client and closes the connection afterwards, once the responses to
+   * all previous requests on the connection were written.
+   *
+   * @param ctx             the context of the channel from which the request came.
+   * @param sequence        the sequence number of the request on the connection.
+   * @param status          the status of the response to send.
+   * @param headersModifier the modifier to apply additional headers to the response.
+   * @throws NullPointerException if the given channel context, status or headers modifier is null.
+   */
+  private void sendResponseAndClose(
+    @NonNull ChannelHandlerContext ctx,
+    long sequence,
+    @NonNull HttpResponseStatus status,
+    @NonNull Consumer<HttpHeaders> headersModifier
+  ) {
+    this.responseSequencer.completeResponse(
+      sequence,
+      () -> NettyHttpServerUtil.sendResponseAndClose(ctx, status, headersModifier));
+  }
+
   private void postToFallbackHandler(@NonNull NettyHttpServerContext context) {
     var fallbackHandler = this.nettyHttpServer.componentConfig().fallbackHttpHandler();
     try {
@@ -342,4 +708,20 @@ private void postToFallbackHandler(@NonNull NettyHttpServerContext context) {
 
     return null;
   }
+
+  /**
+   * A request that was prepared for handling when the request head was received.
+   *
+   * @param context           the context constructed for the request.
+   * @param matchingTreeNode  the tree node that matched the request path, null if no node matched.
+   * @param streamRequestBody if the body of the request should be streamed to the handler.
+   * @since 1.0
+   */
+  private record PreparedRequest(
+    @NonNull NettyHttpServerContext context,
+    @Nullable HttpHandlerTree<HttpPathNode> matchingTreeNode,
+    boolean streamRequestBody
+  ) {
+
+  }
 }
@@ -19,13 +19,25 @@
 import eu.cloudnetservice.ext.rest.api.config.HttpProxyMode;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
 import io.netty5.channel.ChannelInitializer;
-import io.netty5.handler.codec.http.HttpContentCompressor;
+import io.netty5.channel.ChannelPipeline;
 import io.netty5.handler.codec.http.HttpContentDecompressor;
 import io.netty5.handler.codec.http.HttpRequestDecoder;
 import io.netty5.handler.codec.http.HttpResponseEncoder;
+import io.netty5.handler.codec.http.HttpServerCodec;
+import io.netty5.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty5.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty5.handler.codec.http2.Http2CodecUtil;
+import io.netty5.handler.codec.http2.Http2FrameCodec;
+import io.netty5.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty5.handler.codec.http2.Http2MultiplexHandler;
+import io.netty5.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty5.handler.codec.http2.Http2Settings;
 import io.netty5.handler.ssl.SslContext;
 import io.netty5.handler.stream.ChunkedWriteHandler;
+import io.netty5.util.AsciiString;
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import lombok.NonNull;
@@ -40,6 +52,15 @@ final class NettyHttpServerInitializer extends ChannelInitializer<Channel> {
 
   static final Duration MAX_CONNECTION_IDLE_TIME = Duration.ofSeconds(30);
 
+  private static final String[] HTTP1_HANDLER_NAMES = new String[]{
+    "http-request-decoder",
+    "http-response-encoder",
+    "http-request-decompressor",
+    "http-response-compressor",
+    "http-response-chunk-writer",
+    "http-object-aggregator",
+    "http-server-handler"};
+
   private final SslContext serverSslContext;
   private final HostAndPort listenerAddress;
   private final NettyHttpServer nettyHttpServer;
@@ -90,17 +111,127 @@ protected void initChannel(@NonNull Channel ch) {
       ch.pipeline().addLast("ssl-handler", this.serverSslContext.newHandler(ch.bufferAllocator()));
     }
 
-    ch.pipeline()
-      .addLast("read-timeout-handler", new NettyIdleStateHandler(MAX_CONNECTION_IDLE_TIME.toSeconds()))
-      .addLast("http-request-decoder", new HttpRequestDecoder())
-      .addLast("http-request-decompressor", new HttpContentDecompressor())
-      .addLast("http-response-encoder", new HttpResponseEncoder())
-      .addLast("http-response-compressor", new HttpContentCompressor())
+    ch.pipeline().addLast("read-timeout-handler", new NettyIdleStateHandler(MAX_CONNECTION_IDLE_TIME.toSeconds()));
+    if (!componentConfig.enableHttp2()) {
+      ch.pipeline()
+        .addLast("http-request-decoder", new HttpRequestDecoder())
+        .addLast("http-response-encoder", new HttpResponseEncoder());
+      this.configureHttpHandlers(ch.pipeline());
+    } else if (this.serverSslContext != null) {
+      // the protocol to use is negotiated during the tls handshake
+      ch.pipeline().addLast("alpn-handler", new NettyApplicationProtocolHandler(this));
+    } else {
+      // cleartext http/2 is either started with prior knowledge or by upgrading a http/1.1 connection
+      var httpServerCodec = new HttpServerCodec();
+      var upgradeHandler = new HttpServerUpgradeHandler<>(httpServerCodec, protocol -> {
+        if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+          return new Http2ServerUpgradeCodec(
+            this.newHttp2FrameCodec(),
+            new Http2MultiplexHandler(new NettyHttp2StreamInitializer(this)),
+            new Http1HandlerRemover());
+        } else {
+          return null;
+        }
+      }, this.maxContentLength);
+
+      ch.pipeline().addLast("http2-cleartext-handler", new CleartextHttp2ServerUpgradeHandler(
+        httpServerCodec,
+        upgradeHandler,
+        new ChannelHandler() {
+          @Override
+          public void handlerAdded(@NonNull ChannelHandlerContext ctx) {
+            // prior knowledge http/2 connection, replace the http/1.1 handlers with the http/2 ones
+            NettyHttpServerInitializer.this.configureHttp2Pipeline(ctx.pipeline());
+            ctx.pipeline().remove(this);
+          }
+        }));
+      this.configureHttpHandlers(ch.pipeline());
+    }
+  }
+
+  /**
+   * Adds the handlers to the given pipeline which are needed to process http requests, this requires the http request
+   * decoder and response encoder to be present in the pipeline.
+   *
+   * @param pipeline the pipeline to add the handlers to.
+   * @throws NullPointerException if the given pipeline is null.
+   */
+  void configureHttpHandlers(@NonNull ChannelPipeline pipeline) {
+    var serverHandler = new NettyHttpServerHandler(this.nettyHttpServer, this.listenerAddress, this.executorService);
+    var aggregator = new NettyOversizedClosingHttpAggregator<>(
+      this.maxContentLength,
+      request -> serverHandler.prepareStreamingRequest(pipeline.channel(), request));
+    pipeline.addLast("http-request-decompressor", new HttpContentDecompressor());
+
+    // only add the compressor if compression is enabled at all
+    var compressionConfig = this.nettyHttpServer.componentConfig().compressionConfig();
+    if (compressionConfig.enabled()) {
+      pipeline.addLast("http-response-compressor", new NettyHttpContentCompressor(compressionConfig));
+    }
+
+    pipeline
       .addLast("http-response-chunk-writer", new ChunkedWriteHandler())
-      .addLast("http-object-aggregator", new NettyOversizedClosingHttpAggregator<>(this.maxContentLength))
-      .addLast("http-server-handler", new NettyHttpServerHandler(
-        this.nettyHttpServer,
-        this.listenerAddress,
-        this.executorService));
+      .addLast("http-object-aggregator", aggregator)
+      .addLast("http-server-handler", serverHandler);
+  }
+
+  /**
+   * Configures the given connection pipeline to handle http/2 requests. Each http/2 stream gets its own child channel
+   * which processes the request using the same handlers as a http/1.1 connection. Http/1.1 handlers that are present in
+   * the given pipeline are removed.
+   *
+   * @param pipeline the connection pipeline to configure.
+   * @throws NullPointerException if the given pipeline is null.
+   */
+  void configureHttp2Pipeline(@NonNull ChannelPipeline pipeline) {
+    removeHttp1Handlers(pipeline);
+    pipeline
+      .addLast("http2-frame-codec", this.newHttp2FrameCodec())
+      .addLast("http2-multiplexer", new Http2MultiplexHandler(new NettyHttp2StreamInitializer(this)));
+  }
+
+  /**
+   * Creates a new http/2 frame codec which announces the settings from the http/2 config of the server to clients.
+   *
+   * @return a new http/2 frame codec.
+   */
+  private @NonNull Http2FrameCodec newHttp2FrameCodec() {
+    var http2Config = this.nettyHttpServer.componentConfig().http2Config();
+    var initialSettings = Http2Settings.defaultSettings()
+      .maxConcurrentStreams(http2Config.maxConcurrentStreams())
+      .maxHeaderListSize(http2Config.maxHeaderListSize());
+    return Http2FrameCodecBuilder.forServer().initialSettings(initialSettings).build();
+  }
+
+  /**
+   * Removes all http/1.1 request handlers from the given pipeline, if present.
+   *
+   * @param pipeline the pipeline to remove the handlers from.
+   * @throws NullPointerException if the given pipeline is null.
+   */
+  private static void removeHttp1Handlers(@NonNull ChannelPipeline pipeline) {
+    for (var handlerName : HTTP1_HANDLER_NAMES) {
+      if (pipeline.get(handlerName) != null) {
+        pipeline.remove(handlerName);
+      }
+    }
+  }
+
+  /**
+   * A handler which removes the http/1.1 request handlers from the pipeline after a http/1.1 connection was upgraded
+   * to http/2, the handler removes itself from the pipeline afterwards.
+   *
+   * @since 1.0
+   */
+  private static final class Http1HandlerRemover implements ChannelHandler {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handlerAdded(@NonNull ChannelHandlerContext ctx) {
+      removeHttp1Handlers(ctx.pipeline());
+      ctx.pipeline().remove(this);
+    }
   }
 }
@@ -24,12 +24,13 @@
 import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.BufferInputStream;
-import io.netty5.handler.codec.http.FullHttpRequest;
 import io.netty5.handler.codec.http.QueryStringDecoder;
 import io.netty5.handler.codec.http.headers.DefaultHttpCookiePair;
 import io.netty5.handler.codec.http.headers.HttpCookiePair;
 import io.netty5.util.Send;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -56,6 +57,7 @@ final class NettyHttpServerRequest extends NettyHttpMessage implements HttpReque
   private final Map<String, List<String>> queryParameters;
 
   private Buffer buffer;
+  private InputStream bodyStream;
 
   private byte[] body;
 
@@ -87,6 +89,44 @@ public NettyHttpServerRequest(
     }
   }
 
+  /**
+   * Attaches the fully received body to this request, the ownership of the buffer is transferred to this request.
+   *
+   * @param bufferSend the buffer containing the request body, wrapped in a send.
+   * @throws NullPointerException if the given buffer send is null.
+   */
+  void attachBody(@NonNull Send<Buffer> bufferSend) {
+    this.buffer = bufferSend.receive();
+  }
+
+  /**
+   * Attaches the given stream as the body of this request. The body is read from the given stream while it is still
+   * being received.
+   *
+   * @param bodyStream the stream of the request body.
+   * @throws NullPointerException if the given stream is null.
+   */
+  void attachBodyStream(@NonNull InputStream bodyStream) {
+    this.bodyStream = bodyStream;
+  }
+
+  /**
+   * Releases the body of this request after the request was handled. The remaining content of a streamed body is
+   * discarded.
+   */
+  void releaseBody() {
+    if (this.buffer != null && this.buffer.isAccessible()) {
+      this.buffer.close();
+    }
+
+    if (this.bodyStream != null) {
+      try {
+        this.bodyStream.close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -165,6 +205,19 @@ public NettyHttpServerRequest(
    */
   @Override
   public byte[] body() {
+    if (this.bodyStream != null && this.body == null) {
+      // the body is streamed, read all remaining bytes from the stream
+      try {
+        this.body = this.bodyStream.readAllBytes();
+      } catch (IOException exception) {
+        throw new UncheckedIOException("Unable to read streamed request body", exception);
+      }
+    }
+
+    if (this.body != null) {
+      return this.body;
+    }
+
     if (this.buffer != null) {
       if (this.body == null) {
         // initialize the body
@@ -210,6 +263,10 @@ public byte[] body() {
    */
   @Override
   public @Nullable InputStream bodyStream() {
+    if (this.bodyStream != null) {
+      return this.bodyStream;
+    }
+
     if (this.buffer != null) {
       return new BufferInputStream(this.buffer.send());
     } else {
@@ -230,7 +287,7 @@ public byte[] body() {
    */
   @Override
   public boolean hasBody() {
-    return this.httpRequest instanceof FullHttpRequest request && request.payload().readableBytes() > 0;
+    return this.bodyStream != null || (this.buffer != null && this.buffer.readableBytes() > 0);
   }
 
   /**
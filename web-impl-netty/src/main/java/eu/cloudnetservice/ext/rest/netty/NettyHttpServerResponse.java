@@ -24,6 +24,8 @@
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.HttpVersion;
 import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.util.ByteRange;
+import io.netty5.buffer.Buffer;
 import io.netty5.buffer.DefaultBufferAllocators;
 import io.netty5.handler.codec.http.DefaultFullHttpResponse;
 import io.netty5.handler.codec.http.FullHttpResponse;
@@ -33,7 +35,9 @@
 import io.netty5.handler.codec.http.headers.HttpSetCookie;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -52,6 +56,8 @@ final class NettyHttpServerResponse extends NettyHttpMessage implements HttpResp
   private final HttpHeaderMap httpHeaderMap;
   private final NettyHttpServerContext context;
 
+  private Path responseFile;
+  private ByteRange responseFileRange;
   private InputStream responseInputStream;
 
   /**
@@ -164,6 +170,17 @@ public byte[] body() {
     return this.body(text.getBytes(StandardCharsets.UTF_8));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull OutputStream bodyOutputStream() {
+    // a response can only have one body source
+    this.body((InputStream) null);
+    this.httpResponse.payload().resetOffsets();
+    return new PayloadOutputStream(this.httpResponse.payload());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -184,16 +201,48 @@ public InputStream bodyStream() {
       }
     }
 
+    this.responseFile = null;
+    this.responseFileRange = null;
     this.responseInputStream = body;
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable Path bodyFile() {
+    return this.responseFile;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable ByteRange bodyFileRange() {
+    return this.responseFileRange;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpResponse bodyFile(@Nullable Path file, @Nullable ByteRange range) {
+    // a response can only have one body source
+    this.body((InputStream) null);
+    this.responseFile = file;
+    this.responseFileRange = file == null ? null : range;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public boolean hasBody() {
-    return this.httpResponse.payload().readableBytes() > 0 || this.responseInputStream != null;
+    return this.httpResponse.payload().readableBytes() > 0
+      || this.responseInputStream != null
+      || this.responseFile != null;
   }
 
   /**
@@ -303,4 +352,43 @@ public boolean hasCookie(@NonNull String name) {
       cookie.secure(),
       cookie.httpOnly());
   }
+
+  /**
+   * An output stream which writes directly into the payload buffer of a response, growing the buffer when needed.
+   *
+   * @since 1.0
+   */
+  private static final class PayloadOutputStream extends OutputStream {
+
+    private final Buffer payload;
+
+    /**
+     * Constructs a new payload output stream instance.
+     *
+     * @param payload the payload buffer to write to.
+     * @throws NullPointerException if the given payload buffer is null.
+     */
+    public PayloadOutputStream(@NonNull Buffer payload) {
+      this.payload = payload;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(int b) {
+      this.payload.ensureWritable(1);
+      this.payload.writeByte((byte) b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] b, int off, int len) {
+      Objects.checkFromIndexSize(off, len, b.length);
+      this.payload.ensureWritable(len);
+      this.payload.writeBytes(b, off, len);
+    }
+  }
 }
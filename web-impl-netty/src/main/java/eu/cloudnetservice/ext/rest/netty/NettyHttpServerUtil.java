@@ -22,6 +22,8 @@
 import io.netty5.handler.codec.http.HttpHeaderValues;
 import io.netty5.handler.codec.http.HttpResponseStatus;
 import io.netty5.handler.codec.http.HttpVersion;
+import io.netty5.handler.codec.http.headers.HttpHeaders;
+import java.util.function.Consumer;
 import lombok.NonNull;
 
 final class NettyHttpServerUtil {
@@ -31,7 +33,17 @@ private NettyHttpServerUtil() {
   }
 
   public static void sendResponseAndClose(@NonNull ChannelOutboundInvoker channel, @NonNull HttpResponseStatus status) {
+    sendResponseAndClose(channel, status, headers -> {
+    });
+  }
+
+  public static void sendResponseAndClose(
+    @NonNull ChannelOutboundInvoker channel,
+    @NonNull HttpResponseStatus status,
+    @NonNull Consumer<HttpHeaders> headersModifier
+  ) {
     var response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, status);
+    headersModifier.accept(response.headers());
     response.headers()
       .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE)
       .set(HttpHeaderNames.CONTENT_LENGTH, HttpHeaderValues.ZERO);
@@ -17,16 +17,47 @@
 package eu.cloudnetservice.ext.rest.netty;
 
 import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.codec.http.FullHttpRequest;
 import io.netty5.handler.codec.http.HttpContent;
 import io.netty5.handler.codec.http.HttpObjectAggregator;
 import io.netty5.handler.codec.http.HttpRequest;
 import io.netty5.handler.codec.http.HttpResponseStatus;
+import io.netty5.handler.codec.http.LastHttpContent;
+import java.util.function.Predicate;
 import lombok.NonNull;
 
 final class NettyOversizedClosingHttpAggregator<C extends HttpContent<C>> extends HttpObjectAggregator<C> {
 
-  public NettyOversizedClosingHttpAggregator(int maxContentLength) {
+  private final Predicate<HttpRequest> streamingRequestFilter;
+  private boolean passingThroughStreamedRequest;
+
+  public NettyOversizedClosingHttpAggregator(
+    int maxContentLength,
+    @NonNull Predicate<HttpRequest> streamingRequestFilter
+  ) {
     super(maxContentLength);
+    this.streamingRequestFilter = streamingRequestFilter;
+  }
+
+  @Override
+  public boolean acceptInboundMessage(@NonNull Object msg) throws Exception {
+    // pass the content of a streamed request through to the next handler until the request is complete
+    if (this.passingThroughStreamedRequest && msg instanceof HttpContent<?>) {
+      if (msg instanceof LastHttpContent<?>) {
+        this.passingThroughStreamedRequest = false;
+      }
+      return false;
+    }
+
+    // requests whose body is streamed to the handler are not aggregated, their size is limited by the body stream
+    if (msg instanceof HttpRequest request
+      && !(msg instanceof FullHttpRequest)
+      && this.streamingRequestFilter.test(request)) {
+      this.passingThroughStreamedRequest = true;
+      return false;
+    }
+
+    return super.acceptInboundMessage(msg);
   }
 
   @Override
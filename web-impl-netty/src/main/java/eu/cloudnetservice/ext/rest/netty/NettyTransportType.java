@@ -30,6 +30,9 @@
 import io.netty5.channel.kqueue.KQueueServerSocketChannel;
 import io.netty5.channel.nio.NioIoHandler;
 import io.netty5.channel.socket.nio.NioServerSocketChannel;
+import io.netty5.channel.uring.IoUring;
+import io.netty5.channel.uring.IoUringIoHandler;
+import io.netty5.channel.uring.IoUringServerSocketChannel;
 import java.util.function.Supplier;
 import lombok.NonNull;
 
@@ -40,6 +43,13 @@
  */
 enum NettyTransportType {
 
+  IO_URING(
+    "io_uring",
+    IoUring.isAvailable(),
+    true,
+    IoUringIoHandler::newFactory,
+    IoUringServerSocketChannel::new
+  ),
   EPOLL(
     "epoll",
     Epoll.isAvailable(),
@@ -94,19 +104,25 @@ enum NettyTransportType {
 
   /**
    * Selects and returns the first available transport. If this method should not return native transports, it currently
-   * only returns nio.
+   * only returns nio. Io_uring is preferred over the other transports if it is available and not disabled.
    *
-   * @param noNative if no native transport should get included into the selection.
+   * @param noNative  if no native transport should get included into the selection.
+   * @param noIoUring if the io_uring transport should not get included into the selection.
    * @return the first available transport.
    * @throws IllegalStateException if no transport is available, should normally never happen.
    */
-  public static @NonNull NettyTransportType availableTransport(boolean noNative) {
+  public static @NonNull NettyTransportType availableTransport(boolean noNative, boolean noIoUring) {
     for (var transport : values()) {
       // ignore native transports if no-native is selected
       if (noNative && transport.nativeTransport()) {
         continue;
       }
 
+      // ignore io_uring if it was explicitly disabled
+      if (noIoUring && transport == IO_URING) {
+        continue;
+      }
+
       // use the first available transport
       if (transport.available) {
         return transport;
@@ -146,6 +162,16 @@ public boolean nativeTransport() {
     return this.nativeTransport;
   }
 
+  /**
+   * Gets if this transport can bind multiple server sockets to the same address using {@code SO_REUSEPORT}, with the
+   * kernel distributing incoming connections between them. This is only the case for the linux native transports.
+   *
+   * @return if this transport can distribute connections between multiple server sockets bound to the same address.
+   */
+  public boolean supportsReusePort() {
+    return this == IO_URING || this == EPOLL;
+  }
+
   /**
    * Gets the factory for server channels of this transport.
    *
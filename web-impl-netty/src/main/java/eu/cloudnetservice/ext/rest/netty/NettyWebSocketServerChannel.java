@@ -17,7 +17,9 @@
 package eu.cloudnetservice.ext.rest.netty;
 
 import eu.cloudnetservice.ext.rest.api.HttpChannel;
+import eu.cloudnetservice.ext.rest.api.config.WebSocketConfig;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketChannel;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameBatching;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameType;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketListener;
 import io.netty5.buffer.DefaultBufferAllocators;
@@ -28,11 +30,19 @@
 import io.netty5.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty5.handler.codec.http.websocketx.PongWebSocketFrame;
 import io.netty5.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty5.util.concurrent.Future;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -44,21 +54,41 @@
  */
 final class NettyWebSocketServerChannel implements WebSocketChannel {
 
+  private static final int SLOW_CONSUMER_CLOSE_STATUS = 1008;
+  private static final String SLOW_CONSUMER_CLOSE_REASON = "slow consumer";
+
   private final Collection<WebSocketListener> webSocketListeners = ConcurrentHashMap.newKeySet();
 
   private final Channel channel;
   private final HttpChannel httpChannel;
+  private final WebSocketConfig webSocketConfig;
+
+  // the pending and batched frames are only accessed from the event loop of the channel
+  private final AtomicLong queuedBytes = new AtomicLong();
+  private final Deque<PendingFrame> pendingFrames = new ArrayDeque<>();
+  private final List<PendingFrame> batchedFrames = new ArrayList<>();
+  private boolean slowConsumerDisconnected;
+  private int batchedBytes;
+  private Future<Void> scheduledBatchFlush;
+
+  private volatile WebSocketFrameBatching frameBatching;
 
   /**
    * Constructs a new netty web socket channel instance.
    *
-   * @param httpChannel the original channel the upgrade request came from.
-   * @param channel     the unwrapped netty channel.
-   * @throws NullPointerException if either the given http or netty channel is null.
+   * @param httpChannel     the original channel the upgrade request came from.
+   * @param channel         the unwrapped netty channel.
+   * @param webSocketConfig the configuration of the outbound limits for the channel.
+   * @throws NullPointerException if either the given http or netty channel or the config is null.
    */
-  public NettyWebSocketServerChannel(@NonNull HttpChannel httpChannel, @NonNull Channel channel) {
+  public NettyWebSocketServerChannel(
+    @NonNull HttpChannel httpChannel,
+    @NonNull Channel channel,
+    @NonNull WebSocketConfig webSocketConfig
+  ) {
     this.httpChannel = httpChannel;
     this.channel = channel;
+    this.webSocketConfig = webSocketConfig;
   }
 
   /**
@@ -118,18 +148,303 @@ public NettyWebSocketServerChannel(@NonNull HttpChannel httpChannel, @NonNull Ch
    */
   @Override
   public @NonNull WebSocketChannel sendWebSocketFrame(@NonNull WebSocketFrameType webSocketFrameType, byte[] bytes) {
-    var binaryData = DefaultBufferAllocators.offHeapAllocator().copyOf(bytes);
-    var webSocketFrame = switch (webSocketFrameType) {
+    var executor = this.channel.executor();
+    if (executor.inEventLoop()) {
+      this.submitFrame(webSocketFrameType, bytes);
+    } else {
+      executor.execute(() -> this.submitFrame(webSocketFrameType, bytes));
+    }
+
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull WebSocketChannel batchFrames(@Nullable WebSocketFrameBatching batching) {
+    // the batching must be changed in order with the submitted frames, else frames that were submitted before the
+    // change but are not yet processed by the event loop would be written based on the new batching options
+    var executor = this.channel.executor();
+    if (executor.inEventLoop()) {
+      this.updateFrameBatching(batching);
+    } else {
+      executor.execute(() -> this.updateFrameBatching(batching));
+    }
+
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long queuedBytes() {
+    return this.queuedBytes.get();
+  }
+
+  /**
+   * Writes all frames that were held back while the channel was not writable, until the channel becomes unwritable
+   * again. This method must be called from the event loop of the channel.
+   */
+  void writePendingFrames() {
+    var wroteFrames = false;
+    while (this.channel.isWritable()) {
+      var pendingFrame = this.pendingFrames.poll();
+      if (pendingFrame == null) {
+        break;
+      }
+
+      // the bytes of pending frames are already accounted for
+      this.writeFrame(pendingFrame.type(), pendingFrame.content(), false);
+      wroteFrames = true;
+    }
+
+    if (wroteFrames) {
+      this.channel.flush();
+    }
+  }
+
+  /**
+   * Drops all frames that were batched or held back while the channel was not writable, for example because the channel
+   * became inactive. This method must be called from the event loop of the channel.
+   */
+  void discardQueuedFrames() {
+    if (this.scheduledBatchFlush != null) {
+      this.scheduledBatchFlush.cancel();
+      this.scheduledBatchFlush = null;
+    }
+
+    this.queuedBytes.addAndGet(-this.batchedBytes);
+    this.batchedFrames.clear();
+    this.batchedBytes = 0;
+
+    this.dropPendingFrames();
+  }
+
+  /**
+   * Drops all frames that were held back while the channel was not writable. This method must be called from the event
+   * loop of the channel.
+   */
+  private void dropPendingFrames() {
+    PendingFrame pendingFrame;
+    while ((pendingFrame = this.pendingFrames.poll()) != null) {
+      this.queuedBytes.addAndGet(-pendingFrame.content().length);
+    }
+  }
+
+  /**
+   * Sets the batching options for the frames that are submitted after this call. If batching gets disabled, the frames
+   * that were batched until now are written out. This method must be called from the event loop of the channel.
+   *
+   * @param batching the new batching options, null to disable batching.
+   */
+  private void updateFrameBatching(@Nullable WebSocketFrameBatching batching) {
+    var previousBatching = this.frameBatching;
+    this.frameBatching = batching;
+    if (batching == null && previousBatching != null) {
+      // write out the frames that were batched before disabling the batching, merging them as they were batched
+      this.flushBatchedFrames(previousBatching);
+    }
+  }
+
+  /**
+   * Sends the given frame into the channel. Control frames are always written and flushed directly, data frames are
+   * either added to the current batch if batching is enabled or enqueued for writing directly. This method must be
+   * called from the event loop of the channel.
+   *
+   * @param type    the type of frame to send.
+   * @param content the content of the frame to send.
+   * @throws NullPointerException if the given type is null.
+   */
+  private void submitFrame(@NonNull WebSocketFrameType type, byte[] content) {
+    if (this.slowConsumerDisconnected || !this.channel.isActive()) {
+      return;
+    }
+
+    // control frames are small and must not be held back behind data frames
+    if (type == WebSocketFrameType.PING || type == WebSocketFrameType.PONG) {
+      this.writeFrame(type, content, true);
+      this.channel.flush();
+      return;
+    }
+
+    var batching = this.frameBatching;
+    if (batching == null) {
+      if (this.enqueueFrame(type, content)) {
+        this.channel.flush();
+      }
+      return;
+    }
+
+    // the batched bytes are accounted as queued until the batch gets flushed
+    this.batchedFrames.add(new PendingFrame(type, content));
+    this.batchedBytes += content.length;
+    this.queuedBytes.addAndGet(content.length);
+    if (this.batchedBytes >= batching.maxBatchBytes()) {
+      this.flushBatchedFrames(batching);
+    } else if (this.scheduledBatchFlush == null) {
+      this.scheduledBatchFlush = this.channel.executor().schedule(
+        () -> this.flushBatchedFrames(this.frameBatching),
+        batching.flushInterval().toNanos(),
+        TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Enqueues all currently batched frames for writing and flushes the channel once. Consecutive text frames are merged
+   * into one frame if requested by the given batching options. This method must be called from the event loop of the
+   * channel.
+   *
+   * @param batching the batching options the frames were batched with, null if the frames should not be merged.
+   */
+  private void flushBatchedFrames(@Nullable WebSocketFrameBatching batching) {
+    if (this.scheduledBatchFlush != null) {
+      this.scheduledBatchFlush.cancel();
+      this.scheduledBatchFlush = null;
+    }
+
+    if (this.batchedFrames.isEmpty()) {
+      return;
+    }
+
+    var delimiter = batching == null ? null : batching.textFrameDelimiter();
+    var frames = delimiter == null ? List.copyOf(this.batchedFrames) : mergeTextFrames(this.batchedFrames, delimiter);
+
+    this.queuedBytes.addAndGet(-this.batchedBytes);
+    this.batchedFrames.clear();
+    this.batchedBytes = 0;
+
+    var wroteFrames = false;
+    for (var frame : frames) {
+      if (this.slowConsumerDisconnected) {
+        return;
+      }
+
+      wroteFrames |= this.enqueueFrame(frame.type(), frame.content());
+    }
+
+    if (wroteFrames) {
+      this.channel.flush();
+    }
+  }
+
+  /**
+   * Merges all consecutive text frames in the given frame list into one text frame, joining the content of the frames
+   * using the given delimiter. Binary frames are kept as-is and break a sequence of text frames.
+   *
+   * @param frames    the frames to merge.
+   * @param delimiter the delimiter to join the content of text frames with.
+   * @return the merged frames.
+   * @throws NullPointerException if the given frame list or delimiter is null.
+   */
+  private static @NonNull List<PendingFrame> mergeTextFrames(
+    @NonNull List<PendingFrame> frames,
+    @NonNull String delimiter
+  ) {
+    var delimiterBytes = delimiter.getBytes(StandardCharsets.UTF_8);
+    List<PendingFrame> mergedFrames = new ArrayList<>();
+
+    ByteArrayOutputStream textContent = null;
+    for (var frame : frames) {
+      if (frame.type() != WebSocketFrameType.TEXT) {
+        if (textContent != null) {
+          mergedFrames.add(new PendingFrame(WebSocketFrameType.TEXT, textContent.toByteArray()));
+          textContent = null;
+        }
+
+        mergedFrames.add(frame);
+        continue;
+      }
+
+      if (textContent == null) {
+        textContent = new ByteArrayOutputStream(frame.content().length);
+      } else {
+        textContent.writeBytes(delimiterBytes);
+      }
+
+      textContent.writeBytes(frame.content());
+    }
+
+    if (textContent != null) {
+      mergedFrames.add(new PendingFrame(WebSocketFrameType.TEXT, textContent.toByteArray()));
+    }
+
+    return mergedFrames;
+  }
+
+  /**
+   * Writes the given data frame directly if the channel is writable and no other frames are held back, queues the frame
+   * otherwise. If queueing the frame would exceed the outbound limit of the channel, the configured slow consumer policy
+   * gets applied. This method must be called from the event loop of the channel and does not flush the channel.
+   *
+   * @param type    the type of frame to send.
+   * @param content the content of the frame to send.
+   * @return true if the frame was written into the channel and the channel needs to be flushed, false otherwise.
+   * @throws NullPointerException if the given type is null.
+   */
+  private boolean enqueueFrame(@NonNull WebSocketFrameType type, byte[] content) {
+    if (this.pendingFrames.isEmpty() && this.channel.isWritable()) {
+      this.writeFrame(type, content, true);
+      return true;
+    }
+
+    var maxQueuedBytes = this.webSocketConfig.maxQueuedBytes();
+    if (this.queuedBytes.get() + content.length > maxQueuedBytes) {
+      switch (this.webSocketConfig.slowConsumerPolicy()) {
+        case DISCONNECT -> {
+          this.slowConsumerDisconnected = true;
+          this.discardQueuedFrames();
+          this.close(SLOW_CONSUMER_CLOSE_STATUS, SLOW_CONSUMER_CLOSE_REASON, true);
+          return false;
+        }
+        case COALESCE -> this.dropPendingFrames();
+        default -> {
+          PendingFrame droppedFrame;
+          while (this.queuedBytes.get() + content.length > maxQueuedBytes
+            && (droppedFrame = this.pendingFrames.poll()) != null) {
+            this.queuedBytes.addAndGet(-droppedFrame.content().length);
+          }
+
+          // the frames that are already written into the channel might still use up the limit
+          if (this.queuedBytes.get() + content.length > maxQueuedBytes) {
+            return false;
+          }
+        }
+      }
+    }
+
+    this.queuedBytes.addAndGet(content.length);
+    this.pendingFrames.add(new PendingFrame(type, content));
+    return false;
+  }
+
+  /**
+   * Writes the given frame into the channel without flushing it. The written bytes are removed from the queued bytes
+   * once the write completes.
+   *
+   * @param type         the type of frame to write.
+   * @param content      the content of the frame to write.
+   * @param countContent if the content bytes still need to be added to the queued bytes.
+   * @throws NullPointerException if the given type is null.
+   */
+  private void writeFrame(@NonNull WebSocketFrameType type, byte[] content, boolean countContent) {
+    var binaryData = DefaultBufferAllocators.offHeapAllocator().copyOf(content);
+    var webSocketFrame = switch (type) {
       case PING -> new PingWebSocketFrame(binaryData);
       case PONG -> new PongWebSocketFrame(binaryData);
       case TEXT -> new TextWebSocketFrame(binaryData);
       default -> new BinaryWebSocketFrame(binaryData);
     };
 
+    if (countContent) {
+      this.queuedBytes.addAndGet(content.length);
+    }
+
     this.channel
-      .writeAndFlush(webSocketFrame)
+      .write(webSocketFrame)
+      .addListener(future -> this.queuedBytes.addAndGet(-content.length))
       .addListener(NettyExceptionLogger.LOG_ON_FAILURE);
-    return this;
   }
 
   /**
@@ -145,6 +460,20 @@ public NettyWebSocketServerChannel(@NonNull HttpChannel httpChannel, @NonNull Ch
    */
   @Override
   public void close(int statusCode, @Nullable String reasonText) {
+    this.close(statusCode, reasonText, false);
+  }
+
+  /**
+   * Sends a close frame into this channel and closes the connection, either once the close frame was written or
+   * immediately. An immediate close is used for recipients that stopped reading, as the close frame would be queued
+   * behind the data that was not yet read by the recipient.
+   *
+   * @param statusCode  the status code of the close, must be valid as per RFC-6455.
+   * @param reasonText  the reason text for the close, no text indicates no special reason.
+   * @param immediately if the connection should be closed without waiting for the close frame to be written.
+   * @throws IllegalArgumentException if an invalid status code was provided.
+   */
+  private void close(int statusCode, @Nullable String reasonText, boolean immediately) {
     var statusCodeReference = new AtomicInteger(statusCode);
     var reasonTextReference = new AtomicReference<>(reasonText);
 
@@ -152,12 +481,15 @@ public void close(int statusCode, @Nullable String reasonText) {
       listener.handleClose(this, statusCodeReference, reasonTextReference);
     }
 
-    this.channel
-      .writeAndFlush(new CloseWebSocketFrame(
-        DefaultBufferAllocators.offHeapAllocator(),
-        statusCodeReference.get(),
-        reasonTextReference.get()))
-      .addListener(this.channel, ChannelFutureListeners.CLOSE);
+    var closeFuture = this.channel.writeAndFlush(new CloseWebSocketFrame(
+      DefaultBufferAllocators.offHeapAllocator(),
+      statusCodeReference.get(),
+      reasonTextReference.get()));
+    if (immediately) {
+      this.channel.close();
+    } else {
+      closeFuture.addListener(this.channel, ChannelFutureListeners.CLOSE);
+    }
   }
 
   /**
@@ -167,4 +499,14 @@ public void close(int statusCode, @Nullable String reasonText) {
   public void close() {
     this.close(1000, "goodbye");
   }
+
+  /**
+   * A frame that is held back, either for batching or until the channel becomes writable again.
+   *
+   * @param type    the type of the frame.
+   * @param content the content of the frame.
+   */
+  private record PendingFrame(@NonNull WebSocketFrameType type, byte[] content) {
+
+  }
 }
@@ -66,11 +66,21 @@ public void channelReadComplete(@NonNull ChannelHandlerContext ctx) {
     ctx.flush();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelWritabilityChanged(@NonNull ChannelHandlerContext ctx) {
+    this.webSocketServerChannel.writePendingFrames();
+    ctx.fireChannelWritabilityChanged();
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void channelInactive(@NonNull ChannelHandlerContext ctx) {
+    this.webSocketServerChannel.discardQueuedFrames();
     if (!ctx.channel().isActive() || !ctx.channel().isOpen() || !ctx.channel().isWritable()) {
       ctx.channel().close();
     }
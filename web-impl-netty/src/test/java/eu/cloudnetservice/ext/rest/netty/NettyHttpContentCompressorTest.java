@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import eu.cloudnetservice.ext.rest.api.config.CompressionConfig;
+import io.netty5.channel.embedded.EmbeddedChannel;
+import io.netty5.handler.codec.http.DefaultFullHttpRequest;
+import io.netty5.handler.codec.http.DefaultFullHttpResponse;
+import io.netty5.handler.codec.http.HttpHeaderNames;
+import io.netty5.handler.codec.http.HttpMethod;
+import io.netty5.handler.codec.http.HttpResponse;
+import io.netty5.handler.codec.http.HttpResponseStatus;
+import io.netty5.handler.codec.http.HttpVersion;
+import io.netty5.util.Resource;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NettyHttpContentCompressorTest {
+
+  private static @Nullable CharSequence compressResponse(@Nullable String entityTag) {
+    var channel = new EmbeddedChannel(new NettyHttpContentCompressor(CompressionConfig.builder().build()));
+    var request = new DefaultFullHttpRequest(
+      HttpVersion.HTTP_1_1,
+      HttpMethod.GET,
+      "/",
+      channel.bufferAllocator().allocate(0));
+    request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "deflate");
+    channel.writeInbound(request);
+    Resource.dispose(channel.readInbound());
+
+    var response = new DefaultFullHttpResponse(
+      HttpVersion.HTTP_1_1,
+      HttpResponseStatus.OK,
+      channel.bufferAllocator().copyOf(new byte[4096]));
+    if (entityTag != null) {
+      response.headers().set(HttpHeaderNames.ETAG, entityTag);
+    }
+
+    channel.writeOutbound(response);
+    HttpResponse encodedResponse = channel.readOutbound();
+    var contentEncoding = encodedResponse.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+
+    Resource.dispose(encodedResponse);
+    channel.finishAndReleaseAll();
+    return contentEncoding;
+  }
+
+  @Test
+  void testCompressesResponsesWithoutStrongEntityTag() {
+    Assertions.assertEquals("deflate", String.valueOf(compressResponse(null)));
+    Assertions.assertEquals("deflate", String.valueOf(compressResponse("W/\"abc\"")));
+  }
+
+  @Test
+  void testDoesNotCompressResponsesWithStrongEntityTag() {
+    // the entity tag of a precompressed static resource identifies the exact bytes sent, recompressing would break it
+    Assertions.assertNull(compressResponse("\"abc\""));
+  }
+}
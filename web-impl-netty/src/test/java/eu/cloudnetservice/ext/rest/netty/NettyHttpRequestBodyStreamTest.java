@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import io.netty5.channel.ChannelOption;
+import io.netty5.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NettyHttpRequestBodyStreamTest {
+
+  @Test
+  void testReadsReceivedContentUntilComplete() throws Exception {
+    var channel = new EmbeddedChannel();
+    var stream = new NettyHttpRequestBodyStream(channel, Long.MAX_VALUE);
+    stream.offer(channel.bufferAllocator().copyOf(new byte[]{1, 2, 3}));
+    stream.offer(channel.bufferAllocator().copyOf(new byte[]{4, 5}));
+    stream.complete();
+
+    Assertions.assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, stream.readAllBytes());
+    Assertions.assertEquals(-1, stream.read());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void testPausesReadsAboveHighWatermark() throws Exception {
+    var channel = new EmbeddedChannel();
+    var stream = new NettyHttpRequestBodyStream(channel, Long.MAX_VALUE);
+
+    var chunk = new byte[64 * 1024];
+    var chunks = NettyHttpRequestBodyStream.HIGH_WATERMARK / chunk.length;
+    for (var i = 0; i < chunks; i++) {
+      stream.offer(channel.bufferAllocator().copyOf(chunk));
+    }
+    Assertions.assertFalse(channel.getOption(ChannelOption.AUTO_READ));
+
+    // reading until the queued content is at the low watermark resumes the reads
+    var target = new byte[chunk.length];
+    var bytesToRead = NettyHttpRequestBodyStream.HIGH_WATERMARK - NettyHttpRequestBodyStream.LOW_WATERMARK;
+    for (var read = 0; read < bytesToRead; ) {
+      read += stream.read(target, 0, target.length);
+    }
+    channel.runPendingTasks();
+    Assertions.assertTrue(channel.getOption(ChannelOption.AUTO_READ));
+
+    stream.close();
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void testFailsWhenExceedingMaxContentLength() {
+    var channel = new EmbeddedChannel();
+    var stream = new NettyHttpRequestBodyStream(channel, 4);
+    stream.offer(channel.bufferAllocator().copyOf(new byte[]{1, 2, 3}));
+    stream.offer(channel.bufferAllocator().copyOf(new byte[]{4, 5}));
+
+    var buffer = new byte[8];
+    Assertions.assertThrows(IOException.class, () -> stream.read(buffer, 0, buffer.length));
+    Assertions.assertFalse(channel.isOpen());
+    Assertions.assertEquals(0, stream.available());
+  }
+}
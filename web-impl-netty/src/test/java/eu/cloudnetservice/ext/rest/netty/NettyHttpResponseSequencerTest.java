@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import io.netty5.channel.Channel;
+import io.netty5.channel.EventLoop;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NettyHttpResponseSequencerTest {
+
+  private final List<String> writtenResponses = new ArrayList<>();
+  private final NettyHttpResponseSequencer sequencer = new NettyHttpResponseSequencer(this.mockChannel());
+
+  private Channel mockChannel() {
+    var eventLoop = Mockito.mock(EventLoop.class);
+    Mockito.when(eventLoop.inEventLoop()).thenReturn(true);
+
+    var channel = Mockito.mock(Channel.class);
+    Mockito.when(channel.executor()).thenReturn(eventLoop);
+    Mockito.when(channel.isActive()).thenReturn(true);
+    return channel;
+  }
+
+  @Test
+  void testResponsesAreWrittenInRequestOrder() {
+    var first = this.sequencer.nextSequence();
+    var second = this.sequencer.nextSequence();
+
+    this.sequencer.completeResponse(second, this.writer("second"));
+    Assertions.assertTrue(this.writtenResponses.isEmpty());
+
+    this.sequencer.completeResponse(first, this.writer("first"));
+    Assertions.assertEquals(List.of("first", "second"), this.writtenResponses);
+  }
+
+  @Test
+  void testInterimResponseIsWrittenAfterPreviousResponses() {
+    var first = this.sequencer.nextSequence();
+    var second = this.sequencer.nextSequence();
+
+    this.sequencer.writeInterimResponse(second, this.writer("continue"));
+    Assertions.assertTrue(this.writtenResponses.isEmpty());
+
+    this.sequencer.completeResponse(first, this.writer("first"));
+    Assertions.assertEquals(List.of("first", "continue"), this.writtenResponses);
+
+    this.sequencer.completeResponse(second, this.writer("second"));
+    Assertions.assertEquals(List.of("first", "continue", "second"), this.writtenResponses);
+  }
+
+  @Test
+  void testInterimResponseIsWrittenDirectlyWithoutPreviousResponses() {
+    var sequence = this.sequencer.nextSequence();
+    this.sequencer.writeInterimResponse(sequence, this.writer("continue"));
+    Assertions.assertEquals(List.of("continue"), this.writtenResponses);
+  }
+
+  private Runnable writer(String response) {
+    return () -> this.writtenResponses.add(response);
+  }
+}
@@ -16,13 +16,35 @@
 
 package eu.cloudnetservice.ext.rest.netty;
 
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.config.ComponentConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerInterceptor;
+import eu.cloudnetservice.ext.rest.api.config.SocketConfig;
+import eu.cloudnetservice.ext.rest.api.response.type.FileResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameBatching;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameType;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.net.InetSocketAddress;
+import java.net.ServerSocket;
 import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +79,281 @@ void testRejectsRequestWithBadChar() throws Exception {
     Assertions.assertTrue(lines.contains("connection: close"));
     Assertions.assertNull(reader.readLine()); // server should've closed the connection now
   }
+
+  @Test
+  void testCleartextHttp2Upgrade() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .enableHttp2(true)
+      .executorService(Executors.newSingleThreadExecutor())
+      .build();
+    var server = new NettyHttpServer(config);
+    server.handlerRegistry().registerHandler(
+      "/hello",
+      context -> PlainTextResponse.builder().body("Hello World"),
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.addListener(bindHost).join();
+
+    try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build()) {
+      var uri = URI.create(String.format("http://%s:%d/hello", bindHost.host(), bindHost.port()));
+      for (var i = 0; i < 3; i++) {
+        var response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(HttpClient.Version.HTTP_2, response.version());
+        Assertions.assertEquals("Hello World", response.body());
+      }
+    } finally {
+      server.close();
+    }
+  }
+
+  @Test
+  void testFileResponseTransfersFileContent() throws Exception {
+    var content = new byte[512 * 1024];
+    new Random().nextBytes(content);
+    var file = Files.createTempFile("rest-file-response", ".bin");
+    Files.write(file, content);
+
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder().executorService(Executors.newSingleThreadExecutor()).build();
+    var server = new NettyHttpServer(config);
+    server.handlerRegistry().registerHandler(
+      "/file",
+      context -> FileResponse.builder().body(file),
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.addListener(bindHost).join();
+
+    try (var client = HttpClient.newHttpClient()) {
+      var uri = URI.create(String.format("http://%s:%d/file", bindHost.host(), bindHost.port()));
+      var response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+      Assertions.assertEquals(200, response.statusCode());
+      Assertions.assertEquals(
+        Long.toString(content.length),
+        response.headers().firstValue("content-length").orElseThrow());
+      Assertions.assertArrayEquals(content, response.body());
+    } finally {
+      server.close();
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void testReusePortListenerAcceptsConnections() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .executorService(Executors.newSingleThreadExecutor())
+      .socketConfig(SocketConfig.builder().acceptorThreads(4).reusePort(true).backlog(256).build())
+      .build();
+    var server = new NettyHttpServer(config);
+    server.handlerRegistry().registerHandler(
+      "/ping",
+      context -> PlainTextResponse.builder().body("pong"),
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.addListener(bindHost).join();
+
+    try {
+      var uri = URI.create(String.format("http://%s:%d/ping", bindHost.host(), bindHost.port()));
+      for (var i = 0; i < 16; i++) {
+        // use a new client for each request to open a new connection which might hit another acceptor
+        try (var client = HttpClient.newHttpClient()) {
+          var response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+          Assertions.assertEquals(200, response.statusCode());
+          Assertions.assertEquals("pong", response.body());
+        }
+      }
+    } finally {
+      server.close();
+    }
+  }
+
+  @Test
+  void testFailedListenerBindLeavesNoSocketOpen() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .executorService(Executors.newSingleThreadExecutor())
+      .socketConfig(SocketConfig.builder().acceptorThreads(4).reusePort(true).build())
+      .build();
+    var server = new NettyHttpServer(config);
+
+    try {
+      // the port is taken by a socket without SO_REUSEPORT, binding the listener must fail
+      try (var blocker = new ServerSocket()) {
+        blocker.bind(new InetSocketAddress(bindHost.host(), bindHost.port()));
+        Assertions.assertThrows(CompletionException.class, () -> server.addListener(bindHost).join());
+      }
+
+      // no socket of the failed listener is left open, the port can be bound again
+      try (var socket = new ServerSocket()) {
+        socket.bind(new InetSocketAddress(bindHost.host(), bindHost.port()));
+      }
+    } finally {
+      server.close();
+    }
+  }
+
+  @Test
+  void testBatchedWebSocketTextFramesAreMerged() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder().executorService(Executors.newSingleThreadExecutor()).build();
+    var server = new NettyHttpServer(config);
+    server.handlerRegistry().registerHandler(
+      "/ws",
+      context -> {
+        context.upgrade().thenAccept(channel -> channel
+          .batchFrames(WebSocketFrameBatching.builder().mergeTextFrames("\n").build())
+          .sendWebSocketFrame(WebSocketFrameType.TEXT, "first")
+          .sendWebSocketFrame(WebSocketFrameType.TEXT, "second")
+          .sendWebSocketFrame(WebSocketFrameType.TEXT, "third"));
+        return HttpResponseCode.SWITCHING_PROTOCOLS;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.addListener(bindHost).join();
+
+    try (var client = HttpClient.newHttpClient()) {
+      var receivedText = new CompletableFuture<String>();
+      var uri = URI.create(String.format("ws://%s:%d/ws", bindHost.host(), bindHost.port()));
+      client.newWebSocketBuilder().buildAsync(uri, new WebSocket.Listener() {
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+          receivedText.complete(data.toString());
+          return WebSocket.Listener.super.onText(webSocket, data, last);
+        }
+      }).join();
+
+      Assertions.assertEquals("first\nsecond\nthird", receivedText.get(5, TimeUnit.SECONDS));
+    } finally {
+      server.close();
+    }
+  }
+
+  @Test
+  void testPipelinedResponsesAreWrittenInRequestOrder() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder().executorService(Executors.newFixedThreadPool(2)).build();
+    var server = new NettyHttpServer(config);
+    server.handlerRegistry().registerHandler(
+      "/slow",
+      context -> {
+        Thread.sleep(300);
+        return PlainTextResponse.builder().body("slow-response");
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.handlerRegistry().registerHandler(
+      "/fast",
+      context -> PlainTextResponse.builder().body("fast-response"),
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.addListener(bindHost).join();
+
+    try (var socket = new Socket()) {
+      socket.connect(new InetSocketAddress(bindHost.host(), bindHost.port()));
+
+      // send both requests at once, the fast one completes first but must be answered second
+      var out = socket.getOutputStream();
+      var requests = "GET /slow HTTP/1.1\r\nHost: localhost\r\n\r\n"
+        + "GET /fast HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n";
+      out.write(requests.getBytes(StandardCharsets.US_ASCII));
+      out.flush();
+
+      var responses = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      var slowIndex = responses.indexOf("slow-response");
+      var fastIndex = responses.indexOf("fast-response");
+      Assertions.assertNotEquals(-1, slowIndex);
+      Assertions.assertNotEquals(-1, fastIndex);
+      Assertions.assertTrue(slowIndex < fastIndex);
+    } finally {
+      server.close();
+    }
+  }
+
+  @Test
+  void testPipeliningTooManyRequestsClosesConnection() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder().executorService(Executors.newSingleThreadExecutor()).build();
+    var server = new NettyHttpServer(config);
+    var releaseHandler = new CountDownLatch(1);
+    server.handlerRegistry().registerHandler(
+      "/blocked",
+      context -> {
+        releaseHandler.await();
+        return PlainTextResponse.builder().body("blocked");
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.addListener(bindHost).join();
+
+    try (var socket = new Socket()) {
+      socket.connect(new InetSocketAddress(bindHost.host(), bindHost.port()));
+
+      // none of the requests completes, the request exceeding the pipelining limit must close the connection
+      var request = "GET /blocked HTTP/1.1\r\nHost: localhost\r\n\r\n";
+      var out = socket.getOutputStream();
+      out.write(request.repeat(NettyHttpResponseSequencer.MAX_PENDING_RESPONSES + 1).getBytes(StandardCharsets.US_ASCII));
+      out.flush();
+
+      socket.setSoTimeout(5_000);
+      Assertions.assertEquals(-1, socket.getInputStream().read());
+    } finally {
+      releaseHandler.countDown();
+      server.close();
+    }
+  }
+
+  @Test
+  void testNonBlockingHandlersAreProcessedOnIoThread() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .executorService(Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "rest-dispatch")))
+      .build();
+    var server = new NettyHttpServer(config);
+    server.handlerRegistry().registerHandler(
+      "/inline",
+      context -> PlainTextResponse.builder().body(Thread.currentThread().getName()),
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).nonBlocking(true).build());
+    server.handlerRegistry().registerHandler(
+      "/offloaded",
+      context -> PlainTextResponse.builder().body(Thread.currentThread().getName()),
+      HttpHandlerConfig.builder()
+        .httpMethod(HttpMethod.GET)
+        .nonBlocking(true)
+        .addHandlerInterceptor(new HttpHandlerInterceptor() {
+          @Override
+          public boolean mayBlock() {
+            return true;
+          }
+        })
+        .build());
+    server.addListener(bindHost).join();
+
+    try (var client = HttpClient.newHttpClient()) {
+      var baseUri = String.format("http://%s:%d", bindHost.host(), bindHost.port());
+      var inline = client.send(
+        HttpRequest.newBuilder(URI.create(baseUri + "/inline")).build(),
+        HttpResponse.BodyHandlers.ofString());
+      Assertions.assertEquals(200, inline.statusCode());
+      Assertions.assertNotEquals("rest-dispatch", inline.body());
+
+      var offloaded = client.send(
+        HttpRequest.newBuilder(URI.create(baseUri + "/offloaded")).build(),
+        HttpResponse.BodyHandlers.ofString());
+      Assertions.assertEquals(200, offloaded.statusCode());
+      Assertions.assertEquals("rest-dispatch", offloaded.body());
+    } finally {
+      server.close();
+    }
+  }
+
+  @Test
+  void testCloseShutsDownRequestExecutors() throws Exception {
+    var executor = Executors.newSingleThreadExecutor();
+    var dispatchPool = Executors.newSingleThreadExecutor();
+    var config = ComponentConfig.builder()
+      .executorService(executor)
+      .registerDispatchPool("heavy", dispatchPool)
+      .build();
+    var server = new NettyHttpServer(config);
+    server.addListener(HttpServerTestUtil.resolveFreeHost()).join();
+    server.close();
+
+    Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    Assertions.assertTrue(dispatchPool.awaitTermination(5, TimeUnit.SECONDS));
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.config.ComponentConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import io.netty5.channel.epoll.Epoll;
+import io.netty5.channel.uring.IoUring;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Compares the throughput and latency of small keep-alive requests between the io_uring and the epoll transport. The
+ * benchmark only runs when the {@code REST_TRANSPORT_BENCHMARK} environment variable is set to true, the results are
+ * published as report entries of the test.
+ */
+@EnabledIfEnvironmentVariable(named = "REST_TRANSPORT_BENCHMARK", matches = "true")
+class NettyTransportBenchmarkTest {
+
+  private static final int CONNECTIONS = 32;
+  private static final int WARMUP_REQUESTS_PER_CONNECTION = 500;
+  private static final int REQUESTS_PER_CONNECTION = 5_000;
+
+  @Test
+  void benchmarkIoUringTransport(TestReporter reporter) throws Exception {
+    Assumptions.assumeTrue(IoUring.isAvailable(), "io_uring is not available");
+    this.runBenchmark(reporter, false);
+  }
+
+  @Test
+  void benchmarkEpollTransport(TestReporter reporter) throws Exception {
+    Assumptions.assumeTrue(Epoll.isAvailable(), "epoll is not available");
+    this.runBenchmark(reporter, true);
+  }
+
+  private void runBenchmark(TestReporter reporter, boolean disableIoUring) throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .disableIoUringTransport(disableIoUring)
+      .executorService(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+    var server = new NettyHttpServer(config);
+    server.handlerRegistry().registerHandler(
+      "/ping",
+      context -> PlainTextResponse.builder().body("pong"),
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).nonBlocking(true).build());
+    server.addListener(bindHost).join();
+
+    var uri = URI.create(String.format("http://%s:%d/ping", bindHost.host(), bindHost.port()));
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      this.sendRequests(executor, uri, WARMUP_REQUESTS_PER_CONNECTION);
+
+      var startTime = System.nanoTime();
+      var latencies = this.sendRequests(executor, uri, REQUESTS_PER_CONNECTION);
+      var elapsedNanos = System.nanoTime() - startTime;
+
+      Arrays.sort(latencies);
+      var throughput = latencies.length / (elapsedNanos / 1_000_000_000D);
+      reporter.publishEntry(Map.of(
+        "requests", String.valueOf(latencies.length),
+        "throughput", String.format("%.0f req/s", throughput),
+        "p50", String.format("%.1f us", latencies[(int) (latencies.length * 0.50)] / 1_000D),
+        "p99", String.format("%.1f us", latencies[(int) (latencies.length * 0.99)] / 1_000D)));
+    } finally {
+      server.close();
+    }
+  }
+
+  private long[] sendRequests(ExecutorService executor, URI uri, int requestsPerConnection) throws Exception {
+    List<Future<long[]>> futures = new ArrayList<>();
+    for (var connection = 0; connection < CONNECTIONS; connection++) {
+      futures.add(executor.submit(() -> {
+        var latencies = new long[requestsPerConnection];
+        try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+          var request = HttpRequest.newBuilder(uri).build();
+          for (var i = 0; i < requestsPerConnection; i++) {
+            var requestStart = System.nanoTime();
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies[i] = System.nanoTime() - requestStart;
+            Assertions.assertEquals(200, response.statusCode());
+          }
+        }
+        return latencies;
+      }));
+    }
+
+    var latencies = new long[CONNECTIONS * requestsPerConnection];
+    for (var index = 0; index < futures.size(); index++) {
+      var connectionLatencies = futures.get(index).get();
+      System.arraycopy(connectionLatencies, 0, latencies, index * requestsPerConnection, requestsPerConnection);
+    }
+
+    return latencies;
+  }
+}
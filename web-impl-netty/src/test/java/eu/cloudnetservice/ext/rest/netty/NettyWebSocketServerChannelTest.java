@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import eu.cloudnetservice.ext.rest.api.HttpChannel;
+import eu.cloudnetservice.ext.rest.api.config.WebSocketConfig;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameBatching;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketFrameType;
+import eu.cloudnetservice.ext.rest.api.websocket.WebSocketSlowConsumerPolicy;
+import io.netty5.channel.Channel;
+import io.netty5.channel.EventLoop;
+import io.netty5.handler.codec.http.websocketx.CloseWebSocketFrame;
+import io.netty5.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty5.util.Resource;
+import io.netty5.util.concurrent.ImmediateEventExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+class NettyWebSocketServerChannelTest {
+
+  private final AtomicBoolean writable = new AtomicBoolean();
+  private final AtomicBoolean inEventLoop = new AtomicBoolean(true);
+  private final List<Runnable> eventLoopTasks = new ArrayList<>();
+  private final List<String> writtenTextFrames = new ArrayList<>();
+  private final Channel channel = this.mockChannel();
+
+  private Channel mockChannel() {
+    var eventLoop = Mockito.mock(EventLoop.class);
+    Mockito.when(eventLoop.inEventLoop()).thenAnswer(invocation -> this.inEventLoop.get());
+    Mockito.doAnswer(invocation -> this.eventLoopTasks.add(invocation.getArgument(0)))
+      .when(eventLoop)
+      .execute(ArgumentMatchers.any());
+
+    var channel = Mockito.mock(Channel.class);
+    Mockito.when(channel.executor()).thenReturn(eventLoop);
+    Mockito.when(channel.isActive()).thenReturn(true);
+    Mockito.when(channel.isWritable()).thenAnswer(invocation -> this.writable.get());
+    Mockito.when(channel.write(ArgumentMatchers.any())).thenAnswer(invocation -> {
+      // record the content of the written frame, the write completes immediately
+      try (TextWebSocketFrame frame = invocation.getArgument(0)) {
+        this.writtenTextFrames.add(frame.text());
+      }
+      return ImmediateEventExecutor.INSTANCE.newSucceededFuture(null);
+    });
+    Mockito.when(channel.writeAndFlush(ArgumentMatchers.any())).thenAnswer(invocation -> {
+      Resource.dispose(invocation.getArgument(0));
+      return ImmediateEventExecutor.INSTANCE.newSucceededFuture(null);
+    });
+    return channel;
+  }
+
+  private NettyWebSocketServerChannel newWebSocketChannel(WebSocketSlowConsumerPolicy policy) {
+    var config = WebSocketConfig.builder().maxQueuedBytes(10).slowConsumerPolicy(policy).build();
+    return new NettyWebSocketServerChannel(Mockito.mock(HttpChannel.class), this.channel, config);
+  }
+
+  @Test
+  void testFramesAreHeldBackWhileNotWritable() {
+    var webSocketChannel = this.newWebSocketChannel(WebSocketSlowConsumerPolicy.DISCONNECT);
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "abcd");
+    Assertions.assertEquals(4, webSocketChannel.queuedBytes());
+    Assertions.assertTrue(this.writtenTextFrames.isEmpty());
+
+    this.writable.set(true);
+    webSocketChannel.writePendingFrames();
+    Assertions.assertEquals(List.of("abcd"), this.writtenTextFrames);
+    Assertions.assertEquals(0, webSocketChannel.queuedBytes());
+  }
+
+  @Test
+  void testDisconnectPolicyClosesChannel() {
+    var webSocketChannel = this.newWebSocketChannel(WebSocketSlowConsumerPolicy.DISCONNECT);
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "abcdef");
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "ghijkl");
+
+    Mockito.verify(this.channel).writeAndFlush(ArgumentMatchers.any(CloseWebSocketFrame.class));
+    Mockito.verify(this.channel).close();
+    Assertions.assertEquals(0, webSocketChannel.queuedBytes());
+
+    // frames sent after the disconnect are dropped
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "mn");
+    Assertions.assertEquals(0, webSocketChannel.queuedBytes());
+  }
+
+  @Test
+  void testDropOldestPolicyKeepsRecentFrames() {
+    var webSocketChannel = this.newWebSocketChannel(WebSocketSlowConsumerPolicy.DROP_OLDEST);
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "aaaa");
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "bbbb");
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "cccc");
+    Assertions.assertEquals(8, webSocketChannel.queuedBytes());
+
+    this.writable.set(true);
+    webSocketChannel.writePendingFrames();
+    Assertions.assertEquals(List.of("bbbb", "cccc"), this.writtenTextFrames);
+  }
+
+  @Test
+  void testCoalescePolicyKeepsLatestFrame() {
+    var webSocketChannel = this.newWebSocketChannel(WebSocketSlowConsumerPolicy.COALESCE);
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "aaaa");
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "bbbb");
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "cccc");
+    Assertions.assertEquals(4, webSocketChannel.queuedBytes());
+
+    this.writable.set(true);
+    webSocketChannel.writePendingFrames();
+    Assertions.assertEquals(List.of("cccc"), this.writtenTextFrames);
+  }
+
+  @Test
+  void testDisablingBatchingFlushesMergedFrames() {
+    this.writable.set(true);
+    var webSocketChannel = this.newWebSocketChannel(WebSocketSlowConsumerPolicy.DISCONNECT);
+    webSocketChannel.batchFrames(WebSocketFrameBatching.builder().mergeTextFrames("\n").build());
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "a");
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "b");
+    Assertions.assertTrue(this.writtenTextFrames.isEmpty());
+
+    // the frames batched before disabling the batching are still merged using the previous delimiter
+    webSocketChannel.batchFrames(null);
+    Assertions.assertEquals(List.of("a\nb"), this.writtenTextFrames);
+  }
+
+  @Test
+  void testDisablingBatchingFromOtherThreadKeepsFrameOrder() {
+    this.writable.set(true);
+    var webSocketChannel = this.newWebSocketChannel(WebSocketSlowConsumerPolicy.DISCONNECT);
+    webSocketChannel.batchFrames(WebSocketFrameBatching.builder().mergeTextFrames("\n").build());
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "a");
+
+    // the frame is sent before the batching is disabled, it must still be batched after the first frame
+    this.inEventLoop.set(false);
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "b");
+    webSocketChannel.batchFrames(null);
+    webSocketChannel.sendWebSocketFrame(WebSocketFrameType.TEXT, "c");
+    Assertions.assertTrue(this.writtenTextFrames.isEmpty());
+
+    this.inEventLoop.set(true);
+    this.eventLoopTasks.forEach(Runnable::run);
+    Assertions.assertEquals(List.of("a\nb", "c"), this.writtenTextFrames);
+  }
+}
@@ -20,4 +20,7 @@ dependencies {
   implementation(libs.jjwtApi)
   implementation(libs.jjwtImpl)
   implementation(libs.jjwtGson)
+  implementation(libs.caffeine)
+
+  testImplementation(projects.webApi)
 }
@@ -16,6 +16,12 @@
 
 package eu.cloudnetservice.ext.rest.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.net.HttpHeaders;
 import com.google.gson.JsonSyntaxException;
 import eu.cloudnetservice.ext.rest.api.HttpContext;
@@ -28,19 +34,19 @@
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.KeyPair;
 import java.security.PublicKey;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
 import lombok.NonNull;
@@ -54,15 +60,21 @@ public class JwtAuthProvider implements AuthProvider {
   private static final Duration DEFAULT_ACCESS_TOKEN_EXPIRATION = Duration.ofHours(10);
   private static final Duration DEFAULT_REFRESH_TOKEN_EXPIRATION = Duration.ofDays(14);
 
-  private static final Pattern BEARER_LOGIN_PATTERN = Pattern.compile("Bearer ([a-zA-Z\\d-_.]+)$");
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private static final int VERIFIED_CLAIMS_CACHE_SIZE = 4096;
+  private static final Duration VERIFIED_CLAIMS_CACHE_LIFETIME = Duration.ofMinutes(10);
 
   private final String issuer;
+  private final Clock clock;
   private final Key jwtSigningKey;
 
   private final Duration accessDuration;
   private final Duration refreshDuration;
 
   private final JwtParser jwtParser;
+  private final Cache<HashCode, VerifiedClaims> verifiedClaimsCache;
+  private final JwtTokenIdIndex tokenIdIndex;
 
   public JwtAuthProvider() {
     this(
@@ -88,19 +100,49 @@ public JwtAuthProvider(
     @Nullable Key jwtValidationKey,
     @NonNull Duration accessDuration,
     @NonNull Duration refreshDuration
+  ) {
+    this(
+      issuer,
+      jwtSigningKey,
+      jwtValidationKey,
+      accessDuration,
+      refreshDuration,
+      Clock.systemUTC(),
+      Ticker.systemTicker());
+  }
+
+  JwtAuthProvider(
+    @NonNull String issuer,
+    @NonNull Key jwtSigningKey,
+    @Nullable Key jwtValidationKey,
+    @NonNull Duration accessDuration,
+    @NonNull Duration refreshDuration,
+    @NonNull Clock clock,
+    @NonNull Ticker ticker
   ) {
     this.issuer = issuer;
+    this.clock = clock;
     this.jwtSigningKey = jwtSigningKey;
     this.accessDuration = accessDuration;
     this.refreshDuration = refreshDuration;
+    this.tokenIdIndex = new JwtTokenIdIndex(clock);
+
+    // the claims of a token are immutable, there is no need to verify the signature of a token again once it's verified
+    // the entries expire together with the token, a hit therefore never returns the claims of an expired token
+    this.verifiedClaimsCache = Caffeine.newBuilder()
+      .ticker(ticker)
+      .maximumSize(VERIFIED_CLAIMS_CACHE_SIZE)
+      .expireAfter(Expiry.creating((HashCode $, VerifiedClaims claims) -> this.cacheLifetime(claims)))
+      .build();
 
     // symmetric keys only use one key for signing and validating
     // asymmetric keys need a separate keys: one to sign and one to validate
     var validationKey = Objects.requireNonNullElse(jwtValidationKey, jwtSigningKey);
+    var parserBuilder = Jwts.parser().clock(() -> Date.from(clock.instant())).requireIssuer(issuer);
     if (validationKey instanceof SecretKey validationSecretKey) {
-      this.jwtParser = Jwts.parser().requireIssuer(issuer).verifyWith(validationSecretKey).build();
+      this.jwtParser = parserBuilder.verifyWith(validationSecretKey).build();
     } else if (validationKey instanceof PublicKey validationPublicKey) {
-      this.jwtParser = Jwts.parser().requireIssuer(issuer).verifyWith(validationPublicKey).build();
+      this.jwtParser = parserBuilder.verifyWith(validationPublicKey).build();
     } else {
       throw new IllegalArgumentException("Verify key must either be a SecretKey (for MAC algorithms) or a PublicKey");
     }
@@ -134,45 +176,36 @@ public int priority() {
     }
 
     // check if the authorization header is a bearer token
-    var tokenMatcher = BEARER_LOGIN_PATTERN.matcher(authHeader);
-    if (!tokenMatcher.matches()) {
+    var token = extractBearerToken(authHeader);
+    if (token == null) {
       return AuthenticationResult.Constant.PROCEED;
     }
 
     try {
-      // parse the JWT token - this call throws in case the jwt is invalid in any form
-      var token = this.jwtParser.parseSignedClaims(tokenMatcher.group(1));
+      // verify the JWT token - this call throws in case the jwt is invalid in any form
+      var claims = this.verifyToken(token);
 
       // validate the token subject
-      var subject = token.getPayload().getSubject();
-      var user = management.restUser(UUID.fromString(subject));
+      var user = management.restUser(claims.subject());
       if (user == null) {
         return AuthenticationResult.Constant.USER_NOT_FOUND;
       }
 
       // validate that the id of the token still has access granted
       var tokenPairs = user.properties().get(JWT_TOKEN_PAIR_KEY);
-      var parsedTokens = JwtTokenPropertyParser.parseTokens(tokenPairs);
-      if (this.checkValidTokenId(parsedTokens, token.getPayload().getId())) {
+      if (this.tokenIdIndex.isActive(user.id(), tokenPairs, claims.tokenId())) {
         // the token id is registered for the user - last check we need to do is the token type checking
-        var tokenId = token.getPayload().getId();
-        var tokenType = token.getPayload().get("type", String.class);
-
-        // extract the scopes from the jwt and convert it to a set for the wrapped user
-        @SuppressWarnings("unchecked")
-        var existingScopes = (List<String>) token.getPayload().getOrDefault("scopes", List.of());
-        var scopesCopy = Set.copyOf(existingScopes);
-
         // we wrap the user to ensure that our checking later on always takes the scopes from the jwt into account
-        var scopedUser = new ScopedRestUserDelegate(user, scopesCopy);
+        var scopedUser = new ScopedRestUserDelegate(user, claims.scopes());
         if (!scopedUser.hasOneScopeOf(requiredScopes)) {
           return AuthenticationResult.Constant.MISSING_REQUIRED_SCOPES;
         }
 
+        var tokenType = claims.tokenType();
         if (tokenType != null && tokenType.equals(JwtTokenHolder.ACCESS_TOKEN_TYPE)) {
-          return new AuthenticationResult.Success(scopedUser, tokenId);
+          return new AuthenticationResult.Success(scopedUser, claims.tokenId());
         } else {
-          return new AuthenticationResult.InvalidTokenType(user, scopesCopy, tokenId, tokenType);
+          return new AuthenticationResult.InvalidTokenType(user, claims.scopes(), claims.tokenId(), tokenType);
         }
       } else {
         return AuthenticationResult.Constant.INVALID_CREDENTIALS;
@@ -182,6 +215,63 @@ public int priority() {
     }
   }
 
+  private static @Nullable String extractBearerToken(@NonNull String authHeader) {
+    if (!authHeader.startsWith(BEARER_PREFIX) || authHeader.length() == BEARER_PREFIX.length()) {
+      return null;
+    }
+
+    // the token must only consist of base64url characters and the dots separating the token parts
+    for (var index = BEARER_PREFIX.length(); index < authHeader.length(); index++) {
+      var c = authHeader.charAt(index);
+      if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && (c < '0' || c > '9') && c != '-' && c != '_' && c != '.') {
+        return null;
+      }
+    }
+
+    return authHeader.substring(BEARER_PREFIX.length());
+  }
+
+  @NonNull VerifiedClaims verifyToken(@NonNull String token) {
+    // only the digest of the token is kept as the key, the token itself is a credential
+    var tokenDigest = Hashing.sha256().hashString(token, StandardCharsets.US_ASCII);
+    var cachedClaims = this.verifiedClaimsCache.getIfPresent(tokenDigest);
+    if (cachedClaims != null) {
+      return cachedClaims;
+    }
+
+    // parse the JWT token - this call throws in case the jwt is invalid in any form
+    var payload = this.jwtParser.parseSignedClaims(token).getPayload();
+
+    // extract the scopes from the jwt and convert it to a set for the wrapped user
+    @SuppressWarnings("unchecked")
+    var existingScopes = (List<String>) payload.getOrDefault("scopes", List.of());
+    var claims = new VerifiedClaims(
+      UUID.fromString(payload.getSubject()),
+      payload.getId(),
+      payload.get("type", String.class),
+      Set.copyOf(existingScopes),
+      payload.getExpiration() == null ? null : payload.getExpiration().toInstant());
+
+    // tokens without an expiration are not cached, they would stay valid in the cache until they are evicted
+    if (claims.expiresAt() != null) {
+      this.verifiedClaimsCache.put(tokenDigest, claims);
+    }
+
+    return claims;
+  }
+
+  private @NonNull Duration cacheLifetime(@NonNull VerifiedClaims claims) {
+    // only tokens with an expiration are cached, the claims must not be served once the token expired
+    var remainingLifetime = Duration.between(this.clock.instant(), Objects.requireNonNull(claims.expiresAt()));
+    if (remainingLifetime.isNegative()) {
+      return Duration.ZERO;
+    }
+
+    return remainingLifetime.compareTo(VERIFIED_CLAIMS_CACHE_LIFETIME) < 0
+      ? remainingLifetime
+      : VERIFIED_CLAIMS_CACHE_LIFETIME;
+  }
+
   @Override
   public @NonNull AuthTokenGenerationResult generateAuthToken(
     @NonNull RestUserManagement management,
@@ -215,7 +305,7 @@ public int priority() {
     var parsedStoredTokens = JwtTokenPropertyParser.parseTokens(tokenProperty);
 
     // remove the outdated tokens and register the new ones
-    var currentTime = Instant.now();
+    var currentTime = this.clock.instant();
     var tokens = parsedStoredTokens.stream()
       .filter(holder -> currentTime.isBefore(holder.expiresAt()))
       .collect(Collectors.collectingAndThen(Collectors.toCollection(ArrayList::new), list -> {
@@ -228,6 +318,7 @@ public int priority() {
     var compactedTokens = JwtTokenPropertyParser.compactTokens(tokens);
     var updatedUser = management.builder(restUser).property(JWT_TOKEN_PAIR_KEY, compactedTokens).build();
     management.saveRestUser(updatedUser);
+    this.tokenIdIndex.update(updatedUser.id(), compactedTokens, tokens);
 
     // return the generated token pair
     return new AuthTokenGenerationResult.Success<>(new JwtAuthToken(
@@ -248,11 +339,12 @@ public int priority() {
     @NonNull Set<String> scopes,
     @NonNull Duration validDuration
   ) {
-    var expiration = Instant.now().plus(validDuration);
+    var issuedAt = this.clock.instant();
+    var expiration = issuedAt.plus(validDuration);
     var jwtTokenBuilder = Jwts.builder()
       .issuer(this.issuer)
       .subject(subject.id().toString())
-      .issuedAt(new Date())
+      .issuedAt(Date.from(issuedAt))
       .expiration(Date.from(expiration))
       .id(tokenId)
       .claim("type", tokenType)
@@ -265,10 +357,24 @@ public int priority() {
     return new JwtTokenHolder(jwtTokenBuilder.compact(), tokenId, expiration, tokenType);
   }
 
-  protected boolean checkValidTokenId(@NonNull Collection<JwtTokenHolder> tokens, @NonNull String tokenId) {
-    var currentTime = Instant.now();
-    return tokens.stream()
-      .filter(holder -> currentTime.isBefore(holder.expiresAt()))
-      .anyMatch(holder -> holder.tokenId().equals(tokenId));
+  /**
+   * Removes the indexed token ids of the given user. This should be called when a user is updated or deleted, the index
+   * entry is otherwise only rebuilt once a token of the user is checked again.
+   *
+   * @param userId the id of the user to remove the indexed token ids of.
+   * @throws NullPointerException if the given user id is null.
+   */
+  public void invalidateTokenIds(@NonNull UUID userId) {
+    this.tokenIdIndex.invalidate(userId);
+  }
+
+  record VerifiedClaims(
+    @NonNull UUID subject,
+    String tokenId,
+    @Nullable String tokenType,
+    @NonNull Set<String> scopes,
+    @Nullable Instant expiresAt
+  ) {
+
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An index of the active token ids of rest users. Each entry is bound to the token property value it was built from,
+ * any update to the property of the user (token generation, revocation or an update from elsewhere) results in the
+ * entry being rebuilt on the next lookup. A lookup compares the given property with the one of the entry, which is
+ * usually the same string instance as users are cached by the user management, and then looks up the token id in a
+ * hash map. Entries of users that are updated or deleted should be removed using {@link #invalidate(UUID)}.
+ *
+ * @since 1.0
+ */
+final class JwtTokenIdIndex {
+
+  private static final int MAX_INDEXED_USERS = 4096;
+
+  private final Clock clock;
+  private final Cache<UUID, IndexEntry> entries;
+
+  /**
+   * Constructs a new token id index.
+   *
+   * @param clock the clock to use to check if a token is expired.
+   * @throws NullPointerException if the given clock is null.
+   */
+  public JwtTokenIdIndex(@NonNull Clock clock) {
+    this.clock = clock;
+    this.entries = Caffeine.newBuilder().maximumSize(MAX_INDEXED_USERS).build();
+  }
+
+  /**
+   * Checks if the given token id is registered and not expired in the given token property of the user.
+   *
+   * @param userId        the id of the user owning the token property.
+   * @param tokenProperty the current token property of the user, can be null if the user has no tokens.
+   * @param tokenId       the id of the token to check.
+   * @return true if the token id is registered and not expired, false otherwise.
+   * @throws NullPointerException if the given user id or token id is null.
+   */
+  public boolean isActive(@NonNull UUID userId, @Nullable String tokenProperty, @NonNull String tokenId) {
+    if (tokenProperty == null) {
+      return false;
+    }
+
+    var entry = this.entries.getIfPresent(userId);
+    if (entry == null || !tokenProperty.equals(entry.tokenProperty())) {
+      // the property changed since the entry was built (or there is no entry yet)
+      entry = this.update(userId, tokenProperty, JwtTokenPropertyParser.parseTokens(tokenProperty));
+    }
+
+    var expiresAt = entry.tokenExpirations().get(tokenId);
+    return expiresAt != null && this.clock.instant().isBefore(expiresAt);
+  }
+
+  /**
+   * Replaces the indexed token ids of the given user with the given tokens.
+   *
+   * @param userId        the id of the user owning the tokens.
+   * @param tokenProperty the compacted token property the tokens were parsed from or compacted to.
+   * @param tokens        the tokens that are registered in the given token property.
+   * @return the new index entry of the user.
+   * @throws NullPointerException if the given user id, token property or tokens are null.
+   */
+  public @NonNull IndexEntry update(
+    @NonNull UUID userId,
+    @NonNull String tokenProperty,
+    @NonNull Collection<JwtTokenHolder> tokens
+  ) {
+    Map<String, Instant> tokenExpirations = new HashMap<>(tokens.size(), 1F);
+    for (var token : tokens) {
+      tokenExpirations.merge(token.tokenId(), token.expiresAt(), (left, right) -> left.isAfter(right) ? left : right);
+    }
+
+    var entry = new IndexEntry(tokenProperty, tokenExpirations);
+    this.entries.put(userId, entry);
+    return entry;
+  }
+
+  /**
+   * Removes the indexed token ids of the given user.
+   *
+   * @param userId the id of the user to remove the indexed token ids of.
+   * @throws NullPointerException if the given user id is null.
+   */
+  public void invalidate(@NonNull UUID userId) {
+    this.entries.invalidate(userId);
+  }
+
+  record IndexEntry(@NonNull String tokenProperty, @NonNull Map<String, Instant> tokenExpirations) {
+
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.jwt;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.auth.AuthenticationResult;
+import eu.cloudnetservice.ext.rest.api.auth.RestUser;
+import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.SecretKey;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class JwtAuthProviderTest {
+
+  private static final String ISSUER = "test_issuer";
+  private static final String TOKEN_ID = "token-id";
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final Map<String, String> userProperties = new HashMap<>();
+
+  private Instant now;
+  private SecretKey signingKey;
+  private RestUser user;
+  private RestUserManagement management;
+  private JwtAuthProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    this.now = Instant.now();
+    var clock = Mockito.mock(Clock.class);
+    Mockito.when(clock.instant()).thenAnswer($ -> this.now);
+
+    this.user = Mockito.mock(RestUser.class);
+    Mockito.when(this.user.id()).thenReturn(UUID.randomUUID());
+    Mockito.when(this.user.properties()).thenReturn(this.userProperties);
+
+    this.management = Mockito.mock(RestUserManagement.class);
+    Mockito.when(this.management.restUser(this.user.id())).thenReturn(this.user);
+
+    this.signingKey = Jwts.SIG.HS256.key().build();
+    this.provider = new JwtAuthProvider(
+      ISSUER,
+      this.signingKey,
+      null,
+      Duration.ofHours(1),
+      Duration.ofDays(1),
+      clock,
+      this.nanoTime::get);
+  }
+
+  @Test
+  void testVerifiedClaimsAreCached() {
+    var token = this.newAccessToken(this.now.plus(Duration.ofHours(1)));
+    var claims = this.provider.verifyToken(token);
+    Assertions.assertSame(claims, this.provider.verifyToken(token));
+  }
+
+  @Test
+  void testCachedClaimsExpireWithToken() {
+    var token = this.newAccessToken(this.now.plus(Duration.ofMinutes(1)));
+    this.provider.verifyToken(token);
+
+    // the cached claims must not be returned once the token expired, the token is verified again and rejected
+    this.advance(Duration.ofMinutes(2));
+    Assertions.assertThrows(ExpiredJwtException.class, () -> this.provider.verifyToken(token));
+  }
+
+  @Test
+  void testTokensWithoutExpirationAreNotCached() {
+    var token = this.newAccessToken(null);
+    var claims = this.provider.verifyToken(token);
+    Assertions.assertNotSame(claims, this.provider.verifyToken(token));
+  }
+
+  @Test
+  void testRevokedTokenIsRejectedWhenCached() {
+    var expiration = this.now.plus(Duration.ofHours(1));
+    var token = this.newAccessToken(expiration);
+    var tokenHolder = new JwtTokenHolder("", TOKEN_ID, expiration, JwtTokenHolder.ACCESS_TOKEN_TYPE);
+    var tokenProperty = JwtTokenPropertyParser.compactTokens(List.of(tokenHolder));
+    this.userProperties.put(JwtAuthProvider.JWT_TOKEN_PAIR_KEY, tokenProperty);
+
+    var context = this.newContext(token);
+    var result = this.provider.tryAuthenticate(context, this.management, Set.of());
+    Assertions.assertInstanceOf(AuthenticationResult.Success.class, result);
+
+    // the claims of the token are cached now, the revocation must still apply
+    this.userProperties.remove(JwtAuthProvider.JWT_TOKEN_PAIR_KEY);
+    result = this.provider.tryAuthenticate(context, this.management, Set.of());
+    Assertions.assertEquals(AuthenticationResult.Constant.INVALID_CREDENTIALS, result);
+  }
+
+  private void advance(Duration duration) {
+    this.now = this.now.plus(duration);
+    this.nanoTime.addAndGet(duration.toNanos());
+  }
+
+  private String newAccessToken(@Nullable Instant expiration) {
+    return Jwts.builder()
+      .issuer(ISSUER)
+      .subject(this.user.id().toString())
+      .issuedAt(Date.from(this.now))
+      .expiration(expiration == null ? null : Date.from(expiration))
+      .id(TOKEN_ID)
+      .claim("type", JwtTokenHolder.ACCESS_TOKEN_TYPE)
+      .signWith(this.signingKey)
+      .compact();
+  }
+
+  private HttpContext newContext(String token) {
+    var context = Mockito.mock(HttpContext.class, Mockito.RETURNS_DEEP_STUBS);
+    Mockito.when(context.request().headers().firstValue(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+    return context;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-present CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class JwtTokenIdIndexTest {
+
+  private final UUID userId = UUID.randomUUID();
+
+  private Instant now;
+  private JwtTokenIdIndex index;
+
+  @BeforeEach
+  void setUp() {
+    this.now = Instant.parse("2026-01-01T00:00:00Z");
+    var clock = Mockito.mock(Clock.class);
+    Mockito.when(clock.instant()).thenAnswer($ -> this.now);
+
+    this.index = new JwtTokenIdIndex(clock);
+  }
+
+  @Test
+  void testRegisteredTokenIsActive() {
+    var tokenProperty = this.tokenProperty("first", "second");
+    Assertions.assertTrue(this.index.isActive(this.userId, tokenProperty, "first"));
+    Assertions.assertTrue(this.index.isActive(this.userId, tokenProperty, "second"));
+    Assertions.assertFalse(this.index.isActive(this.userId, tokenProperty, "third"));
+    Assertions.assertFalse(this.index.isActive(this.userId, null, "first"));
+  }
+
+  @Test
+  void testExpiredTokenIsNotActive() {
+    var tokenProperty = this.tokenProperty("first");
+    Assertions.assertTrue(this.index.isActive(this.userId, tokenProperty, "first"));
+
+    this.now = this.now.plus(Duration.ofHours(2));
+    Assertions.assertFalse(this.index.isActive(this.userId, tokenProperty, "first"));
+  }
+
+  @Test
+  void testPropertyChangeRebuildsEntry() {
+    Assertions.assertTrue(this.index.isActive(this.userId, this.tokenProperty("first", "second"), "first"));
+
+    // the first token was revoked, which removed it from the property of the user
+    var changedProperty = this.tokenProperty("second");
+    Assertions.assertFalse(this.index.isActive(this.userId, changedProperty, "first"));
+    Assertions.assertTrue(this.index.isActive(this.userId, changedProperty, "second"));
+  }
+
+  @Test
+  void testInvalidateRebuildsEntry() {
+    // index an entry which does not match the tokens in the property
+    var tokenProperty = this.tokenProperty("first");
+    this.index.update(this.userId, tokenProperty, List.of());
+    Assertions.assertFalse(this.index.isActive(this.userId, tokenProperty, "first"));
+
+    this.index.invalidate(this.userId);
+    Assertions.assertTrue(this.index.isActive(this.userId, tokenProperty, "first"));
+  }
+
+  private String tokenProperty(String... tokenIds) {
+    var expiration = this.now.plus(Duration.ofHours(1));
+    var tokens = Arrays.stream(tokenIds)
+      .map(tokenId -> new JwtTokenHolder("", tokenId, expiration, JwtTokenHolder.ACCESS_TOKEN_TYPE))
+      .toList();
+    return JwtTokenPropertyParser.compactTokens(tokens);
+  }
+}